@@ -0,0 +1,131 @@
+package com.aichatbot.admin.presentation;
+
+import com.aichatbot.global.audit.AuditLogService;
+import com.aichatbot.global.error.ApiException;
+import com.aichatbot.global.observability.TraceGuard;
+import com.aichatbot.global.security.PrincipalUtils;
+import com.aichatbot.global.tenant.TenantContext;
+import com.aichatbot.rag.application.KbIngestionService;
+import com.aichatbot.rag.infrastructure.KbIngestionJobRecord;
+import com.aichatbot.rag.infrastructure.KbIngestionRepository;
+import java.io.InputStream;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/v1/admin/kb")
+public class AdminKbIngestionController {
+
+    private final KbIngestionService kbIngestionService;
+
+    public AdminKbIngestionController(KbIngestionService kbIngestionService) {
+        this.kbIngestionService = kbIngestionService;
+    }
+
+    @PostMapping(
+        value = "/ingestion-jobs",
+        consumes = {MediaType.TEXT_PLAIN_VALUE, MediaType.APPLICATION_OCTET_STREAM_VALUE}
+    )
+    public ResponseEntity<KbIngestionJobCreateResponse> createIngestionJob(
+        @RequestParam(value = "document_id", required = false) String documentId,
+        @RequestParam(value = "title", required = false) String title,
+        @RequestParam(value = "source_type", required = false) String sourceType,
+        @RequestParam(value = "category", required = false) String category,
+        @RequestParam(value = "effective_date", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate effectiveDate,
+        @RequestParam(value = "owner", required = false) String owner,
+        InputStream body
+    ) {
+        UUID tenantId = parseRequiredUuid(TenantContext.getTenantId(), "invalid_tenant_context");
+        UUID existingDocumentId = documentId == null || documentId.isBlank()
+            ? null
+            : parseRequiredUuid(documentId, "invalid_document_id");
+        KbIngestionJobRecord created = kbIngestionService.submit(
+            tenantId,
+            AuditLogService.toUuidOrNull(PrincipalUtils.currentPrincipal().userId()),
+            existingDocumentId,
+            new KbIngestionRepository.DocumentFields(title, sourceType, category, effectiveDate, owner),
+            body
+        );
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(
+            new KbIngestionJobCreateResponse(
+                created.id().toString(),
+                created.documentId().toString(),
+                created.documentVersionId().toString(),
+                created.status(),
+                created.sourceBytes(),
+                TraceGuard.requireTraceId()
+            )
+        );
+    }
+
+    @GetMapping("/ingestion-jobs/{job_id}")
+    public KbIngestionJobStatusResponse getIngestionJob(@PathVariable("job_id") String jobId) {
+        UUID tenantId = parseRequiredUuid(TenantContext.getTenantId(), "invalid_tenant_context");
+        KbIngestionJobRecord job = kbIngestionService.findById(tenantId, parseRequiredUuid(jobId, "invalid_ingestion_job_id"));
+        return new KbIngestionJobStatusResponse(
+            job.id().toString(),
+            job.documentId().toString(),
+            job.documentVersionId().toString(),
+            job.status(),
+            job.sourceBytes(),
+            job.chunkCount(),
+            job.errorCode(),
+            job.errorMessage(),
+            job.createdAt(),
+            job.startedAt(),
+            job.completedAt(),
+            TraceGuard.requireTraceId()
+        );
+    }
+
+    private UUID parseRequiredUuid(String rawValue, String detail) {
+        try {
+            return UUID.fromString(rawValue);
+        } catch (Exception exception) {
+            throw new ApiException(
+                HttpStatus.UNPROCESSABLE_ENTITY,
+                "API-003-422",
+                "UUID format is invalid",
+                List.of(detail)
+            );
+        }
+    }
+
+    public record KbIngestionJobCreateResponse(
+        String jobId,
+        String documentId,
+        String documentVersionId,
+        String status,
+        long sourceBytes,
+        String traceId
+    ) {
+    }
+
+    public record KbIngestionJobStatusResponse(
+        String jobId,
+        String documentId,
+        String documentVersionId,
+        String status,
+        long sourceBytes,
+        int chunkCount,
+        String errorCode,
+        String errorMessage,
+        Instant createdAt,
+        Instant startedAt,
+        Instant completedAt,
+        String traceId
+    ) {
+    }
+}
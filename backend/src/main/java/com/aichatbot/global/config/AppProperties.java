@@ -14,6 +14,8 @@ public class AppProperties {
     private final Auth auth = new Auth();
     private final Idempotency idempotency = new Idempotency();
     private final Llm llm = new Llm();
+    private final Generation generation = new Generation();
+    private final Stream stream = new Stream();
 
     public Jwt getJwt() {
         return jwt;
@@ -51,6 +53,14 @@ public class AppProperties {
         return llm;
     }
 
+    public Generation getGeneration() {
+        return generation;
+    }
+
+    public Stream getStream() {
+        return stream;
+    }
+
     public static class Jwt {
         private String secret;
         private long accessExpirationSec = 3600L;
@@ -107,6 +117,9 @@ public class AppProperties {
 
     public static class Answer {
         private double evidenceThreshold = 0.7d;
+        private boolean cacheEnabled = true;
+        private int cacheMaxEntries = 5000;
+        private long cacheTtlSeconds = 3600L;
 
         public double getEvidenceThreshold() {
             return evidenceThreshold;
@@ -115,11 +128,77 @@ public class AppProperties {
         public void setEvidenceThreshold(double evidenceThreshold) {
             this.evidenceThreshold = evidenceThreshold;
         }
+
+        public boolean isCacheEnabled() {
+            return cacheEnabled;
+        }
+
+        public void setCacheEnabled(boolean cacheEnabled) {
+            this.cacheEnabled = cacheEnabled;
+        }
+
+        public int getCacheMaxEntries() {
+            return cacheMaxEntries;
+        }
+
+        public void setCacheMaxEntries(int cacheMaxEntries) {
+            this.cacheMaxEntries = cacheMaxEntries;
+        }
+
+        public long getCacheTtlSeconds() {
+            return cacheTtlSeconds;
+        }
+
+        public void setCacheTtlSeconds(long cacheTtlSeconds) {
+            this.cacheTtlSeconds = cacheTtlSeconds;
+        }
     }
 
     public static class Rag {
         private int topKDefault = 3;
         private int topKMax = 5;
+        private long indexStampCheckMs = 5000L;
+        private boolean indexSnapshotEnabled = true;
+        private String indexSnapshotDir = System.getProperty("java.io.tmpdir") + "/aichatbot-kb-index";
+        private double bm25K1 = 1.2d;
+        private double bm25B = 0.75d;
+        private int legCandidateK = 100;
+        private int fusionCandidateK = 20;
+        private long legTimeoutMs = 800L;
+        private int legMaxConcurrency = 16;
+        private int legQueueCapacity = 64;
+        private double vectorMinSimilarity = 0.05d;
+        private int localEmbeddingDim = 256;
+        private int hnswThreshold = 20000;
+        private int hnswM = 16;
+        private int hnswEfConstruction = 200;
+        private int hnswEfSearch = 64;
+        private double hnswMaxDeletedRatio = 0.3d;
+        private int enrichmentPageSize = 200;
+        private int enrichmentMaxPages = 50;
+        private String tokenizer = "ngram";
+        private int hangulNgramSize = 2;
+        private java.util.List<String> tokenizerStopwords = java.util.List.of();
+        private int termDictionaryMaxTerms = 1000000;
+        private String rerankMode = "lexical";
+        private long rerankBudgetMs = 150L;
+        private double rerankLexicalWeight = 0.5d;
+        private String rerankEndpointUrl = "http://localhost:8082/rerank";
+        private String rerankModel = "bge-reranker-v2-m3";
+        private int rerankMaxConcurrency = 4;
+        private int rerankQueueCapacity = 32;
+        private boolean resultCacheEnabled = true;
+        private int resultCacheMaxEntries = 10000;
+        private long resultCacheTtlSeconds = 300L;
+        private int chunkTextCacheMaxEntries = 2000;
+        private String ingestionSpoolDir = System.getProperty("java.io.tmpdir") + "/aichatbot-kb-ingestion";
+        private long ingestionMaxBytes = 268435456L;
+        private int ingestionChunkMaxChars = 1200;
+        private int ingestionChunkOverlapChars = 150;
+        private int ingestionBatchSize = 64;
+        private String ingestionNodeId = "local";
+        private long ingestionPendingTtlSeconds = 3600L;
+        private long ingestionRunningStaleSeconds = 900L;
 
         public int getTopKDefault() {
             return topKDefault;
@@ -136,6 +215,342 @@ public class AppProperties {
         public void setTopKMax(int topKMax) {
             this.topKMax = topKMax;
         }
+
+        public long getIndexStampCheckMs() {
+            return indexStampCheckMs;
+        }
+
+        public void setIndexStampCheckMs(long indexStampCheckMs) {
+            this.indexStampCheckMs = indexStampCheckMs;
+        }
+
+        public boolean isIndexSnapshotEnabled() {
+            return indexSnapshotEnabled;
+        }
+
+        public void setIndexSnapshotEnabled(boolean indexSnapshotEnabled) {
+            this.indexSnapshotEnabled = indexSnapshotEnabled;
+        }
+
+        public String getIndexSnapshotDir() {
+            return indexSnapshotDir;
+        }
+
+        public void setIndexSnapshotDir(String indexSnapshotDir) {
+            this.indexSnapshotDir = indexSnapshotDir;
+        }
+
+        public double getBm25K1() {
+            return bm25K1;
+        }
+
+        public void setBm25K1(double bm25K1) {
+            this.bm25K1 = bm25K1;
+        }
+
+        public double getBm25B() {
+            return bm25B;
+        }
+
+        public void setBm25B(double bm25B) {
+            this.bm25B = bm25B;
+        }
+
+        public int getLegCandidateK() {
+            return legCandidateK;
+        }
+
+        public void setLegCandidateK(int legCandidateK) {
+            this.legCandidateK = legCandidateK;
+        }
+
+        public int getFusionCandidateK() {
+            return fusionCandidateK;
+        }
+
+        public void setFusionCandidateK(int fusionCandidateK) {
+            this.fusionCandidateK = fusionCandidateK;
+        }
+
+        public long getLegTimeoutMs() {
+            return legTimeoutMs;
+        }
+
+        public void setLegTimeoutMs(long legTimeoutMs) {
+            this.legTimeoutMs = legTimeoutMs;
+        }
+
+        public int getLegMaxConcurrency() {
+            return legMaxConcurrency;
+        }
+
+        public void setLegMaxConcurrency(int legMaxConcurrency) {
+            this.legMaxConcurrency = legMaxConcurrency;
+        }
+
+        public int getLegQueueCapacity() {
+            return legQueueCapacity;
+        }
+
+        public void setLegQueueCapacity(int legQueueCapacity) {
+            this.legQueueCapacity = legQueueCapacity;
+        }
+
+        public double getVectorMinSimilarity() {
+            return vectorMinSimilarity;
+        }
+
+        public void setVectorMinSimilarity(double vectorMinSimilarity) {
+            this.vectorMinSimilarity = vectorMinSimilarity;
+        }
+
+        public int getLocalEmbeddingDim() {
+            return localEmbeddingDim;
+        }
+
+        public void setLocalEmbeddingDim(int localEmbeddingDim) {
+            this.localEmbeddingDim = localEmbeddingDim;
+        }
+
+        public int getHnswThreshold() {
+            return hnswThreshold;
+        }
+
+        public void setHnswThreshold(int hnswThreshold) {
+            this.hnswThreshold = hnswThreshold;
+        }
+
+        public int getHnswM() {
+            return hnswM;
+        }
+
+        public void setHnswM(int hnswM) {
+            this.hnswM = hnswM;
+        }
+
+        public int getHnswEfConstruction() {
+            return hnswEfConstruction;
+        }
+
+        public void setHnswEfConstruction(int hnswEfConstruction) {
+            this.hnswEfConstruction = hnswEfConstruction;
+        }
+
+        public int getHnswEfSearch() {
+            return hnswEfSearch;
+        }
+
+        public void setHnswEfSearch(int hnswEfSearch) {
+            this.hnswEfSearch = hnswEfSearch;
+        }
+
+        public double getHnswMaxDeletedRatio() {
+            return hnswMaxDeletedRatio;
+        }
+
+        public void setHnswMaxDeletedRatio(double hnswMaxDeletedRatio) {
+            this.hnswMaxDeletedRatio = hnswMaxDeletedRatio;
+        }
+
+        public int getEnrichmentPageSize() {
+            return enrichmentPageSize;
+        }
+
+        public void setEnrichmentPageSize(int enrichmentPageSize) {
+            this.enrichmentPageSize = enrichmentPageSize;
+        }
+
+        public int getEnrichmentMaxPages() {
+            return enrichmentMaxPages;
+        }
+
+        public void setEnrichmentMaxPages(int enrichmentMaxPages) {
+            this.enrichmentMaxPages = enrichmentMaxPages;
+        }
+
+        public String getTokenizer() {
+            return tokenizer;
+        }
+
+        public void setTokenizer(String tokenizer) {
+            this.tokenizer = tokenizer;
+        }
+
+        public int getHangulNgramSize() {
+            return hangulNgramSize;
+        }
+
+        public void setHangulNgramSize(int hangulNgramSize) {
+            this.hangulNgramSize = hangulNgramSize;
+        }
+
+        public java.util.List<String> getTokenizerStopwords() {
+            return tokenizerStopwords;
+        }
+
+        public void setTokenizerStopwords(java.util.List<String> tokenizerStopwords) {
+            this.tokenizerStopwords = tokenizerStopwords == null ? java.util.List.of() : tokenizerStopwords;
+        }
+
+        public int getTermDictionaryMaxTerms() {
+            return termDictionaryMaxTerms;
+        }
+
+        public void setTermDictionaryMaxTerms(int termDictionaryMaxTerms) {
+            this.termDictionaryMaxTerms = termDictionaryMaxTerms;
+        }
+
+        public String getRerankMode() {
+            return rerankMode;
+        }
+
+        public void setRerankMode(String rerankMode) {
+            this.rerankMode = rerankMode;
+        }
+
+        public long getRerankBudgetMs() {
+            return rerankBudgetMs;
+        }
+
+        public void setRerankBudgetMs(long rerankBudgetMs) {
+            this.rerankBudgetMs = rerankBudgetMs;
+        }
+
+        public double getRerankLexicalWeight() {
+            return rerankLexicalWeight;
+        }
+
+        public void setRerankLexicalWeight(double rerankLexicalWeight) {
+            this.rerankLexicalWeight = rerankLexicalWeight;
+        }
+
+        public String getRerankEndpointUrl() {
+            return rerankEndpointUrl;
+        }
+
+        public void setRerankEndpointUrl(String rerankEndpointUrl) {
+            this.rerankEndpointUrl = rerankEndpointUrl;
+        }
+
+        public String getRerankModel() {
+            return rerankModel;
+        }
+
+        public void setRerankModel(String rerankModel) {
+            this.rerankModel = rerankModel;
+        }
+
+        public int getRerankMaxConcurrency() {
+            return rerankMaxConcurrency;
+        }
+
+        public void setRerankMaxConcurrency(int rerankMaxConcurrency) {
+            this.rerankMaxConcurrency = rerankMaxConcurrency;
+        }
+
+        public int getRerankQueueCapacity() {
+            return rerankQueueCapacity;
+        }
+
+        public void setRerankQueueCapacity(int rerankQueueCapacity) {
+            this.rerankQueueCapacity = rerankQueueCapacity;
+        }
+
+        public boolean isResultCacheEnabled() {
+            return resultCacheEnabled;
+        }
+
+        public void setResultCacheEnabled(boolean resultCacheEnabled) {
+            this.resultCacheEnabled = resultCacheEnabled;
+        }
+
+        public int getResultCacheMaxEntries() {
+            return resultCacheMaxEntries;
+        }
+
+        public void setResultCacheMaxEntries(int resultCacheMaxEntries) {
+            this.resultCacheMaxEntries = resultCacheMaxEntries;
+        }
+
+        public long getResultCacheTtlSeconds() {
+            return resultCacheTtlSeconds;
+        }
+
+        public void setResultCacheTtlSeconds(long resultCacheTtlSeconds) {
+            this.resultCacheTtlSeconds = resultCacheTtlSeconds;
+        }
+
+        public int getChunkTextCacheMaxEntries() {
+            return chunkTextCacheMaxEntries;
+        }
+
+        public void setChunkTextCacheMaxEntries(int chunkTextCacheMaxEntries) {
+            this.chunkTextCacheMaxEntries = chunkTextCacheMaxEntries;
+        }
+
+        public String getIngestionSpoolDir() {
+            return ingestionSpoolDir;
+        }
+
+        public void setIngestionSpoolDir(String ingestionSpoolDir) {
+            this.ingestionSpoolDir = ingestionSpoolDir;
+        }
+
+        public long getIngestionMaxBytes() {
+            return ingestionMaxBytes;
+        }
+
+        public void setIngestionMaxBytes(long ingestionMaxBytes) {
+            this.ingestionMaxBytes = ingestionMaxBytes;
+        }
+
+        public int getIngestionChunkMaxChars() {
+            return ingestionChunkMaxChars;
+        }
+
+        public void setIngestionChunkMaxChars(int ingestionChunkMaxChars) {
+            this.ingestionChunkMaxChars = ingestionChunkMaxChars;
+        }
+
+        public int getIngestionChunkOverlapChars() {
+            return ingestionChunkOverlapChars;
+        }
+
+        public void setIngestionChunkOverlapChars(int ingestionChunkOverlapChars) {
+            this.ingestionChunkOverlapChars = ingestionChunkOverlapChars;
+        }
+
+        public int getIngestionBatchSize() {
+            return ingestionBatchSize;
+        }
+
+        public void setIngestionBatchSize(int ingestionBatchSize) {
+            this.ingestionBatchSize = ingestionBatchSize;
+        }
+
+        public String getIngestionNodeId() {
+            return ingestionNodeId;
+        }
+
+        public void setIngestionNodeId(String ingestionNodeId) {
+            this.ingestionNodeId = ingestionNodeId;
+        }
+
+        public long getIngestionPendingTtlSeconds() {
+            return ingestionPendingTtlSeconds;
+        }
+
+        public void setIngestionPendingTtlSeconds(long ingestionPendingTtlSeconds) {
+            this.ingestionPendingTtlSeconds = ingestionPendingTtlSeconds;
+        }
+
+        public long getIngestionRunningStaleSeconds() {
+            return ingestionRunningStaleSeconds;
+        }
+
+        public void setIngestionRunningStaleSeconds(long ingestionRunningStaleSeconds) {
+            this.ingestionRunningStaleSeconds = ingestionRunningStaleSeconds;
+        }
     }
 
     public static class Budget {
@@ -391,7 +806,10 @@ public class AppProperties {
 
     public static class Llm {
         private String provider = "ollama";
+        private boolean streamingEnabled = false;
+        private int streamPersistBatchSize = 16;
         private final Ollama ollama = new Ollama();
+        private final Embedding embedding = new Embedding();
 
         public String getProvider() {
             return provider;
@@ -401,9 +819,188 @@ public class AppProperties {
             this.provider = provider;
         }
 
+        public boolean isStreamingEnabled() {
+            return streamingEnabled;
+        }
+
+        public void setStreamingEnabled(boolean streamingEnabled) {
+            this.streamingEnabled = streamingEnabled;
+        }
+
+        public int getStreamPersistBatchSize() {
+            return streamPersistBatchSize;
+        }
+
+        public void setStreamPersistBatchSize(int streamPersistBatchSize) {
+            this.streamPersistBatchSize = streamPersistBatchSize;
+        }
+
         public Ollama getOllama() {
             return ollama;
         }
+
+        public Embedding getEmbedding() {
+            return embedding;
+        }
+    }
+
+    public static class Generation {
+        private boolean asyncEnabled = false;
+        private int workerThreads = 8;
+        private int queueCapacity = 200;
+
+        public boolean isAsyncEnabled() {
+            return asyncEnabled;
+        }
+
+        public void setAsyncEnabled(boolean asyncEnabled) {
+            this.asyncEnabled = asyncEnabled;
+        }
+
+        public int getWorkerThreads() {
+            return workerThreads;
+        }
+
+        public void setWorkerThreads(int workerThreads) {
+            this.workerThreads = workerThreads;
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+    }
+
+    public static class Stream {
+        private String relay = "local";
+        private String redisChannelPrefix = "stream:events:";
+        private int writeBufferCapacity = 512;
+        private int writeFlushThreads = 2;
+        private int maxConcurrentStreams = 2000;
+        private int deliveryThreads = 4;
+        private int subscriberQueueCapacity = 256;
+        private int liveBacklogMax = 1024;
+        private long heartbeatIntervalMs = 15000L;
+        private long sseTimeoutMs = 60000L;
+        private String sseGuard = "local";
+        private long sseLeaseTtlSeconds = 45L;
+        private long sseLeaseRefreshIntervalMs = 15000L;
+        private String sseGuardRedisKeyPrefix = "sse:lease:";
+
+        public String getRelay() {
+            return relay;
+        }
+
+        public void setRelay(String relay) {
+            this.relay = relay;
+        }
+
+        public String getRedisChannelPrefix() {
+            return redisChannelPrefix;
+        }
+
+        public void setRedisChannelPrefix(String redisChannelPrefix) {
+            this.redisChannelPrefix = redisChannelPrefix;
+        }
+
+        public int getWriteBufferCapacity() {
+            return writeBufferCapacity;
+        }
+
+        public void setWriteBufferCapacity(int writeBufferCapacity) {
+            this.writeBufferCapacity = writeBufferCapacity;
+        }
+
+        public int getWriteFlushThreads() {
+            return writeFlushThreads;
+        }
+
+        public void setWriteFlushThreads(int writeFlushThreads) {
+            this.writeFlushThreads = writeFlushThreads;
+        }
+
+        public int getMaxConcurrentStreams() {
+            return maxConcurrentStreams;
+        }
+
+        public void setMaxConcurrentStreams(int maxConcurrentStreams) {
+            this.maxConcurrentStreams = maxConcurrentStreams;
+        }
+
+        public int getDeliveryThreads() {
+            return deliveryThreads;
+        }
+
+        public void setDeliveryThreads(int deliveryThreads) {
+            this.deliveryThreads = deliveryThreads;
+        }
+
+        public int getSubscriberQueueCapacity() {
+            return subscriberQueueCapacity;
+        }
+
+        public void setSubscriberQueueCapacity(int subscriberQueueCapacity) {
+            this.subscriberQueueCapacity = subscriberQueueCapacity;
+        }
+
+        public int getLiveBacklogMax() {
+            return liveBacklogMax;
+        }
+
+        public void setLiveBacklogMax(int liveBacklogMax) {
+            this.liveBacklogMax = liveBacklogMax;
+        }
+
+        public long getHeartbeatIntervalMs() {
+            return heartbeatIntervalMs;
+        }
+
+        public void setHeartbeatIntervalMs(long heartbeatIntervalMs) {
+            this.heartbeatIntervalMs = heartbeatIntervalMs;
+        }
+
+        public long getSseTimeoutMs() {
+            return sseTimeoutMs;
+        }
+
+        public void setSseTimeoutMs(long sseTimeoutMs) {
+            this.sseTimeoutMs = sseTimeoutMs;
+        }
+
+        public String getSseGuard() {
+            return sseGuard;
+        }
+
+        public void setSseGuard(String sseGuard) {
+            this.sseGuard = sseGuard;
+        }
+
+        public long getSseLeaseTtlSeconds() {
+            return sseLeaseTtlSeconds;
+        }
+
+        public void setSseLeaseTtlSeconds(long sseLeaseTtlSeconds) {
+            this.sseLeaseTtlSeconds = sseLeaseTtlSeconds;
+        }
+
+        public long getSseLeaseRefreshIntervalMs() {
+            return sseLeaseRefreshIntervalMs;
+        }
+
+        public void setSseLeaseRefreshIntervalMs(long sseLeaseRefreshIntervalMs) {
+            this.sseLeaseRefreshIntervalMs = sseLeaseRefreshIntervalMs;
+        }
+
+        public String getSseGuardRedisKeyPrefix() {
+            return sseGuardRedisKeyPrefix;
+        }
+
+        public void setSseGuardRedisKeyPrefix(String sseGuardRedisKeyPrefix) {
+            this.sseGuardRedisKeyPrefix = sseGuardRedisKeyPrefix;
+        }
     }
 
     public static class Idempotency {
@@ -483,4 +1080,70 @@ public class AppProperties {
             this.topP = topP;
         }
     }
+
+    public static class Embedding {
+        private String provider = "local";
+        private String model = "nomic-embed-text";
+        private int maxBatchSize = 32;
+        private long maxWaitMs = 5L;
+        private long timeoutMs = 3000L;
+        private int maxConcurrency = 4;
+        private int cacheMaxEntries = 10000;
+
+        public String getProvider() {
+            return provider;
+        }
+
+        public void setProvider(String provider) {
+            this.provider = provider;
+        }
+
+        public String getModel() {
+            return model;
+        }
+
+        public void setModel(String model) {
+            this.model = model;
+        }
+
+        public int getMaxBatchSize() {
+            return maxBatchSize;
+        }
+
+        public void setMaxBatchSize(int maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+        }
+
+        public long getMaxWaitMs() {
+            return maxWaitMs;
+        }
+
+        public void setMaxWaitMs(long maxWaitMs) {
+            this.maxWaitMs = maxWaitMs;
+        }
+
+        public long getTimeoutMs() {
+            return timeoutMs;
+        }
+
+        public void setTimeoutMs(long timeoutMs) {
+            this.timeoutMs = timeoutMs;
+        }
+
+        public int getMaxConcurrency() {
+            return maxConcurrency;
+        }
+
+        public void setMaxConcurrency(int maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+        }
+
+        public int getCacheMaxEntries() {
+            return cacheMaxEntries;
+        }
+
+        public void setCacheMaxEntries(int cacheMaxEntries) {
+            this.cacheMaxEntries = cacheMaxEntries;
+        }
+    }
 }
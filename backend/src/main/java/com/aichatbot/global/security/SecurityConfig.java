@@ -81,6 +81,8 @@ public class SecurityConfig {
                 .requestMatchers(HttpMethod.GET, "/v1/admin/audit-logs/export-jobs/*").hasRole("OPS")
                 .requestMatchers(HttpMethod.GET, "/v1/admin/audit-logs/export-jobs/*/download").hasRole("OPS")
                 .requestMatchers(HttpMethod.GET, "/v1/admin/audit-logs/chain-verify").hasRole("OPS")
+                .requestMatchers(HttpMethod.POST, "/v1/admin/kb/ingestion-jobs").hasRole("ADMIN")
+                .requestMatchers(HttpMethod.GET, "/v1/admin/kb/ingestion-jobs/*").hasRole("ADMIN")
                 .requestMatchers(HttpMethod.PUT, "/v1/admin/rbac/matrix/*").hasRole("ADMIN")
                 .requestMatchers(HttpMethod.GET, "/v1/admin/rbac/approval-requests").hasRole("ADMIN")
                 .requestMatchers(HttpMethod.POST, "/v1/admin/rbac/approval-requests/*/approve").hasRole("ADMIN")
@@ -0,0 +1,129 @@
+package com.aichatbot.llm.application;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class AnswerTextStreamExtractor {
+
+    private final List<Frame> frames = new ArrayList<>();
+    private final StringBuilder key = new StringBuilder();
+    private final StringBuilder unicode = new StringBuilder();
+    private boolean inString;
+    private boolean stringIsKey;
+    private boolean escaping;
+    private boolean unicodeEscape;
+
+    public String feed(String fragment) {
+        if (fragment == null || fragment.isEmpty()) {
+            return "";
+        }
+        StringBuilder delta = new StringBuilder();
+        for (int i = 0; i < fragment.length(); i++) {
+            char current = fragment.charAt(i);
+            if (inString) {
+                readStringChar(current, delta);
+            } else {
+                readStructureChar(current);
+            }
+        }
+        return delta.toString();
+    }
+
+    private void readStructureChar(char current) {
+        Frame top = frames.isEmpty() ? null : frames.get(frames.size() - 1);
+        switch (current) {
+            case '{' -> frames.add(new Frame(true));
+            case '[' -> frames.add(new Frame(false));
+            case '}', ']' -> {
+                if (top != null) {
+                    frames.remove(frames.size() - 1);
+                }
+            }
+            case ',' -> {
+                if (top != null && top.object) {
+                    top.expectKey = true;
+                }
+            }
+            case ':' -> {
+                if (top != null) {
+                    top.expectKey = false;
+                }
+            }
+            case '"' -> {
+                inString = true;
+                stringIsKey = top != null && top.object && top.expectKey;
+                key.setLength(0);
+            }
+            default -> {
+            }
+        }
+    }
+
+    private void readStringChar(char current, StringBuilder delta) {
+        if (unicodeEscape) {
+            unicode.append(current);
+            if (unicode.length() == 4) {
+                unicodeEscape = false;
+                try {
+                    appendStringChar((char) Integer.parseInt(unicode.toString(), 16), delta);
+                } catch (NumberFormatException ignored) {
+                    // 잘못된 escape는 payload 전체를 거부하는 계약 검증기에 맡긴다.
+                }
+                unicode.setLength(0);
+            }
+            return;
+        }
+        if (escaping) {
+            escaping = false;
+            switch (current) {
+                case 'n' -> appendStringChar('\n', delta);
+                case 't' -> appendStringChar('\t', delta);
+                case 'r' -> appendStringChar('\r', delta);
+                case 'b' -> appendStringChar('\b', delta);
+                case 'f' -> appendStringChar('\f', delta);
+                case 'u' -> unicodeEscape = true;
+                default -> appendStringChar(current, delta);
+            }
+            return;
+        }
+        if (current == '\\') {
+            escaping = true;
+            return;
+        }
+        if (current == '"') {
+            inString = false;
+            if (stringIsKey && !frames.isEmpty()) {
+                frames.get(frames.size() - 1).key = key.toString();
+            }
+            return;
+        }
+        appendStringChar(current, delta);
+    }
+
+    private void appendStringChar(char current, StringBuilder delta) {
+        if (stringIsKey) {
+            key.append(current);
+        } else if (insideAnswerText()) {
+            delta.append(current);
+        }
+    }
+
+    private boolean insideAnswerText() {
+        return frames.size() == 2
+            && frames.get(0).object
+            && "answer".equals(frames.get(0).key)
+            && frames.get(1).object
+            && "text".equals(frames.get(1).key);
+    }
+
+    private static final class Frame {
+        private final boolean object;
+        private boolean expectKey;
+        private String key;
+
+        private Frame(boolean object) {
+            this.object = object;
+            this.expectKey = object;
+        }
+    }
+}
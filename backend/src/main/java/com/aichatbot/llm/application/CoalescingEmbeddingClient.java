@@ -0,0 +1,277 @@
+package com.aichatbot.llm.application;
+
+import com.aichatbot.global.config.AppProperties;
+import jakarta.annotation.PreDestroy;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+@Component
+@Primary
+public class CoalescingEmbeddingClient implements EmbeddingClient {
+
+    private final HashingEmbeddingClient localClient;
+    private final OllamaEmbeddingClient ollamaClient;
+    private final EmbeddingMetrics embeddingMetrics;
+    private final AppProperties appProperties;
+    private final LinkedHashMap<String, float[]> cache = new LinkedHashMap<>(256, 0.75f, true);
+    private final ConcurrentHashMap<String, CompletableFuture<float[]>> inFlight = new ConcurrentHashMap<>();
+    private final LinkedBlockingQueue<PendingText> pending = new LinkedBlockingQueue<>();
+    private final ThreadPoolExecutor callExecutor;
+    private Thread dispatcher;
+    private volatile boolean running = true;
+
+    public CoalescingEmbeddingClient(
+        HashingEmbeddingClient localClient,
+        OllamaEmbeddingClient ollamaClient,
+        EmbeddingMetrics embeddingMetrics,
+        AppProperties appProperties
+    ) {
+        this.localClient = localClient;
+        this.ollamaClient = ollamaClient;
+        this.embeddingMetrics = embeddingMetrics;
+        this.appProperties = appProperties;
+        int concurrency = Math.max(1, appProperties.getLlm().getEmbedding().getMaxConcurrency());
+        AtomicInteger threadSequence = new AtomicInteger();
+        this.callExecutor = new ThreadPoolExecutor(
+            concurrency,
+            concurrency,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(concurrency),
+            runnable -> {
+                Thread thread = new Thread(runnable, "embedding-call-" + threadSequence.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            // Why: 호출 슬롯이 모두 차면 dispatcher가 직접 배치를 실행해, backend가 따라잡을 때까지 새 배치를 만들지 않는다.
+            new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+    }
+
+    @Override
+    public String modelName() {
+        return delegate().modelName();
+    }
+
+    @Override
+    public boolean remote() {
+        return delegate().remote();
+    }
+
+    @Override
+    public float[] embed(String text) {
+        EmbeddingClient delegate = delegate();
+        String normalized = normalize(text);
+        String cacheKey = delegate.modelName() + '\u0000' + normalized;
+        float[] cached = cacheGet(cacheKey);
+        if (cached != null) {
+            embeddingMetrics.recordCacheHit();
+            return cached.clone();
+        }
+        embeddingMetrics.recordCacheMiss();
+        if (!delegate.remote()) {
+            float[] vector = call(delegate, List.of(normalized)).get(0);
+            cachePut(cacheKey, vector);
+            return vector.clone();
+        }
+
+        CompletableFuture<float[]> future = inFlight.computeIfAbsent(cacheKey, key -> {
+            ensureDispatcher();
+            pending.offer(new PendingText(key, normalized));
+            return new CompletableFuture<>();
+        });
+        try {
+            return future.get(Math.max(1L, appProperties.getLlm().getEmbedding().getTimeoutMs()), TimeUnit.MILLISECONDS)
+                .clone();
+        } catch (TimeoutException exception) {
+            throw new IllegalStateException("embedding_timeout", exception);
+        } catch (ExecutionException exception) {
+            throw new IllegalStateException("embedding_failed", exception.getCause());
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("embedding_interrupted", exception);
+        }
+    }
+
+    @Override
+    public List<float[]> embedAll(List<String> texts) {
+        EmbeddingClient delegate = delegate();
+        int maxBatchSize = Math.max(1, appProperties.getLlm().getEmbedding().getMaxBatchSize());
+        List<float[]> vectors = new ArrayList<>(texts.size());
+        for (int from = 0; from < texts.size(); from += maxBatchSize) {
+            vectors.addAll(call(delegate, texts.subList(from, Math.min(texts.size(), from + maxBatchSize))));
+        }
+        return vectors;
+    }
+
+    public int cacheSize() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        synchronized (this) {
+            if (dispatcher != null) {
+                dispatcher.interrupt();
+            }
+        }
+        callExecutor.shutdownNow();
+    }
+
+    private EmbeddingClient delegate() {
+        String provider = appProperties.getLlm().getEmbedding().getProvider();
+        if (provider != null && "ollama".equals(provider.trim().toLowerCase(Locale.ROOT))) {
+            return ollamaClient;
+        }
+        return localClient;
+    }
+
+    private List<float[]> call(EmbeddingClient delegate, List<String> texts) {
+        long startedAt = System.currentTimeMillis();
+        boolean success = false;
+        try {
+            List<float[]> vectors = delegate.embedAll(texts);
+            success = true;
+            return vectors;
+        } finally {
+            embeddingMetrics.recordCall(delegate.modelName(), texts.size(), System.currentTimeMillis() - startedAt, success);
+        }
+    }
+
+    private synchronized void ensureDispatcher() {
+        if (dispatcher != null || !running) {
+            return;
+        }
+        dispatcher = new Thread(this::dispatchLoop, "embedding-coalescer");
+        dispatcher.setDaemon(true);
+        dispatcher.start();
+    }
+
+    private void dispatchLoop() {
+        while (running) {
+            List<PendingText> batch;
+            try {
+                batch = nextBatch();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            try {
+                callExecutor.execute(() -> complete(batch));
+            } catch (RuntimeException exception) {
+                fail(batch, exception);
+            }
+        }
+    }
+
+    private List<PendingText> nextBatch() throws InterruptedException {
+        AppProperties.Embedding settings = appProperties.getLlm().getEmbedding();
+        int maxBatchSize = Math.max(1, settings.getMaxBatchSize());
+        List<PendingText> batch = new ArrayList<>(maxBatchSize);
+        batch.add(pending.take());
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Math.max(0L, settings.getMaxWaitMs()));
+        while (batch.size() < maxBatchSize) {
+            long remaining = deadline - System.nanoTime();
+            PendingText next = remaining <= 0L ? pending.poll() : pending.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    private void complete(List<PendingText> batch) {
+        List<String> texts = new ArrayList<>(batch.size());
+        for (PendingText item : batch) {
+            texts.add(item.text());
+        }
+        List<float[]> vectors;
+        try {
+            vectors = call(delegate(), texts);
+        } catch (RuntimeException exception) {
+            fail(batch, exception);
+            return;
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            PendingText item = batch.get(i);
+            cachePut(item.cacheKey(), vectors.get(i));
+            CompletableFuture<float[]> future = inFlight.remove(item.cacheKey());
+            if (future != null) {
+                future.complete(vectors.get(i));
+            }
+        }
+    }
+
+    private void fail(List<PendingText> batch, Throwable cause) {
+        for (PendingText item : batch) {
+            CompletableFuture<float[]> future = inFlight.remove(item.cacheKey());
+            if (future != null) {
+                future.completeExceptionally(cause);
+            }
+        }
+    }
+
+    private float[] cacheGet(String cacheKey) {
+        synchronized (cache) {
+            return cache.get(cacheKey);
+        }
+    }
+
+    private void cachePut(String cacheKey, float[] vector) {
+        int maxEntries = appProperties.getLlm().getEmbedding().getCacheMaxEntries();
+        if (maxEntries <= 0 || vector == null) {
+            return;
+        }
+        synchronized (cache) {
+            cache.put(cacheKey, vector);
+            while (cache.size() > maxEntries) {
+                Map.Entry<String, float[]> eldest = cache.entrySet().iterator().next();
+                cache.remove(eldest.getKey());
+            }
+        }
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String composed = Normalizer.normalize(text, Normalizer.Form.NFKC);
+        StringBuilder builder = new StringBuilder(composed.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < composed.length(); i++) {
+            char current = composed.charAt(i);
+            if (Character.isWhitespace(current)) {
+                pendingSpace = builder.length() > 0;
+                continue;
+            }
+            if (pendingSpace) {
+                builder.append(' ');
+                pendingSpace = false;
+            }
+            builder.append(current);
+        }
+        return builder.toString();
+    }
+
+    private record PendingText(String cacheKey, String text) {
+    }
+}
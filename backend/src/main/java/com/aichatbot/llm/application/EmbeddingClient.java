@@ -0,0 +1,23 @@
+package com.aichatbot.llm.application;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public interface EmbeddingClient {
+
+    String modelName();
+
+    float[] embed(String text);
+
+    default List<float[]> embedAll(List<String> texts) {
+        List<float[]> vectors = new ArrayList<>(texts.size());
+        for (String text : texts) {
+            vectors.add(embed(text));
+        }
+        return vectors;
+    }
+
+    default boolean remote() {
+        return false;
+    }
+}
@@ -0,0 +1,48 @@
+package com.aichatbot.llm.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import org.springframework.stereotype.Component;
+
+@Component
+public class EmbeddingMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final DistributionSummary batchSize;
+    private final Counter cacheHits;
+    private final Counter cacheMisses;
+
+    public EmbeddingMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.batchSize = DistributionSummary.builder("embedding_batch_size")
+            .description("Texts sent per embedding backend call")
+            .register(meterRegistry);
+        this.cacheHits = Counter.builder("embedding_cache_hit_total")
+            .description("Query embeddings served from the LRU cache")
+            .register(meterRegistry);
+        this.cacheMisses = Counter.builder("embedding_cache_miss_total")
+            .description("Query embeddings that missed the LRU cache")
+            .register(meterRegistry);
+    }
+
+    public void recordCall(String model, int texts, long elapsedMs, boolean success) {
+        batchSize.record(texts);
+        Timer.builder("embedding_call_ms")
+            .description("Latency of one embedding backend call")
+            .tag("model", model)
+            .tag("outcome", success ? "success" : "error")
+            .register(meterRegistry)
+            .record(Duration.ofMillis(Math.max(0, elapsedMs)));
+    }
+
+    public void recordCacheHit() {
+        cacheHits.increment();
+    }
+
+    public void recordCacheMiss() {
+        cacheMisses.increment();
+    }
+}
@@ -0,0 +1,55 @@
+package com.aichatbot.llm.application;
+
+import com.aichatbot.global.config.AppProperties;
+import java.util.Locale;
+import java.util.regex.Pattern;
+import org.springframework.stereotype.Component;
+
+@Component
+public class HashingEmbeddingClient implements EmbeddingClient {
+
+    private static final Pattern NON_TERM_PATTERN = Pattern.compile("[^a-z0-9\\p{IsHangul}\\s]");
+    private static final Pattern WHITESPACE_PATTERN = Pattern.compile("\\s+");
+
+    private final AppProperties appProperties;
+
+    public HashingEmbeddingClient(AppProperties appProperties) {
+        this.appProperties = appProperties;
+    }
+
+    @Override
+    public String modelName() {
+        return "local-hash-v1-" + dimension();
+    }
+
+    @Override
+    public float[] embed(String text) {
+        int dimension = dimension();
+        float[] vector = new float[dimension];
+        if (text == null || text.isBlank()) {
+            return vector;
+        }
+        String normalized = NON_TERM_PATTERN.matcher(text.toLowerCase(Locale.ROOT)).replaceAll(" ");
+        for (String term : WHITESPACE_PATTERN.split(normalized.trim())) {
+            if (term.isEmpty()) {
+                continue;
+            }
+            int hash = mix(term.hashCode());
+            int bucket = Math.floorMod(hash, dimension);
+            vector[bucket] += (hash & 0x40000000) == 0 ? 1.0f : -1.0f;
+        }
+        return vector;
+    }
+
+    private int dimension() {
+        return Math.max(8, appProperties.getRag().getLocalEmbeddingDim());
+    }
+
+    private int mix(int hash) {
+        int value = hash * 0x9E3779B1;
+        value ^= value >>> 15;
+        value *= 0x85EBCA77;
+        value ^= value >>> 13;
+        return value;
+    }
+}
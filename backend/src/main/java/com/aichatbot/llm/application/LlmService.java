@@ -5,6 +5,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -42,6 +43,30 @@ public class LlmService {
         }
     }
 
+    public String streamAnswerContractJson(String prompt, String messageId, Consumer<String> onAnswerText) {
+        String provider = appProperties.getLlm().getProvider();
+        AnswerTextStreamExtractor extractor = new AnswerTextStreamExtractor();
+        Consumer<String> onFragment = fragment -> {
+            String delta = extractor.feed(fragment);
+            if (!delta.isEmpty()) {
+                onAnswerText.accept(delta);
+            }
+        };
+        try {
+            if ("ollama".equalsIgnoreCase(provider)) {
+                return ollamaClient.streamContractJson(prompt, onFragment);
+            }
+        } catch (Exception exception) {
+            // 이미 내보낸 delta는 임시 값이며, safe 계약이면 호출자가 safe_response로 스트림을 닫는다.
+            return buildSafeContract(0.0d, appProperties.getAnswer().getEvidenceThreshold());
+        }
+        String rawContractJson = generateAnswerContractJson(prompt, messageId);
+        if ("mock".equalsIgnoreCase(provider)) {
+            onFragment.accept(rawContractJson);
+        }
+        return rawContractJson;
+    }
+
     public String repairAnswerContractJson(String rawCandidate, String originalPrompt, String messageId) {
         String provider = appProperties.getLlm().getProvider();
         try {
@@ -3,11 +3,16 @@ package com.aichatbot.llm.application;
 import com.aichatbot.global.config.AppProperties;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.function.Consumer;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
@@ -46,11 +51,61 @@ public class OllamaClient implements LlmClient {
         return invokeGenerate(repairPrompt);
     }
 
-    private String invokeGenerate(String prompt) {
+    public String streamContractJson(String prompt, Consumer<String> onFragment) {
         String endpoint = appProperties.getLlm().getOllama().getBaseUrl() + "/api/generate";
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
+        Map<String, Object> body = generateBody(prompt, true);
+        String raw = restTemplate.execute(
+            endpoint,
+            HttpMethod.POST,
+            request -> {
+                request.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+                objectMapper.writeValue(request.getBody(), body);
+            },
+            response -> {
+                StringBuilder completion = new StringBuilder();
+                BufferedReader reader = new BufferedReader(new InputStreamReader(response.getBody(), StandardCharsets.UTF_8));
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    String fragment = readStreamFragment(line);
+                    if (fragment == null) {
+                        break;
+                    }
+                    if (!fragment.isEmpty()) {
+                        completion.append(fragment);
+                        onFragment.accept(fragment);
+                    }
+                }
+                return completion.toString();
+            }
+        );
+        if (raw == null || raw.isBlank()) {
+            throw new IllegalStateException("empty_ollama_response");
+        }
+        return extractJsonPayload(raw);
+    }
 
+    String readStreamFragment(String line) {
+        if (line == null || line.isBlank()) {
+            return "";
+        }
+        try {
+            JsonNode jsonNode = objectMapper.readTree(line);
+            if (jsonNode.hasNonNull("error")) {
+                throw new IllegalStateException("ollama_stream_error");
+            }
+            String fragment = jsonNode.path("response").asText("");
+            if (jsonNode.path("done").asBoolean(false)) {
+                return fragment.isEmpty() ? null : fragment;
+            }
+            return fragment;
+        } catch (IllegalStateException exception) {
+            throw exception;
+        } catch (Exception exception) {
+            throw new IllegalStateException("invalid_ollama_stream_line", exception);
+        }
+    }
+
+    private Map<String, Object> generateBody(String prompt, boolean stream) {
         Map<String, Object> options = new LinkedHashMap<>();
         options.put("temperature", appProperties.getLlm().getOllama().getTemperature());
         options.put("top_p", appProperties.getLlm().getOllama().getTopP());
@@ -58,11 +113,18 @@ public class OllamaClient implements LlmClient {
         Map<String, Object> body = new LinkedHashMap<>();
         body.put("model", appProperties.getLlm().getOllama().getModel());
         body.put("prompt", prompt);
-        body.put("stream", false);
+        body.put("stream", stream);
         body.put("format", "json");
         body.put("options", options);
+        return body;
+    }
+
+    private String invokeGenerate(String prompt) {
+        String endpoint = appProperties.getLlm().getOllama().getBaseUrl() + "/api/generate";
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
 
-        HttpEntity<Map<String, Object>> request = new HttpEntity<>(body, headers);
+        HttpEntity<Map<String, Object>> request = new HttpEntity<>(generateBody(prompt, false), headers);
         String raw = restTemplate.postForObject(endpoint, request, String.class);
         if (raw == null || raw.isBlank()) {
             throw new IllegalStateException("empty_ollama_response");
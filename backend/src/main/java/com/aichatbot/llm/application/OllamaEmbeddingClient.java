@@ -0,0 +1,87 @@
+package com.aichatbot.llm.application;
+
+import com.aichatbot.global.config.AppProperties;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+@Component
+public class OllamaEmbeddingClient implements EmbeddingClient {
+
+    private final AppProperties appProperties;
+    private final ObjectMapper objectMapper;
+    private final RestTemplate restTemplate;
+
+    public OllamaEmbeddingClient(AppProperties appProperties, ObjectMapper objectMapper, RestTemplateBuilder restTemplateBuilder) {
+        this.appProperties = appProperties;
+        this.objectMapper = objectMapper;
+        Duration timeout = Duration.ofMillis(Math.max(1L, appProperties.getLlm().getEmbedding().getTimeoutMs()));
+        this.restTemplate = restTemplateBuilder
+            .connectTimeout(timeout)
+            .readTimeout(timeout)
+            .build();
+    }
+
+    @Override
+    public String modelName() {
+        return appProperties.getLlm().getEmbedding().getModel();
+    }
+
+    @Override
+    public boolean remote() {
+        return true;
+    }
+
+    @Override
+    public float[] embed(String text) {
+        return embedAll(List.of(text)).get(0);
+    }
+
+    @Override
+    public List<float[]> embedAll(List<String> texts) {
+        if (texts.isEmpty()) {
+            return List.of();
+        }
+        String endpoint = appProperties.getLlm().getOllama().getBaseUrl() + "/api/embed";
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("model", modelName());
+        body.put("input", texts);
+
+        String raw = restTemplate.postForObject(endpoint, new HttpEntity<>(body, headers), String.class);
+        if (raw == null || raw.isBlank()) {
+            throw new IllegalStateException("empty_embedding_response");
+        }
+        JsonNode embeddings;
+        try {
+            embeddings = objectMapper.readTree(raw).path("embeddings");
+        } catch (Exception exception) {
+            throw new IllegalStateException("invalid_embedding_response", exception);
+        }
+        if (!embeddings.isArray() || embeddings.size() != texts.size()) {
+            throw new IllegalStateException("embedding_count_mismatch");
+        }
+
+        List<float[]> vectors = new ArrayList<>(texts.size());
+        for (JsonNode embedding : embeddings) {
+            float[] vector = new float[embedding.size()];
+            for (int i = 0; i < vector.length; i++) {
+                vector[i] = (float) embedding.get(i).asDouble();
+            }
+            vectors.add(vector);
+        }
+        return vectors;
+    }
+}
@@ -0,0 +1,120 @@
+package com.aichatbot.message.application;
+
+import com.aichatbot.answer.application.AnswerContract;
+import com.aichatbot.global.config.AppProperties;
+import com.aichatbot.rag.application.EvidenceChunk;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import org.springframework.stereotype.Component;
+
+@Component
+public class AnswerCache {
+
+    private final MvpObservabilityMetrics mvpObservabilityMetrics;
+    private final AppProperties appProperties;
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private final Map<UUID, String> latestStampByTenant = new HashMap<>();
+
+    public AnswerCache(MvpObservabilityMetrics mvpObservabilityMetrics, AppProperties appProperties) {
+        this.mvpObservabilityMetrics = mvpObservabilityMetrics;
+        this.appProperties = appProperties;
+    }
+
+    public Key keyFor(UUID tenantId, String questionMasked, List<EvidenceChunk> evidenceChunks, String kbVersionStamp) {
+        List<String> chunkIds = new ArrayList<>(evidenceChunks.size());
+        for (EvidenceChunk chunk : evidenceChunks) {
+            chunkIds.add(chunk.chunkId().toString());
+        }
+        chunkIds.sort(null);
+        return new Key(tenantId, normalizeQuestion(questionMasked), List.copyOf(chunkIds), kbVersionStamp == null ? "" : kbVersionStamp);
+    }
+
+    public AnswerContract get(Key key) {
+        if (!enabled()) {
+            return null;
+        }
+        long now = System.currentTimeMillis();
+        synchronized (entries) {
+            purgeOnStampChange(key);
+            Entry entry = entries.get(key);
+            if (entry != null && entry.expiresAtMillis() > now) {
+                mvpObservabilityMetrics.recordAnswerCache(true);
+                return entry.contract();
+            }
+            if (entry != null) {
+                entries.remove(key);
+            }
+        }
+        mvpObservabilityMetrics.recordAnswerCache(false);
+        return null;
+    }
+
+    public void put(Key key, AnswerContract contract) {
+        if (!enabled()) {
+            return;
+        }
+        long expiresAt = System.currentTimeMillis() + Math.max(1L, appProperties.getAnswer().getCacheTtlSeconds()) * 1000L;
+        int maxEntries = Math.max(1, appProperties.getAnswer().getCacheMaxEntries());
+        synchronized (entries) {
+            purgeOnStampChange(key);
+            entries.put(key, new Entry(contract, expiresAt));
+            var iterator = entries.entrySet().iterator();
+            while (entries.size() > maxEntries && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private void purgeOnStampChange(Key key) {
+        String previous = latestStampByTenant.put(key.tenantId(), key.kbVersionStamp());
+        if (previous != null && !previous.equals(key.kbVersionStamp())) {
+            entries.keySet().removeIf(cached -> cached.tenantId().equals(key.tenantId())
+                && !cached.kbVersionStamp().equals(key.kbVersionStamp()));
+        }
+    }
+
+    private boolean enabled() {
+        return appProperties.getAnswer().isCacheEnabled();
+    }
+
+    static String normalizeQuestion(String questionMasked) {
+        if (questionMasked == null) {
+            return "";
+        }
+        String composed = Normalizer.normalize(questionMasked, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder builder = new StringBuilder(composed.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < composed.length(); i++) {
+            char current = composed.charAt(i);
+            if (!Character.isLetterOrDigit(current)) {
+                pendingSpace = builder.length() > 0;
+                continue;
+            }
+            if (pendingSpace) {
+                builder.append(' ');
+                pendingSpace = false;
+            }
+            builder.append(current);
+        }
+        return builder.toString();
+    }
+
+    public record Key(UUID tenantId, String normalizedQuestion, List<String> evidenceChunkIds, String kbVersionStamp) {
+    }
+
+    private record Entry(AnswerContract contract, long expiresAtMillis) {
+    }
+}
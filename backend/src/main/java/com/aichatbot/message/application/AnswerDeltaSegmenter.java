@@ -0,0 +1,61 @@
+package com.aichatbot.message.application;
+
+import com.aichatbot.global.privacy.PiiMaskingService;
+import java.util.function.Consumer;
+
+class AnswerDeltaSegmenter {
+
+    private final PiiMaskingService piiMaskingService;
+    private final Consumer<String> onSegment;
+    private final StringBuilder pending = new StringBuilder();
+    private boolean emitted;
+
+    AnswerDeltaSegmenter(PiiMaskingService piiMaskingService, Consumer<String> onSegment) {
+        this.piiMaskingService = piiMaskingService;
+        this.onSegment = onSegment;
+    }
+
+    void accept(String delta) {
+        pending.append(delta);
+        int cut = lastSafeCut();
+        if (cut > 0) {
+            emit(pending.substring(0, cut));
+            pending.delete(0, cut);
+        }
+    }
+
+    void flush() {
+        if (pending.length() > 0) {
+            emit(pending.toString());
+            pending.setLength(0);
+        }
+    }
+
+    boolean emitted() {
+        return emitted;
+    }
+
+    private int lastSafeCut() {
+        // Why: 마스킹이 segment 단위로 돌기 때문에 PII 패턴 안에 들어갈 수 있는 공백(예: "010 1234 5678")에서는 segment를 끊지 않는다.
+        for (int i = pending.length() - 1; i > 0; i--) {
+            if (Character.isWhitespace(pending.charAt(i)) && !continuesPii(pending.charAt(i - 1))) {
+                return i + 1;
+            }
+        }
+        return 0;
+    }
+
+    private boolean continuesPii(char previous) {
+        return Character.isDigit(previous) || previous == '-' || previous == '+' || previous == ':' || previous == '='
+            || previous == ',' || Character.isWhitespace(previous);
+    }
+
+    private void emit(String segment) {
+        String masked = piiMaskingService.mask(segment);
+        if (masked.isEmpty()) {
+            return;
+        }
+        emitted = true;
+        onSegment.accept(masked);
+    }
+}
@@ -0,0 +1,62 @@
+package com.aichatbot.message.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.stereotype.Component;
+
+@Component
+public class GenerationWorkerMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final Timer queueWaitSeconds;
+    private final Timer runSeconds;
+    private final Counter rejectedTotal;
+    private final Counter failedTotal;
+
+    public GenerationWorkerMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.queueWaitSeconds = Timer.builder("generation_queue_wait_seconds")
+            .description("Time an accepted question waits before a generation worker picks it up")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(meterRegistry);
+        this.runSeconds = Timer.builder("generation_run_seconds")
+            .description("Time a generation worker spends on retrieval, LLM and event writes for one answer")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(meterRegistry);
+        this.rejectedTotal = Counter.builder("generation_rejected_total")
+            .description("Questions rejected because the generation queue was full")
+            .register(meterRegistry);
+        this.failedTotal = Counter.builder("generation_failed_total")
+            .description("Background generations that ended with an error event")
+            .register(meterRegistry);
+    }
+
+    public void bindExecutor(ThreadPoolExecutor executor) {
+        Gauge.builder("generation_queue_depth", executor, pool -> pool.getQueue().size())
+            .description("Accepted questions waiting for a generation worker")
+            .register(meterRegistry);
+        Gauge.builder("generation_workers_active", executor, ThreadPoolExecutor::getActiveCount)
+            .description("Generation workers currently running an answer")
+            .register(meterRegistry);
+    }
+
+    public void recordQueueWait(long elapsedMs) {
+        queueWaitSeconds.record(Duration.ofMillis(Math.max(0L, elapsedMs)));
+    }
+
+    public void recordRun(long elapsedMs) {
+        runSeconds.record(Duration.ofMillis(Math.max(0L, elapsedMs)));
+    }
+
+    public void recordRejected() {
+        rejectedTotal.increment();
+    }
+
+    public void recordFailed() {
+        failedTotal.increment();
+    }
+}
@@ -0,0 +1,65 @@
+package com.aichatbot.message.application;
+
+import com.aichatbot.global.config.AppProperties;
+import com.aichatbot.global.observability.TraceContext;
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.stereotype.Component;
+
+@Component
+public class GenerationWorkerPool {
+
+    private final GenerationWorkerMetrics generationWorkerMetrics;
+    private final ThreadPoolExecutor workerExecutor;
+
+    public GenerationWorkerPool(GenerationWorkerMetrics generationWorkerMetrics, AppProperties appProperties) {
+        this.generationWorkerMetrics = generationWorkerMetrics;
+        int workers = Math.max(1, appProperties.getGeneration().getWorkerThreads());
+        AtomicInteger threadSequence = new AtomicInteger();
+        this.workerExecutor = new ThreadPoolExecutor(
+            workers,
+            workers,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(Math.max(1, appProperties.getGeneration().getQueueCapacity())),
+            runnable -> {
+                Thread thread = new Thread(runnable, "generation-worker-" + threadSequence.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+        generationWorkerMetrics.bindExecutor(workerExecutor);
+    }
+
+    public boolean submit(String traceId, Runnable generation) {
+        long acceptedAtNanos = System.nanoTime();
+        try {
+            workerExecutor.execute(() -> {
+                long startedAtNanos = System.nanoTime();
+                generationWorkerMetrics.recordQueueWait((startedAtNanos - acceptedAtNanos) / 1_000_000L);
+                // Why: 저장에는 요청의 trace id가 필요한데, 이 값은 작업을 따라가지 않는 thread local에 있다.
+                TraceContext.setTraceId(traceId);
+                try {
+                    generation.run();
+                } finally {
+                    TraceContext.clear();
+                    generationWorkerMetrics.recordRun((System.nanoTime() - startedAtNanos) / 1_000_000L);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException exception) {
+            generationWorkerMetrics.recordRejected();
+            return false;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workerExecutor.shutdown();
+    }
+}
@@ -0,0 +1,369 @@
+package com.aichatbot.message.application;
+
+import com.aichatbot.global.config.AppProperties;
+import com.aichatbot.message.infrastructure.RedisStreamEventRelay;
+import com.aichatbot.message.infrastructure.StreamEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+@Component
+public class LiveStreamHub {
+
+    private static final Logger log = LoggerFactory.getLogger(LiveStreamHub.class);
+
+    private final RedisStreamEventRelay redisStreamEventRelay;
+    private final StreamEventRepository streamEventRepository;
+    private final AppProperties appProperties;
+    private final Counter evictedTotal;
+    private final ThreadPoolExecutor deliveryExecutor;
+    private final Map<UUID, LiveStream> streams = new ConcurrentHashMap<>();
+
+    public LiveStreamHub(
+        RedisStreamEventRelay redisStreamEventRelay,
+        StreamEventRepository streamEventRepository,
+        AppProperties appProperties,
+        MeterRegistry meterRegistry
+    ) {
+        this.redisStreamEventRelay = redisStreamEventRelay;
+        this.streamEventRepository = streamEventRepository;
+        this.appProperties = appProperties;
+        this.evictedTotal = Counter.builder("live_stream_subscribers_evicted_total")
+            .description("Live stream subscribers dropped because their delivery queue overflowed")
+            .register(meterRegistry);
+        int threads = Math.max(1, appProperties.getStream().getDeliveryThreads());
+        AtomicInteger threadSequence = new AtomicInteger();
+        // 구독자마다 drain 작업은 최대 하나만 올라가므로 작업 큐 길이는 구독자 수를 넘지 않는다.
+        this.deliveryExecutor = new ThreadPoolExecutor(
+            threads,
+            threads,
+            60L,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            runnable -> {
+                Thread thread = new Thread(runnable, "live-stream-delivery-" + threadSequence.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        );
+    }
+
+    public void open(UUID tenantId, UUID messageId) {
+        streams.putIfAbsent(messageId, new LiveStream(tenantId));
+    }
+
+    public void publish(UUID messageId, StreamEventView event) {
+        LiveStream stream = streams.get(messageId);
+        if (stream == null) {
+            return;
+        }
+        redisStreamEventRelay.publish(messageId, event);
+        List<Channel> overflowed = new ArrayList<>();
+        synchronized (stream) {
+            stream.events.addLast(event);
+            trimBacklog(stream);
+            // Why: 생성 스레드는 구독자 큐에 넣기만 하므로 느린 클라이언트 하나가 같은 답변의 다른 구독자나 생성을 멈추지 않는다.
+            stream.channels.removeIf(channel -> {
+                if (channel.offer(event)) {
+                    return false;
+                }
+                overflowed.add(channel);
+                return true;
+            });
+        }
+        for (Channel channel : overflowed) {
+            evict(messageId, channel);
+        }
+    }
+
+    public void markPersisted(UUID messageId, int persistedThroughSeq) {
+        LiveStream stream = streams.get(messageId);
+        if (stream == null) {
+            return;
+        }
+        synchronized (stream) {
+            stream.persistedThroughSeq = Math.max(stream.persistedThroughSeq, persistedThroughSeq);
+            trimBacklog(stream);
+        }
+    }
+
+    public void close(UUID messageId) {
+        LiveStream stream = streams.remove(messageId);
+        if (stream == null) {
+            return;
+        }
+        synchronized (stream) {
+            for (Channel channel : stream.channels) {
+                channel.requestClose();
+            }
+            stream.channels.clear();
+        }
+    }
+
+    public boolean subscribe(UUID messageId, int fromEventSeqExclusive, Subscriber subscriber) {
+        LiveStream stream = streams.get(messageId);
+        if (stream == null) {
+            return false;
+        }
+        synchronized (stream) {
+            // 조회와 락 사이에 닫힌 스트림은 done까지 저장을 마쳤으므로 호출자가 저장소에서 재생한다.
+            if (streams.get(messageId) != stream) {
+                return false;
+            }
+            Channel channel = new Channel(stream, messageId, subscriber, fromEventSeqExclusive);
+            // 잘려 나간 backlog 구간은 이미 저장된 행이므로 drain 작업이 저장소에서 먼저 채운다.
+            channel.replayFromStore = stream.trimmedThroughSeq > fromEventSeqExclusive;
+            for (StreamEventView event : stream.events) {
+                if (event.eventSeq() > fromEventSeqExclusive) {
+                    channel.replay(event);
+                }
+            }
+            stream.channels.add(channel);
+            channel.schedule();
+            return true;
+        }
+    }
+
+    RemoteStreamTail openRemoteTail(UUID tenantId, UUID messageId, Subscriber subscriber) {
+        if (!redisStreamEventRelay.enabled()) {
+            return null;
+        }
+        RemoteStreamTail tail = new RemoteStreamTail(
+            tenantId,
+            messageId,
+            streamEventRepository,
+            subscriber,
+            deliveryExecutor,
+            appProperties.getStream().getLiveBacklogMax()
+        );
+        Runnable unsubscribe = redisStreamEventRelay.subscribe(messageId, tail::onRemoteEvent);
+        if (unsubscribe == null) {
+            return null;
+        }
+        tail.bind(unsubscribe);
+        return tail;
+    }
+
+    public void unsubscribe(UUID messageId, Subscriber subscriber) {
+        LiveStream stream = streams.get(messageId);
+        if (stream == null) {
+            return;
+        }
+        synchronized (stream) {
+            stream.channels.removeIf(channel -> {
+                if (channel.subscriber != subscriber) {
+                    return false;
+                }
+                channel.detach();
+                return true;
+            });
+        }
+    }
+
+    public boolean isLive(UUID messageId) {
+        return streams.containsKey(messageId);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        deliveryExecutor.shutdownNow();
+    }
+
+    private void trimBacklog(LiveStream stream) {
+        int backlogMax = Math.max(1, appProperties.getStream().getLiveBacklogMax());
+        // 저장이 끝난 행만 잘라 내므로 backlog는 상한보다 미저장 행만큼만 커지고, 늦은 구독자는 잘린 구간을 저장소에서 읽을 수 있다.
+        while (stream.events.size() > backlogMax && stream.events.peekFirst().eventSeq() <= stream.persistedThroughSeq) {
+            stream.trimmedThroughSeq = stream.events.pollFirst().eventSeq();
+        }
+    }
+
+    private void evict(UUID messageId, Channel channel) {
+        channel.detach();
+        evictedTotal.increment();
+        log.warn("live stream subscriber evicted messageId={} queueCapacity={}", messageId, channel.capacity);
+        // 종료된 연결은 클라이언트가 Last-Event-ID로 다시 붙어 저장소에서 이어 받는다.
+        execute(() -> closeQuietly(messageId, channel.subscriber));
+    }
+
+    private void execute(Runnable task) {
+        try {
+            deliveryExecutor.execute(task);
+        } catch (RejectedExecutionException exception) {
+            log.debug("live stream delivery rejected after shutdown", exception);
+        }
+    }
+
+    private void closeQuietly(UUID messageId, Subscriber subscriber) {
+        try {
+            subscriber.onClose();
+        } catch (RuntimeException exception) {
+            log.debug("live stream subscriber close failed messageId={}", messageId, exception);
+        }
+    }
+
+    public interface Subscriber {
+
+        void onEvent(StreamEventView event) throws Exception;
+
+        void onClose();
+    }
+
+    private static final class LiveStream {
+        private final UUID tenantId;
+        private final ArrayDeque<StreamEventView> events = new ArrayDeque<>();
+        private final List<Channel> channels = new ArrayList<>();
+        private int persistedThroughSeq;
+        private int trimmedThroughSeq;
+
+        private LiveStream(UUID tenantId) {
+            this.tenantId = tenantId;
+        }
+    }
+
+    private final class Channel implements Runnable {
+
+        private final LiveStream stream;
+        private final UUID messageId;
+        private final Subscriber subscriber;
+        private final int capacity = Math.max(1, appProperties.getStream().getSubscriberQueueCapacity());
+        private final ArrayDeque<StreamEventView> queue = new ArrayDeque<>();
+        private boolean replayFromStore;
+        private boolean scheduled;
+        private boolean closing;
+        private boolean detached;
+        private int lastDeliveredSeq;
+
+        private Channel(LiveStream stream, UUID messageId, Subscriber subscriber, int fromEventSeqExclusive) {
+            this.stream = stream;
+            this.messageId = messageId;
+            this.subscriber = subscriber;
+            this.lastDeliveredSeq = fromEventSeqExclusive;
+        }
+
+        private synchronized void replay(StreamEventView event) {
+            queue.addLast(event);
+        }
+
+        private synchronized boolean offer(StreamEventView event) {
+            if (detached) {
+                return true;
+            }
+            if (queue.size() >= capacity) {
+                return false;
+            }
+            queue.addLast(event);
+            schedule();
+            return true;
+        }
+
+        private synchronized void requestClose() {
+            closing = true;
+            schedule();
+        }
+
+        private synchronized void detach() {
+            detached = true;
+            queue.clear();
+        }
+
+        private synchronized void schedule() {
+            if (scheduled || detached) {
+                return;
+            }
+            scheduled = true;
+            execute(this);
+        }
+
+        @Override
+        public void run() {
+            if (takeReplayFromStore() && !deliverStored()) {
+                return;
+            }
+            while (true) {
+                StreamEventView next;
+                synchronized (this) {
+                    if (detached) {
+                        scheduled = false;
+                        return;
+                    }
+                    next = queue.pollFirst();
+                    if (next == null) {
+                        scheduled = false;
+                        if (!closing) {
+                            return;
+                        }
+                        detached = true;
+                    }
+                }
+                if (next == null) {
+                    closeQuietly(messageId, subscriber);
+                    return;
+                }
+                if (next.eventSeq() > lastDeliveredSeq && !deliver(next)) {
+                    return;
+                }
+            }
+        }
+
+        private synchronized boolean takeReplayFromStore() {
+            boolean pendingReplay = replayFromStore;
+            replayFromStore = false;
+            return pendingReplay;
+        }
+
+        private boolean deliverStored() {
+            List<StreamEventView> stored;
+            try {
+                stored = streamEventRepository.findByMessageFromSeq(stream.tenantId, messageId, lastDeliveredSeq);
+            } catch (RuntimeException exception) {
+                log.warn("live stream backlog replay failed messageId={} fromSeq={}", messageId, lastDeliveredSeq, exception);
+                dropFailed();
+                closeQuietly(messageId, subscriber);
+                return false;
+            }
+            for (StreamEventView event : stored) {
+                if (event.eventSeq() > lastDeliveredSeq && !deliver(event)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean deliver(StreamEventView event) {
+            try {
+                subscriber.onEvent(event);
+                lastDeliveredSeq = event.eventSeq();
+                return true;
+            } catch (Exception exception) {
+                // 전송 실패는 클라이언트가 떠났다는 뜻이므로, 끊긴 연결이 전달 스레드를 붙잡지 않게 바로 뺀다.
+                log.debug("live stream subscriber dropped eventSeq={}", event.eventSeq(), exception);
+                dropFailed();
+                return false;
+            }
+        }
+
+        private void dropFailed() {
+            detach();
+            synchronized (stream) {
+                stream.channels.remove(this);
+            }
+            synchronized (this) {
+                scheduled = false;
+            }
+        }
+    }
+}
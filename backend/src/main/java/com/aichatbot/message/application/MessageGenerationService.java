@@ -11,18 +11,17 @@ import com.aichatbot.global.privacy.PiiMaskingService;
 import com.aichatbot.global.security.PrincipalUtils;
 import com.aichatbot.llm.application.LlmService;
 import com.aichatbot.message.infrastructure.MessageRepository;
-import com.aichatbot.message.infrastructure.StreamEventRepository;
 import com.aichatbot.rag.application.EvidenceChunk;
 import com.aichatbot.rag.application.GuardrailPolicyService;
 import com.aichatbot.rag.application.RetrievalResult;
 import com.aichatbot.rag.application.RetrievalService;
+import com.aichatbot.rag.infrastructure.CitationInsertRow;
 import com.aichatbot.rag.infrastructure.CitationRepository;
 import com.aichatbot.rag.infrastructure.RagSearchLogRepository;
 import com.aichatbot.session.infrastructure.ConversationRepository;
 import com.aichatbot.tool.application.SpringAiToolCallingService;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import java.time.Instant;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -30,15 +29,19 @@ import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
 @Service
 public class MessageGenerationService {
 
+    private static final Logger log = LoggerFactory.getLogger(MessageGenerationService.class);
+
     private final ConversationRepository conversationRepository;
     private final MessageRepository messageRepository;
-    private final StreamEventRepository streamEventRepository;
+    private final StreamEventPublisher streamEventPublisher;
     private final RagSearchLogRepository ragSearchLogRepository;
     private final CitationRepository citationRepository;
     private final RetrievalService retrievalService;
@@ -49,13 +52,16 @@ public class MessageGenerationService {
     private final SpringAiToolCallingService springAiToolCallingService;
     private final BudgetGuardService budgetGuardService;
     private final MvpObservabilityMetrics mvpObservabilityMetrics;
+    private final AnswerCache answerCache;
+    private final GenerationWorkerPool generationWorkerPool;
+    private final GenerationWorkerMetrics generationWorkerMetrics;
     private final AppProperties appProperties;
     private final ObjectMapper objectMapper;
 
     public MessageGenerationService(
         ConversationRepository conversationRepository,
         MessageRepository messageRepository,
-        StreamEventRepository streamEventRepository,
+        StreamEventPublisher streamEventPublisher,
         RagSearchLogRepository ragSearchLogRepository,
         CitationRepository citationRepository,
         RetrievalService retrievalService,
@@ -66,12 +72,15 @@ public class MessageGenerationService {
         SpringAiToolCallingService springAiToolCallingService,
         BudgetGuardService budgetGuardService,
         MvpObservabilityMetrics mvpObservabilityMetrics,
+        AnswerCache answerCache,
+        GenerationWorkerPool generationWorkerPool,
+        GenerationWorkerMetrics generationWorkerMetrics,
         AppProperties appProperties,
         ObjectMapper objectMapper
     ) {
         this.conversationRepository = conversationRepository;
         this.messageRepository = messageRepository;
-        this.streamEventRepository = streamEventRepository;
+        this.streamEventPublisher = streamEventPublisher;
         this.ragSearchLogRepository = ragSearchLogRepository;
         this.citationRepository = citationRepository;
         this.retrievalService = retrievalService;
@@ -82,11 +91,43 @@ public class MessageGenerationService {
         this.springAiToolCallingService = springAiToolCallingService;
         this.budgetGuardService = budgetGuardService;
         this.mvpObservabilityMetrics = mvpObservabilityMetrics;
+        this.answerCache = answerCache;
+        this.generationWorkerPool = generationWorkerPool;
+        this.generationWorkerMetrics = generationWorkerMetrics;
         this.appProperties = appProperties;
         this.objectMapper = objectMapper;
     }
 
     public MessageGenerationResult generate(UUID tenantId, UUID sessionId, String questionTextRaw, Integer requestedTopK) {
+        return answer(acceptQuestion(tenantId, sessionId, questionTextRaw, requestedTopK), null, null);
+    }
+
+    public MessageGenerationResult generateAsync(UUID tenantId, UUID sessionId, String questionTextRaw, Integer requestedTopK) {
+        AcceptedQuestion accepted = acceptQuestion(tenantId, sessionId, questionTextRaw, requestedTopK);
+        MessageView answerMessage = messageRepository.create(tenantId, sessionId, "ASSISTANT", "", accepted.traceId());
+        StreamEventPublisher.MessageEventStream events = streamEventPublisher.open(tenantId, answerMessage, accepted.traceId());
+        boolean submitted = generationWorkerPool.submit(
+            accepted.traceId(),
+            () -> answerInBackground(accepted, answerMessage, events)
+        );
+        if (!submitted) {
+            failAnswer(accepted, answerMessage, events, "SYS-003-503");
+            throw new ApiException(
+                HttpStatus.SERVICE_UNAVAILABLE,
+                "SYS-003-503",
+                ErrorCatalog.messageOf("SYS-003-503"),
+                List.of("generation_queue_full")
+            );
+        }
+        return new MessageGenerationResult(
+            accepted.questionMessage().id().toString(),
+            answerMessage.id().toString(),
+            false,
+            null
+        );
+    }
+
+    private AcceptedQuestion acceptQuestion(UUID tenantId, UUID sessionId, String questionTextRaw, Integer requestedTopK) {
         TraceGuard.requireTraceId();
         String traceId = TraceGuard.requireTraceId();
 
@@ -107,12 +148,90 @@ public class MessageGenerationService {
             traceId
         );
 
+        return new AcceptedQuestion(
+            tenantId,
+            sessionId,
+            traceId,
+            questionMasked,
+            userRole,
+            com.aichatbot.global.tenant.TenantContext.getTenantKey(),
+            topK,
+            budgetSnapshot,
+            questionMessage
+        );
+    }
+
+    private void answerInBackground(
+        AcceptedQuestion accepted,
+        MessageView answerMessage,
+        StreamEventPublisher.MessageEventStream events
+    ) {
+        try {
+            answer(accepted, answerMessage, events);
+        } catch (RuntimeException exception) {
+            log.warn("background generation failed messageId={} traceId={}", answerMessage.id(), accepted.traceId(), exception);
+            generationWorkerMetrics.recordFailed();
+            failAnswer(
+                accepted,
+                answerMessage,
+                events,
+                exception instanceof ApiException apiException ? apiException.errorCode() : "SYS-003-500"
+            );
+        }
+    }
+
+    private void failAnswer(
+        AcceptedQuestion accepted,
+        MessageView answerMessage,
+        StreamEventPublisher.MessageEventStream events,
+        String errorCode
+    ) {
+        String traceId = accepted.traceId();
+        try {
+            messageRepository.updateText(accepted.tenantId(), answerMessage.id(), ErrorCatalog.messageOf("AI-009-200-SAFE"));
+            events.finish(List.of(
+                new StreamEventPublisher.Draft("safe_response", toJson(Map.of(
+                    "error_code", "AI-009-200-SAFE",
+                    "message", ErrorCatalog.messageOf("AI-009-200-SAFE"),
+                    "trace_id", traceId
+                ))),
+                new StreamEventPublisher.Draft("error", toJson(Map.of(
+                    "error_code", errorCode,
+                    "message", ErrorCatalog.messageOf(errorCode),
+                    "trace_id", traceId
+                ))),
+                new StreamEventPublisher.Draft("done", toJson(Map.of(
+                    "message_id", answerMessage.id().toString(),
+                    "trace_id", traceId,
+                    "response_type", "safe"
+                )))
+            ));
+        } catch (RuntimeException exception) {
+            log.warn("failed to close answer stream messageId={} traceId={}", answerMessage.id(), traceId, exception);
+            events.abort();
+        }
+    }
+
+    private MessageGenerationResult answer(
+        AcceptedQuestion accepted,
+        MessageView preparedAnswerMessage,
+        StreamEventPublisher.MessageEventStream preparedEvents
+    ) {
+        UUID tenantId = accepted.tenantId();
+        UUID sessionId = accepted.sessionId();
+        String traceId = accepted.traceId();
+        String questionMasked = accepted.questionMasked();
+        String userRole = accepted.userRole();
+        int topK = accepted.topK();
+        BudgetSnapshot budgetSnapshot = accepted.budgetSnapshot();
+        MessageView questionMessage = accepted.questionMessage();
+
         SpringAiToolCallingService.ToolExecutionResult toolExecution = springAiToolCallingService.maybeCallPolicyLookup(
             questionMasked,
             tenantId,
             traceId,
             userRole,
-            com.aichatbot.global.tenant.TenantContext.getTenantKey()
+            accepted.tenantKey()
         );
 
         RetrievalResult retrievalResult = retrievalService.retrieve(questionMasked, tenantId, topK);
@@ -143,194 +262,207 @@ public class MessageGenerationService {
             toolHints.add(toolExecution.summaryMasked());
         }
 
-        String prompt = buildLlmPrompt(questionMasked, questionMessage.id(), allEvidenceChunks, toolHints);
-        String rawContractJson = llmService.generateAnswerContractJson(prompt, questionMessage.id().toString());
-        AnswerValidationResult validation = answerContractValidator.validate(rawContractJson);
-        if (!validation.valid()) {
-            String repaired = llmService.repairAnswerContractJson(rawContractJson, prompt, questionMessage.id().toString());
-            validation = answerContractValidator.validate(repaired);
-        }
+        // Why: tool 결과는 key에 들어가지 않는 호출별 문맥이므로 근거가 있는 순수 RAG 답변만 캐시한다.
+        AnswerCache.Key answerCacheKey = toolExecution.invoked() || retrievalResult.zeroEvidence()
+            ? null
+            : answerCache.keyFor(tenantId, questionMasked, retrievalResult.evidenceChunks(), retrievalResult.kbVersionStamp());
+        AnswerContract cachedContract = answerCacheKey == null ? null : answerCache.get(answerCacheKey);
 
-        boolean safeResponse = !validation.valid() || retrievalResult.zeroEvidence();
-        String validationErrorCode = validation.errorCode();
-        String finalAnswerText;
-        double threshold = appProperties.getAnswer().getEvidenceThreshold();
+        MessageView answerMessage = preparedAnswerMessage;
+        StreamEventPublisher.MessageEventStream events = preparedEvents;
+        AnswerDeltaSegmenter segmenter = null;
+        try {
+            boolean streaming = appProperties.getLlm().isStreamingEnabled() && cachedContract == null;
+            if (events == null && streaming) {
+                answerMessage = messageRepository.create(tenantId, sessionId, "ASSISTANT", "", traceId);
+                events = streamEventPublisher.open(tenantId, answerMessage, traceId);
+            }
+            if (events != null) {
+                appendToolEvents(events, toolExecution, retrievalResult.retrievalMode(), traceId);
+            }
+            if (events != null && streaming) {
+                StreamEventPublisher.MessageEventStream liveEvents = events;
+                segmenter = new AnswerDeltaSegmenter(
+                    piiMaskingService,
+                    segment -> liveEvents.appendToken(toJson(withTraceId(Map.of("text", segment), traceId)))
+                );
+            }
 
-        List<AnswerContract.Citation> citationsForAnswer = new ArrayList<>();
-        if (!safeResponse && validation.contract() != null && "answer".equals(validation.contract().responseType())) {
-            if (retrievalResult.evidenceScore() < threshold) {
-                safeResponse = true;
-                validationErrorCode = "AI-009-409-EVIDENCE";
+            AnswerValidationResult validation;
+            if (cachedContract != null) {
+                validation = new AnswerValidationResult(true, null, rebindToMessage(cachedContract, questionMessage.id()));
             } else {
-                Set<String> allowedChunkIds = retrievalResult.evidenceChunks().stream()
-                    .map(chunk -> chunk.chunkId().toString())
-                    .collect(Collectors.toSet());
-                if (toolExecution.hasCitationChunk()) {
-                    allowedChunkIds.add(toolExecution.citationChunkId());
+                String prompt = buildLlmPrompt(questionMasked, questionMessage.id(), allEvidenceChunks, toolHints);
+                String rawContractJson;
+                if (segmenter == null) {
+                    rawContractJson = llmService.generateAnswerContractJson(prompt, questionMessage.id().toString());
+                } else {
+                    rawContractJson = llmService.streamAnswerContractJson(prompt, questionMessage.id().toString(), segmenter::accept);
+                    segmenter.flush();
                 }
-                boolean hasUnknownCitation = validation.contract().citations().stream()
-                    .anyMatch(citation -> !allowedChunkIds.contains(citation.chunkId()));
-                if (hasUnknownCitation) {
-                    safeResponse = true;
-                    validationErrorCode = "AI-009-409-CITATION";
+                validation = answerContractValidator.validate(rawContractJson);
+                if (!validation.valid()) {
+                    String repaired = llmService.repairAnswerContractJson(rawContractJson, prompt, questionMessage.id().toString());
+                    validation = answerContractValidator.validate(repaired);
                 }
             }
-        }
-
-        if (!safeResponse && validation.contract() != null && "answer".equals(validation.contract().responseType())) {
-            finalAnswerText = piiMaskingService.mask(validation.contract().answer().text());
-            budgetGuardService.enforcePostGeneration(budgetSnapshot, finalAnswerText);
-            citationsForAnswer.addAll(validation.contract().citations());
-            attachToolCitationIfMissing(citationsForAnswer, questionMessage.id(), toolExecution);
-        } else {
-            safeResponse = true;
-            validationErrorCode = validationErrorCode == null ? "AI-009-200-SAFE" : validationErrorCode;
-            finalAnswerText = ErrorCatalog.messageOf("AI-009-200-SAFE");
-        }
 
-        mvpObservabilityMetrics.recordGenerationOutcome(safeResponse, citationsForAnswer.size());
+            boolean safeResponse = !validation.valid() || retrievalResult.zeroEvidence();
+            String validationErrorCode = validation.errorCode();
+            String finalAnswerText;
+            double threshold = appProperties.getAnswer().getEvidenceThreshold();
 
-        MessageView answerMessage = messageRepository.create(
-            tenantId,
-            sessionId,
-            "ASSISTANT",
-            finalAnswerText,
-            traceId
-        );
-
-        int eventSeq = 1;
-        if (toolExecution.invoked()) {
-            Map<String, Object> toolPayload = new HashMap<>();
-            toolPayload.put("tool_name", toolExecution.toolName());
-            toolPayload.put("tool_run_id", toolExecution.toolRunId());
-            toolPayload.put("status", toolExecution.status());
-            toolPayload.put("policy_code", toolExecution.policyCode());
-            toolPayload.put("policy_version", toolExecution.policyVersion());
-            toolPayload.put("section", toolExecution.section());
-            toolPayload.put("source_ref", toolExecution.sourceRef());
-            toolPayload.put("summary_masked", piiMaskingService.mask(toolExecution.summaryMasked()));
-            toolPayload.put("trace_id", traceId);
-
-            streamEventRepository.save(
-                tenantId,
-                answerMessage.id(),
-                answerMessage.createdAt(),
-                eventSeq++,
-                "tool",
-                toJson(toolPayload)
-            );
-        }
-
-        streamEventRepository.save(
-            tenantId,
-            answerMessage.id(),
-            answerMessage.createdAt(),
-            eventSeq++,
-            "tool",
-            toJson(Map.of(
-                "tool_name", "rag_retrieve",
-                "status", "completed",
-                "retrieval_mode", retrievalResult.retrievalMode(),
-                "trace_id", traceId
-            ))
-        );
-
-        if (!safeResponse) {
-            Map<UUID, EvidenceChunk> evidenceById = new HashMap<>();
-            for (EvidenceChunk chunk : allEvidenceChunks) {
-                evidenceById.put(chunk.chunkId(), chunk);
+            List<AnswerContract.Citation> citationsForAnswer = new ArrayList<>();
+            if (!safeResponse && validation.contract() != null && "answer".equals(validation.contract().responseType())) {
+                if (retrievalResult.evidenceScore() < threshold) {
+                    safeResponse = true;
+                    validationErrorCode = "AI-009-409-EVIDENCE";
+                } else {
+                    Set<String> allowedChunkIds = retrievalResult.evidenceChunks().stream()
+                        .map(chunk -> chunk.chunkId().toString())
+                        .collect(Collectors.toSet());
+                    if (toolExecution.hasCitationChunk()) {
+                        allowedChunkIds.add(toolExecution.citationChunkId());
+                    }
+                    boolean hasUnknownCitation = validation.contract().citations().stream()
+                        .anyMatch(citation -> !allowedChunkIds.contains(citation.chunkId()));
+                    if (hasUnknownCitation) {
+                        safeResponse = true;
+                        validationErrorCode = "AI-009-409-CITATION";
+                    }
+                }
             }
 
-            for (AnswerContract.Citation citation : citationsForAnswer) {
-                UUID chunkId = UUID.fromString(citation.chunkId());
-                EvidenceChunk matchedChunk = evidenceById.get(chunkId);
-                String excerptMasked = piiMaskingService.mask(
-                    matchedChunk == null ? citation.excerptMasked() : matchedChunk.excerptMasked()
-                );
-                citationRepository.save(
-                    tenantId,
-                    answerMessage.id(),
-                    answerMessage.createdAt(),
-                    chunkId,
-                    citation.rankNo(),
-                    excerptMasked
-                );
-                streamEventRepository.save(
-                    tenantId,
-                    answerMessage.id(),
-                    answerMessage.createdAt(),
-                    eventSeq++,
-                    "citation",
-                    toJson(withTraceId(Map.of(
-                        "message_id", answerMessage.id().toString(),
-                        "chunk_id", chunkId.toString(),
-                        "rank_no", citation.rankNo(),
-                        "excerpt_masked", excerptMasked,
-                        "citation_type", toolExecution.hasCitationChunk()
-                            && toolExecution.citationChunkId().equals(chunkId.toString()) ? "TOOL_CITATION" : "RAG_CITATION"
-                    ), traceId))
-                );
+            if (!safeResponse && validation.contract() != null && "answer".equals(validation.contract().responseType())) {
+                finalAnswerText = piiMaskingService.mask(validation.contract().answer().text());
+                budgetGuardService.enforcePostGeneration(budgetSnapshot, finalAnswerText);
+                if (answerCacheKey != null && cachedContract == null) {
+                    answerCache.put(answerCacheKey, validation.contract());
+                }
+                citationsForAnswer.addAll(validation.contract().citations());
+                attachToolCitationIfMissing(citationsForAnswer, questionMessage.id(), toolExecution);
+            } else {
+                safeResponse = true;
+                validationErrorCode = validationErrorCode == null ? "AI-009-200-SAFE" : validationErrorCode;
+                finalAnswerText = ErrorCatalog.messageOf("AI-009-200-SAFE");
             }
 
-            List<String> chunks = chunkTokens(finalAnswerText);
-            for (String chunk : chunks) {
-                streamEventRepository.save(
+            mvpObservabilityMetrics.recordGenerationOutcome(safeResponse, citationsForAnswer.size());
+
+            if (answerMessage == null) {
+                answerMessage = messageRepository.create(
                     tenantId,
-                    answerMessage.id(),
-                    answerMessage.createdAt(),
-                    eventSeq++,
-                    "token",
-                    toJson(withTraceId(Map.of("text", chunk), traceId))
+                    sessionId,
+                    "ASSISTANT",
+                    finalAnswerText,
+                    traceId
                 );
+                events = streamEventPublisher.open(tenantId, answerMessage, traceId);
+                appendToolEvents(events, toolExecution, retrievalResult.retrievalMode(), traceId);
+            } else {
+                messageRepository.updateText(tenantId, answerMessage.id(), finalAnswerText);
             }
-        } else {
-            streamEventRepository.save(
-                tenantId,
-                answerMessage.id(),
-                answerMessage.createdAt(),
-                eventSeq++,
-                "safe_response",
-                toJson(Map.of(
+
+            List<StreamEventPublisher.Draft> closingDrafts = new ArrayList<>();
+            if (!safeResponse) {
+                Map<UUID, EvidenceChunk> evidenceById = new HashMap<>();
+                for (EvidenceChunk chunk : allEvidenceChunks) {
+                    evidenceById.put(chunk.chunkId(), chunk);
+                }
+
+                List<CitationInsertRow> citationRows = new ArrayList<>(citationsForAnswer.size());
+                for (AnswerContract.Citation citation : citationsForAnswer) {
+                    UUID chunkId = UUID.fromString(citation.chunkId());
+                    EvidenceChunk matchedChunk = evidenceById.get(chunkId);
+                    String excerptMasked = piiMaskingService.mask(
+                        matchedChunk == null ? citation.excerptMasked() : matchedChunk.excerptMasked()
+                    );
+                    citationRows.add(new CitationInsertRow(UUID.randomUUID(), chunkId, citation.rankNo(), excerptMasked));
+                    closingDrafts.add(new StreamEventPublisher.Draft(
+                        "citation",
+                        toJson(withTraceId(Map.of(
+                            "message_id", answerMessage.id().toString(),
+                            "chunk_id", chunkId.toString(),
+                            "rank_no", citation.rankNo(),
+                            "excerpt_masked", excerptMasked,
+                            "citation_type", toolExecution.hasCitationChunk()
+                                && toolExecution.citationChunkId().equals(chunkId.toString()) ? "TOOL_CITATION" : "RAG_CITATION"
+                        ), traceId))
+                    ));
+                }
+                citationRepository.saveAll(tenantId, answerMessage.id(), answerMessage.createdAt(), citationRows);
+
+                if (segmenter == null || !segmenter.emitted()) {
+                    for (String chunk : chunkTokens(finalAnswerText)) {
+                        closingDrafts.add(new StreamEventPublisher.Draft("token", toJson(withTraceId(Map.of("text", chunk), traceId))));
+                    }
+                }
+            } else {
+                closingDrafts.add(new StreamEventPublisher.Draft("safe_response", toJson(Map.of(
                     "error_code", "AI-009-200-SAFE",
                     "message", ErrorCatalog.messageOf("AI-009-200-SAFE"),
                     "trace_id", traceId
-                ))
-            );
-            if (validationErrorCode != null && !"AI-009-200-SAFE".equals(validationErrorCode)) {
-                streamEventRepository.save(
-                    tenantId,
-                    answerMessage.id(),
-                    answerMessage.createdAt(),
-                    eventSeq++,
-                    "error",
-                    toJson(Map.of(
+                ))));
+                if (validationErrorCode != null && !"AI-009-200-SAFE".equals(validationErrorCode)) {
+                    closingDrafts.add(new StreamEventPublisher.Draft("error", toJson(Map.of(
                         "error_code", validationErrorCode,
                         "message", ErrorCatalog.messageOf(validationErrorCode),
                         "trace_id", traceId
-                    ))
-                );
+                    ))));
+                }
             }
-        }
 
-        streamEventRepository.save(
-            tenantId,
-            answerMessage.id(),
-            answerMessage.createdAt(),
-            eventSeq,
-            "done",
-            toJson(Map.of(
+            // done 전까지 내보낸 token은 임시 값이며, response_type=safe면 클라이언트가 safe_response 문구로 바꾼다.
+            closingDrafts.add(new StreamEventPublisher.Draft("done", toJson(Map.of(
                 "message_id", answerMessage.id().toString(),
                 "trace_id", traceId,
                 "response_type", safeResponse ? "safe" : "answer"
-            ))
-        );
+            ))));
+            events.finish(closingDrafts);
+
+            return new MessageGenerationResult(
+                questionMessage.id().toString(),
+                answerMessage.id().toString(),
+                safeResponse,
+                validationErrorCode
+            );
+        } catch (RuntimeException exception) {
+            // 호출자가 넘긴 스트림은 호출자가 실패를 알린 뒤 직접 닫는다.
+            if (events != null && preparedEvents == null) {
+                events.abort();
+            }
+            throw exception;
+        }
+    }
 
-        return new MessageGenerationResult(
-            questionMessage.id().toString(),
-            answerMessage.id().toString(),
-            safeResponse,
-            validationErrorCode
-        );
+    private void appendToolEvents(
+        StreamEventPublisher.MessageEventStream events,
+        SpringAiToolCallingService.ToolExecutionResult toolExecution,
+        String retrievalMode,
+        String traceId
+    ) {
+        List<StreamEventPublisher.Draft> drafts = new ArrayList<>(2);
+        if (toolExecution.invoked()) {
+            Map<String, Object> toolPayload = new HashMap<>();
+            toolPayload.put("tool_name", toolExecution.toolName());
+            toolPayload.put("tool_run_id", toolExecution.toolRunId());
+            toolPayload.put("status", toolExecution.status());
+            toolPayload.put("policy_code", toolExecution.policyCode());
+            toolPayload.put("policy_version", toolExecution.policyVersion());
+            toolPayload.put("section", toolExecution.section());
+            toolPayload.put("source_ref", toolExecution.sourceRef());
+            toolPayload.put("summary_masked", piiMaskingService.mask(toolExecution.summaryMasked()));
+            toolPayload.put("trace_id", traceId);
+            drafts.add(new StreamEventPublisher.Draft("tool", toJson(toolPayload)));
+        }
+
+        drafts.add(new StreamEventPublisher.Draft("tool", toJson(Map.of(
+            "tool_name", "rag_retrieve",
+            "status", "completed",
+            "retrieval_mode", retrievalMode,
+            "trace_id", traceId
+        ))));
+        events.appendAll(drafts);
     }
 
     private int resolveTopK(Integer requestedTopK) {
@@ -444,6 +576,19 @@ public class MessageGenerationService {
         return roles.get(0);
     }
 
+    private AnswerContract rebindToMessage(AnswerContract contract, UUID questionMessageId) {
+        List<AnswerContract.Citation> citations = contract.citations().stream()
+            .map(citation -> new AnswerContract.Citation(
+                citation.citationId(),
+                questionMessageId.toString(),
+                citation.chunkId(),
+                citation.rankNo(),
+                citation.excerptMasked()
+            ))
+            .toList();
+        return new AnswerContract(contract.schemaVersion(), contract.responseType(), contract.answer(), citations, contract.evidence());
+    }
+
     private void attachToolCitationIfMissing(
         List<AnswerContract.Citation> citationsForAnswer,
         UUID questionMessageId,
@@ -469,6 +614,17 @@ public class MessageGenerationService {
             piiMaskingService.mask(toolExecution.excerptMasked())
         ));
     }
-}
-
 
+    private record AcceptedQuestion(
+        UUID tenantId,
+        UUID sessionId,
+        String traceId,
+        String questionMasked,
+        String userRole,
+        String tenantKey,
+        int topK,
+        BudgetSnapshot budgetSnapshot,
+        MessageView questionMessage
+    ) {
+    }
+}
@@ -1,5 +1,6 @@
 package com.aichatbot.message.application;
 
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
@@ -16,6 +17,8 @@ public class MvpObservabilityMetrics {
     private final AtomicLong answerResponsesWithCitation = new AtomicLong();
     private final AtomicLong idempotencyRedisFallbackTotal = new AtomicLong();
     private final Timer sseFirstTokenSeconds;
+    private final Counter answerCacheHitTotal;
+    private final Counter answerCacheMissTotal;
 
     public MvpObservabilityMetrics(MeterRegistry meterRegistry) {
         this.sseFirstTokenSeconds = Timer.builder("sse_first_token_seconds")
@@ -23,6 +26,13 @@ public class MvpObservabilityMetrics {
             .publishPercentiles(0.5, 0.95, 0.99)
             .register(meterRegistry);
 
+        this.answerCacheHitTotal = Counter.builder("answer_cache_hit_total")
+            .description("Answers served from the answer cache without an LLM call")
+            .register(meterRegistry);
+        this.answerCacheMissTotal = Counter.builder("answer_cache_miss_total")
+            .description("Answer cache lookups that fell through to LLM generation")
+            .register(meterRegistry);
+
         Gauge.builder("fail_closed_rate", this, MvpObservabilityMetrics::failClosedRate)
             .description("Ratio of fail-closed responses to total responses")
             .register(meterRegistry);
@@ -55,6 +65,14 @@ public class MvpObservabilityMetrics {
         sseFirstTokenSeconds.record(Duration.ofMillis(elapsedMs));
     }
 
+    public void recordAnswerCache(boolean hit) {
+        if (hit) {
+            answerCacheHitTotal.increment();
+        } else {
+            answerCacheMissTotal.increment();
+        }
+    }
+
     public void recordIdempotencyRedisFallback() {
         idempotencyRedisFallbackTotal.incrementAndGet();
     }
@@ -0,0 +1,181 @@
+package com.aichatbot.message.application;
+
+import com.aichatbot.message.infrastructure.StreamEventRepository;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+final class RemoteStreamTail {
+
+    private static final Logger log = LoggerFactory.getLogger(RemoteStreamTail.class);
+    private static final long BACKFILL_RETRY_NANOS = TimeUnit.MILLISECONDS.toNanos(250L);
+
+    private final UUID tenantId;
+    private final UUID messageId;
+    private final StreamEventRepository streamEventRepository;
+    private final LiveStreamHub.Subscriber subscriber;
+    private final Executor executor;
+    private final int pendingCapacity;
+    private final TreeMap<Integer, StreamEventView> pending = new TreeMap<>();
+    private Runnable unsubscribe;
+    private boolean started;
+    private boolean closed;
+    private boolean draining;
+    private boolean doneRelayed;
+    private boolean backfilledAfterDone;
+    private int lastDeliveredSeq;
+    private int lastBackfillFromSeq = -1;
+    private long lastBackfillAtNanos;
+
+    RemoteStreamTail(
+        UUID tenantId,
+        UUID messageId,
+        StreamEventRepository streamEventRepository,
+        LiveStreamHub.Subscriber subscriber,
+        Executor executor,
+        int pendingCapacity
+    ) {
+        this.tenantId = tenantId;
+        this.messageId = messageId;
+        this.streamEventRepository = streamEventRepository;
+        this.subscriber = subscriber;
+        this.executor = executor;
+        this.pendingCapacity = Math.max(1, pendingCapacity);
+    }
+
+    synchronized void bind(Runnable unsubscribe) {
+        this.unsubscribe = unsubscribe;
+        if (closed && unsubscribe != null) {
+            unsubscribe.run();
+        }
+    }
+
+    // Redis listener 스레드에서 호출되므로 버퍼에 넣고 drain 예약만 한다.
+    synchronized void onRemoteEvent(StreamEventView event) {
+        if (closed) {
+            return;
+        }
+        if (pending.size() >= pendingCapacity && !pending.containsKey(event.eventSeq())) {
+            log.warn("remote stream tail overflowed messageId={} pending={}", messageId, pending.size());
+            close();
+            try {
+                executor.execute(subscriber::onClose);
+            } catch (RejectedExecutionException exception) {
+                log.debug("remote stream tail close rejected messageId={}", messageId, exception);
+            }
+            return;
+        }
+        pending.put(event.eventSeq(), event);
+        doneRelayed |= "done".equals(event.eventType());
+        if (started) {
+            scheduleDrain();
+        }
+    }
+
+    synchronized void start(int replayedThroughSeq) {
+        lastDeliveredSeq = replayedThroughSeq;
+        started = true;
+        scheduleDrain();
+    }
+
+    synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        pending.clear();
+        if (unsubscribe != null) {
+            unsubscribe.run();
+        }
+    }
+
+    private void scheduleDrain() {
+        if (draining || closed) {
+            return;
+        }
+        draining = true;
+        try {
+            executor.execute(this::drain);
+        } catch (RejectedExecutionException exception) {
+            draining = false;
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            StreamEventView next = null;
+            int backfillFromSeq = -1;
+            synchronized (this) {
+                if (closed) {
+                    draining = false;
+                    return;
+                }
+                pending.headMap(lastDeliveredSeq, true).clear();
+                if (!pending.isEmpty() && pending.firstKey() == lastDeliveredSeq + 1) {
+                    next = pending.pollFirstEntry().getValue();
+                } else if (!pending.isEmpty() && backfillDue()) {
+                    backfillFromSeq = lastDeliveredSeq;
+                } else {
+                    draining = false;
+                    return;
+                }
+            }
+            if (next == null) {
+                backfill(backfillFromSeq);
+                continue;
+            }
+            try {
+                subscriber.onEvent(next);
+            } catch (Exception exception) {
+                close();
+                return;
+            }
+            synchronized (this) {
+                lastDeliveredSeq = next.eventSeq();
+            }
+            if ("done".equals(next.eventType())) {
+                close();
+                subscriber.onClose();
+                return;
+            }
+        }
+    }
+
+    private boolean backfillDue() {
+        // Why: 같은 빈 구간은 한 번만 저장소에서 읽고, 그 뒤로는 done 도착 시나 재시도 간격이 지난 뒤에만 다시 읽어 relay 이벤트마다 DB를 치지 않는다.
+        if (lastBackfillFromSeq != lastDeliveredSeq) {
+            return true;
+        }
+        if (doneRelayed && !backfilledAfterDone) {
+            return true;
+        }
+        return System.nanoTime() - lastBackfillAtNanos >= BACKFILL_RETRY_NANOS;
+    }
+
+    private void backfill(int fromSeqExclusive) {
+        synchronized (this) {
+            lastBackfillFromSeq = fromSeqExclusive;
+            lastBackfillAtNanos = System.nanoTime();
+            backfilledAfterDone = doneRelayed;
+        }
+        List<StreamEventView> stored;
+        try {
+            stored = streamEventRepository.findByMessageFromSeq(tenantId, messageId, fromSeqExclusive);
+        } catch (RuntimeException exception) {
+            log.warn("remote stream tail backfill failed messageId={} fromSeq={}", messageId, fromSeqExclusive, exception);
+            return;
+        }
+        synchronized (this) {
+            for (StreamEventView event : stored) {
+                if (event.eventSeq() > lastDeliveredSeq) {
+                    pending.putIfAbsent(event.eventSeq(), event);
+                }
+            }
+        }
+    }
+}
@@ -3,42 +3,146 @@ package com.aichatbot.message.application;
 import com.aichatbot.global.config.AppProperties;
 import com.aichatbot.global.error.ErrorCatalog;
 import com.aichatbot.global.error.QuotaExceededException;
+import com.aichatbot.message.infrastructure.RedisSseLeaseStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 
 @Component
 public class SseConcurrencyGuard {
 
+    private static final Logger log = LoggerFactory.getLogger(SseConcurrencyGuard.class);
+
     private final AppProperties appProperties;
+    private final RedisSseLeaseStore redisSseLeaseStore;
+    private final Counter redisFallbackTotal;
+    private final Counter refreshFailedTotal;
+    private final AtomicInteger activeStreams = new AtomicInteger();
     private final ConcurrentHashMap<String, AtomicInteger> activeConnections = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Set<String>> distributedLeases = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService leaseRefresher;
 
-    public SseConcurrencyGuard(AppProperties appProperties) {
+    public SseConcurrencyGuard(AppProperties appProperties, RedisSseLeaseStore redisSseLeaseStore, MeterRegistry meterRegistry) {
         this.appProperties = appProperties;
+        this.redisSseLeaseStore = redisSseLeaseStore;
+        this.redisFallbackTotal = Counter.builder("sse_guard_redis_fallback_total")
+            .description("SSE slot checks that fell back to the node-local guard because Redis was unavailable")
+            .register(meterRegistry);
+        this.refreshFailedTotal = Counter.builder("sse_lease_refresh_failed_total")
+            .description("SSE lease refresh calls that failed or found leases already expired in Redis")
+            .register(meterRegistry);
+        Gauge.builder("sse_active_streams", activeStreams, AtomicInteger::get)
+            .description("SSE streams holding a concurrency slot on this node")
+            .register(meterRegistry);
+        AppProperties.Stream stream = appProperties.getStream();
+        long refreshIntervalMs = stream.getSseLeaseRefreshIntervalMs();
+        if ("redis".equalsIgnoreCase(stream.getSseGuard())) {
+            validateLeaseTiming(stream.getSseLeaseTtlSeconds() * 1000L, refreshIntervalMs);
+        }
+        if (redisSseLeaseStore.enabled()) {
+            this.leaseRefresher = new ScheduledThreadPoolExecutor(1, runnable -> {
+                Thread thread = new Thread(runnable, "sse-lease-refresher");
+                thread.setDaemon(true);
+                return thread;
+            });
+            // Why: lease 갱신은 소켓 쓰기와 분리된 전용 스케줄에서 사용자 키당 한 번의 호출로 처리해, 느린 연결이 TTL 만료를 부르지 않게 한다.
+            leaseRefresher.scheduleWithFixedDelay(this::refreshLeases, refreshIntervalMs, refreshIntervalMs, TimeUnit.MILLISECONDS);
+        } else {
+            this.leaseRefresher = null;
+        }
+    }
+
+    static void validateLeaseTiming(long leaseTtlMs, long refreshIntervalMs) {
+        if (refreshIntervalMs <= 0L) {
+            throw new IllegalStateException("app.stream.sse-lease-refresh-interval-ms must be positive when app.stream.sse-guard=redis");
+        }
+        if (leaseTtlMs <= refreshIntervalMs * 2L) {
+            throw new IllegalStateException(
+                "app.stream.sse-lease-ttl-seconds must exceed twice app.stream.sse-lease-refresh-interval-ms"
+            );
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (leaseRefresher != null) {
+            leaseRefresher.shutdownNow();
+        }
+    }
+
+    public Lease acquire(String userKey) {
+        int limit = appProperties.getBudget().getSseConcurrencyMaxPerUser();
+        String leaseId = UUID.randomUUID().toString();
+        boolean distributed = false;
+        if (redisSseLeaseStore.enabled()) {
+            try {
+                long active = redisSseLeaseStore.tryAcquire(userKey, leaseId, limit);
+                if (active < 0) {
+                    throw quotaExceeded(limit, limit);
+                }
+                distributed = true;
+            } catch (QuotaExceededException exception) {
+                throw exception;
+            } catch (RuntimeException exception) {
+                // Why: Redis 장애가 스트리밍 중단으로 번지지 않도록 복구 전까지 노드 로컬 카운트로 pod별 제한을 유지한다.
+                redisFallbackTotal.increment();
+                log.warn("sse guard redis unavailable; falling back to local guard userKey={} cause={}", userKey, exception.getMessage());
+            }
+        }
+        if (distributed) {
+            distributedLeases.computeIfAbsent(userKey, ignored -> ConcurrentHashMap.newKeySet()).add(leaseId);
+        } else {
+            acquireLocal(userKey, limit);
+        }
+        activeStreams.incrementAndGet();
+        return new Lease(userKey, leaseId, distributed);
     }
 
-    public void acquire(String userKey) {
+    void refreshLeases() {
+        distributedLeases.forEach((userKey, leaseIds) -> {
+            List<String> snapshot = List.copyOf(leaseIds);
+            if (snapshot.isEmpty()) {
+                return;
+            }
+            try {
+                long refreshed = redisSseLeaseStore.refresh(userKey, snapshot);
+                if (refreshed < snapshot.size()) {
+                    refreshFailedTotal.increment();
+                    log.warn("sse leases expired before refresh userKey={} expected={} refreshed={}", userKey, snapshot.size(), refreshed);
+                }
+            } catch (RuntimeException exception) {
+                refreshFailedTotal.increment();
+                log.warn("sse lease refresh failed userKey={} leases={} cause={}", userKey, snapshot.size(), exception.getMessage());
+            }
+        });
+    }
+
+    private void acquireLocal(String userKey, int limit) {
         AtomicInteger counter = activeConnections.computeIfAbsent(userKey, ignored -> new AtomicInteger(0));
         int current = counter.incrementAndGet();
-        int limit = appProperties.getBudget().getSseConcurrencyMaxPerUser();
         if (current > limit) {
             counter.decrementAndGet();
-            throw new QuotaExceededException(
-                HttpStatus.TOO_MANY_REQUESTS,
-                "API-008-429-SSE",
-                ErrorCatalog.messageOf("API-008-429-SSE"),
-                limit,
-                Math.max(0, limit - (current - 1)),
-                Instant.now().plus(10, ChronoUnit.SECONDS).getEpochSecond(),
-                10L
-            );
+            throw quotaExceeded(limit, current - 1);
         }
     }
 
-    public void release(String userKey) {
+    private void releaseLocal(String userKey) {
         AtomicInteger counter = activeConnections.get(userKey);
         if (counter == null) {
             return;
@@ -48,4 +152,55 @@ public class SseConcurrencyGuard {
             activeConnections.remove(userKey);
         }
     }
+
+    private void forgetDistributed(String userKey, String leaseId) {
+        distributedLeases.computeIfPresent(userKey, (ignored, leaseIds) -> {
+            leaseIds.remove(leaseId);
+            return leaseIds.isEmpty() ? null : leaseIds;
+        });
+    }
+
+    private QuotaExceededException quotaExceeded(int limit, int active) {
+        return new QuotaExceededException(
+            HttpStatus.TOO_MANY_REQUESTS,
+            "API-008-429-SSE",
+            ErrorCatalog.messageOf("API-008-429-SSE"),
+            limit,
+            Math.max(0, limit - active),
+            Instant.now().plus(10, ChronoUnit.SECONDS).getEpochSecond(),
+            10L
+        );
+    }
+
+    public final class Lease {
+
+        private final String userKey;
+        private final String leaseId;
+        private final boolean distributed;
+        private final AtomicBoolean released = new AtomicBoolean(false);
+
+        private Lease(String userKey, String leaseId, boolean distributed) {
+            this.userKey = userKey;
+            this.leaseId = leaseId;
+            this.distributed = distributed;
+        }
+
+        public void release() {
+            if (!released.compareAndSet(false, true)) {
+                return;
+            }
+            activeStreams.decrementAndGet();
+            if (!distributed) {
+                releaseLocal(userKey);
+                return;
+            }
+            forgetDistributed(userKey, leaseId);
+            try {
+                redisSseLeaseStore.release(userKey, leaseId);
+            } catch (RuntimeException exception) {
+                // 갱신이 멈추면 lease는 TTL이 지나 스스로 만료된다.
+                log.warn("sse lease release failed userKey={} cause={}", userKey, exception.getMessage());
+            }
+        }
+    }
 }
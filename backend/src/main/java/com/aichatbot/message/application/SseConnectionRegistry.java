@@ -0,0 +1,109 @@
+package com.aichatbot.message.application;
+
+import com.aichatbot.global.config.AppProperties;
+import com.aichatbot.global.error.ApiException;
+import com.aichatbot.global.error.ErrorCatalog;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Component
+public class SseConnectionRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(SseConnectionRegistry.class);
+
+    private final AppProperties appProperties;
+    private final Set<Connection> connections = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger openConnections = new AtomicInteger();
+    private final Counter rejectedTotal;
+    private final ScheduledThreadPoolExecutor timer;
+
+    public SseConnectionRegistry(AppProperties appProperties, MeterRegistry meterRegistry) {
+        this.appProperties = appProperties;
+        Gauge.builder("sse_connections_active", openConnections, AtomicInteger::get)
+            .description("SSE connections currently open on this node")
+            .register(meterRegistry);
+        this.rejectedTotal = Counter.builder("sse_connections_rejected_total")
+            .description("SSE connections refused because this node reached its stream limit")
+            .register(meterRegistry);
+        this.timer = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "sse-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.timer.setRemoveOnCancelPolicy(true);
+        long heartbeatIntervalMs = appProperties.getStream().getHeartbeatIntervalMs();
+        if (heartbeatIntervalMs > 0L) {
+            timer.scheduleWithFixedDelay(this::sendHeartbeats, heartbeatIntervalMs, heartbeatIntervalMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public Connection open(SseEmitter emitter) {
+        int limit = appProperties.getStream().getMaxConcurrentStreams();
+        if (openConnections.incrementAndGet() > limit) {
+            openConnections.decrementAndGet();
+            rejectedTotal.increment();
+            throw new ApiException(
+                HttpStatus.SERVICE_UNAVAILABLE,
+                "SYS-003-503",
+                ErrorCatalog.messageOf("SYS-003-503"),
+                List.of("sse_node_stream_limit")
+            );
+        }
+        Connection connection = new Connection(emitter);
+        connections.add(connection);
+        return connection;
+    }
+
+    public void schedule(long delayMs, Runnable task) {
+        timer.schedule(task, Math.max(0L, delayMs), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timer.shutdownNow();
+    }
+
+    private void sendHeartbeats() {
+        for (Connection connection : connections) {
+            try {
+                // 주석 줄은 클라이언트의 Last-Event-ID를 바꾸지 않고 프록시 idle 종료만 막는다.
+                connection.emitter.send(SseEmitter.event().comment("heartbeat"));
+            } catch (Exception exception) {
+                log.debug("sse heartbeat failed", exception);
+                connection.close();
+                connection.emitter.completeWithError(exception);
+            }
+        }
+    }
+
+    public final class Connection {
+
+        private final SseEmitter emitter;
+        private final AtomicBoolean closed = new AtomicBoolean(false);
+
+        private Connection(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        public void close() {
+            if (closed.compareAndSet(false, true)) {
+                connections.remove(this);
+                openConnections.decrementAndGet();
+            }
+        }
+    }
+}
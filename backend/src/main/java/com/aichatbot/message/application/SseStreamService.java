@@ -14,6 +14,7 @@ import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicBoolean;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
@@ -24,6 +25,8 @@ public class SseStreamService {
     private final ConversationRepository conversationRepository;
     private final StreamEventRepository streamEventRepository;
     private final SseConcurrencyGuard sseConcurrencyGuard;
+    private final LiveStreamHub liveStreamHub;
+    private final SseConnectionRegistry sseConnectionRegistry;
     private final MvpObservabilityMetrics mvpObservabilityMetrics;
     private final ObjectMapper objectMapper;
     private final AppProperties appProperties;
@@ -33,6 +36,8 @@ public class SseStreamService {
         ConversationRepository conversationRepository,
         StreamEventRepository streamEventRepository,
         SseConcurrencyGuard sseConcurrencyGuard,
+        LiveStreamHub liveStreamHub,
+        SseConnectionRegistry sseConnectionRegistry,
         MvpObservabilityMetrics mvpObservabilityMetrics,
         ObjectMapper objectMapper,
         AppProperties appProperties
@@ -41,6 +46,8 @@ public class SseStreamService {
         this.conversationRepository = conversationRepository;
         this.streamEventRepository = streamEventRepository;
         this.sseConcurrencyGuard = sseConcurrencyGuard;
+        this.liveStreamHub = liveStreamHub;
+        this.sseConnectionRegistry = sseConnectionRegistry;
         this.mvpObservabilityMetrics = mvpObservabilityMetrics;
         this.objectMapper = objectMapper;
         this.appProperties = appProperties;
@@ -67,23 +74,42 @@ public class SseStreamService {
         }
 
         String userKey = principal.tenantId() + ":" + principal.userId();
-        sseConcurrencyGuard.acquire(userKey);
+        SseConcurrencyGuard.Lease lease = sseConcurrencyGuard.acquire(userKey);
+
+        SseEmitter emitter = new SseEmitter(appProperties.getStream().getSseTimeoutMs());
+        SseConnectionRegistry.Connection connection;
+        try {
+            connection = sseConnectionRegistry.open(emitter);
+        } catch (RuntimeException exception) {
+            lease.release();
+            throw exception;
+        }
 
         AtomicBoolean released = new AtomicBoolean(false);
         Runnable releaseGuard = () -> {
             // Why: onCompletion/onTimeout/onError/finally can race, so release only once.
             if (released.compareAndSet(false, true)) {
-                sseConcurrencyGuard.release(userKey);
+                connection.close();
+                lease.release();
             }
         };
 
-        SseEmitter emitter = new SseEmitter(60_000L);
-        emitter.onCompletion(releaseGuard);
-        emitter.onTimeout(releaseGuard);
-        emitter.onError(ex -> releaseGuard.run());
+        long streamOpenedAtNanos = System.nanoTime();
+        LiveSubscriber liveSubscriber = new LiveSubscriber(emitter, streamOpenedAtNanos, releaseGuard);
+        Runnable detach = () -> {
+            liveStreamHub.unsubscribe(messageId, liveSubscriber);
+            liveSubscriber.closeRemoteTail();
+            releaseGuard.run();
+        };
+        emitter.onCompletion(detach);
+        emitter.onTimeout(() -> {
+            detach.run();
+            emitter.complete();
+        });
+        emitter.onError(ex -> detach.run());
 
+        boolean live = false;
         try {
-            long streamOpenedAtNanos = System.nanoTime();
             boolean firstTokenRecorded = false;
             if (fromEventSeqExclusive <= 0) {
                 send(
@@ -95,24 +121,42 @@ public class SseStreamService {
                         .put("trace_id", requestTraceId)
                 );
             }
+            live = liveStreamHub.subscribe(messageId, fromEventSeqExclusive, liveSubscriber);
+            if (live) {
+                return emitter;
+            }
+            RemoteStreamTail remoteTail = liveStreamHub.openRemoteTail(tenantId, messageId, liveSubscriber);
+            liveSubscriber.attachRemoteTail(remoteTail);
+            int replayedThroughSeq = fromEventSeqExclusive;
+            boolean doneReplayed = false;
             List<StreamEventView> events = streamEventRepository.findByMessageFromSeq(tenantId, messageId, fromEventSeqExclusive);
             for (StreamEventView event : events) {
-                Object payload = parsePayload(event.payloadJson());
-                send(emitter, event.eventSeq(), event.eventType(), payload);
+                sendStored(emitter, event);
+                replayedThroughSeq = event.eventSeq();
+                doneReplayed |= "done".equals(event.eventType());
                 if (!firstTokenRecorded && "token".equals(event.eventType())) {
                     long elapsedMs = (System.nanoTime() - streamOpenedAtNanos) / 1_000_000L;
                     mvpObservabilityMetrics.recordSseFirstToken(elapsedMs);
                     firstTokenRecorded = true;
                 }
             }
+            if (remoteTail != null && !doneReplayed) {
+                live = true;
+                liveSubscriber.markTokenRecorded(firstTokenRecorded);
+                remoteTail.start(replayedThroughSeq);
+                return emitter;
+            }
+            liveSubscriber.closeRemoteTail();
             long holdMs = Math.max(0L, appProperties.getBudget().getSseHoldMs());
             if (holdMs > 0L) {
-                Thread.sleep(holdMs);
+                live = true;
+                sseConnectionRegistry.schedule(holdMs, () -> {
+                    releaseGuard.run();
+                    emitter.complete();
+                });
+                return emitter;
             }
             emitter.complete();
-        } catch (InterruptedException interruptedException) {
-            Thread.currentThread().interrupt();
-            emitter.completeWithError(interruptedException);
         } catch (Exception exception) {
             try {
                 send(
@@ -128,17 +172,62 @@ public class SseStreamService {
             }
             emitter.completeWithError(exception);
         } finally {
-            releaseGuard.run();
+            if (!live) {
+                releaseGuard.run();
+            }
         }
 
         return emitter;
     }
 
-    private Object parsePayload(String payloadJson) throws IOException {
-        if (payloadJson == null || payloadJson.isBlank()) {
-            return objectMapper.createObjectNode();
+    private final class LiveSubscriber implements LiveStreamHub.Subscriber {
+
+        private final SseEmitter emitter;
+        private final long streamOpenedAtNanos;
+        private final Runnable releaseGuard;
+        private volatile RemoteStreamTail remoteTail;
+        private boolean firstTokenRecorded;
+
+        private LiveSubscriber(SseEmitter emitter, long streamOpenedAtNanos, Runnable releaseGuard) {
+            this.emitter = emitter;
+            this.streamOpenedAtNanos = streamOpenedAtNanos;
+            this.releaseGuard = releaseGuard;
+        }
+
+        @Override
+        public void onEvent(StreamEventView event) throws IOException {
+            try {
+                sendStored(emitter, event);
+            } catch (IOException | RuntimeException exception) {
+                releaseGuard.run();
+                throw exception;
+            }
+            if (!firstTokenRecorded && "token".equals(event.eventType())) {
+                mvpObservabilityMetrics.recordSseFirstToken((System.nanoTime() - streamOpenedAtNanos) / 1_000_000L);
+                firstTokenRecorded = true;
+            }
+        }
+
+        private void attachRemoteTail(RemoteStreamTail remoteTail) {
+            this.remoteTail = remoteTail;
+        }
+
+        private void markTokenRecorded(boolean recorded) {
+            firstTokenRecorded |= recorded;
+        }
+
+        private void closeRemoteTail() {
+            RemoteStreamTail tail = remoteTail;
+            if (tail != null) {
+                tail.close();
+            }
+        }
+
+        @Override
+        public void onClose() {
+            releaseGuard.run();
+            emitter.complete();
         }
-        return objectMapper.readTree(payloadJson);
     }
 
     private MessageView requireMessageInTenant(UUID tenantId, UUID messageId) {
@@ -190,6 +279,16 @@ public class SseStreamService {
         );
     }
 
+    private void sendStored(SseEmitter emitter, StreamEventView event) throws IOException {
+        String payloadJson = event.payloadJson();
+        emitter.send(
+            SseEmitter.event()
+                .id(String.valueOf(event.eventSeq()))
+                .name(event.eventType())
+                .data(payloadJson == null || payloadJson.isBlank() ? "{}" : payloadJson, MediaType.APPLICATION_JSON)
+        );
+    }
+
     private void send(SseEmitter emitter, int eventSeq, String eventName, Object payload) throws IOException {
         emitter.send(
             SseEmitter.event()
@@ -0,0 +1,86 @@
+package com.aichatbot.message.application;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.stereotype.Component;
+
+@Component
+public class StreamEventPublisher {
+
+    private final StreamEventWriteBehind streamEventWriteBehind;
+    private final LiveStreamHub liveStreamHub;
+
+    public StreamEventPublisher(StreamEventWriteBehind streamEventWriteBehind, LiveStreamHub liveStreamHub) {
+        this.streamEventWriteBehind = streamEventWriteBehind;
+        this.liveStreamHub = liveStreamHub;
+    }
+
+    public MessageEventStream open(UUID tenantId, MessageView answerMessage, String traceId) {
+        UUID messageId = answerMessage.id();
+        liveStreamHub.open(tenantId, messageId);
+        StreamEventWriteBehind.MessageBuffer buffer = streamEventWriteBehind.open(tenantId, messageId, answerMessage.createdAt(), traceId);
+        buffer.onPersisted(seq -> liveStreamHub.markPersisted(messageId, seq));
+        return new MessageEventStream(messageId, buffer);
+    }
+
+    public final class MessageEventStream {
+
+        private final UUID messageId;
+        private final StreamEventWriteBehind.MessageBuffer buffer;
+        private int nextSeq = 1;
+
+        private MessageEventStream(UUID messageId, StreamEventWriteBehind.MessageBuffer buffer) {
+            this.messageId = messageId;
+            this.buffer = buffer;
+        }
+
+        public UUID messageId() {
+            return messageId;
+        }
+
+        public void append(String eventType, String payloadJson) {
+            appendAll(List.of(new Draft(eventType, payloadJson)));
+        }
+
+        public void appendAll(List<Draft> drafts) {
+            for (Draft draft : drafts) {
+                offer(new StreamEventView(nextSeq++, draft.eventType(), draft.payloadJson()));
+            }
+        }
+
+        public void appendToken(String payloadJson) {
+            offer(new StreamEventView(nextSeq++, "token", payloadJson));
+        }
+
+        public void finish(List<Draft> closingDrafts) {
+            try {
+                List<StreamEventView> closing = new ArrayList<>(closingDrafts.size());
+                for (Draft draft : closingDrafts) {
+                    closing.add(new StreamEventView(nextSeq++, draft.eventType(), draft.payloadJson()));
+                }
+                // Why: 종료 이벤트는 done까지 모든 행이 저장된 뒤에 내보내므로 원격 tail과 종료 후 재접속이 저장소에서 빈 구간을 채울 수 있다.
+                buffer.flushAndAwait(closing);
+                for (StreamEventView event : closing) {
+                    liveStreamHub.publish(messageId, event);
+                }
+            } finally {
+                liveStreamHub.close(messageId);
+            }
+        }
+
+        public void abort() {
+            buffer.discard();
+            liveStreamHub.close(messageId);
+        }
+
+        private void offer(StreamEventView event) {
+            // 버퍼에 넣은 이벤트는 hub에서 바로 읽히고, 저장소는 그 뒤를 seq 순서로 따라온다.
+            buffer.offer(event);
+            liveStreamHub.publish(messageId, event);
+        }
+    }
+
+    public record Draft(String eventType, String payloadJson) {
+    }
+}
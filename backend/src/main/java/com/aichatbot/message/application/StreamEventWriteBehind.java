@@ -0,0 +1,199 @@
+package com.aichatbot.message.application;
+
+import com.aichatbot.global.config.AppProperties;
+import com.aichatbot.global.observability.TraceContext;
+import com.aichatbot.message.infrastructure.StreamEventRepository;
+import jakarta.annotation.PreDestroy;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+@Component
+public class StreamEventWriteBehind {
+
+    private static final Logger log = LoggerFactory.getLogger(StreamEventWriteBehind.class);
+
+    private final StreamEventRepository streamEventRepository;
+    private final StreamEventWriteMetrics streamEventWriteMetrics;
+    private final AppProperties appProperties;
+    private final ThreadPoolExecutor flushExecutor;
+
+    public StreamEventWriteBehind(
+        StreamEventRepository streamEventRepository,
+        StreamEventWriteMetrics streamEventWriteMetrics,
+        AppProperties appProperties
+    ) {
+        this.streamEventRepository = streamEventRepository;
+        this.streamEventWriteMetrics = streamEventWriteMetrics;
+        this.appProperties = appProperties;
+        int threads = Math.max(1, appProperties.getStream().getWriteFlushThreads());
+        AtomicInteger threadSequence = new AtomicInteger();
+        this.flushExecutor = new ThreadPoolExecutor(
+            threads,
+            threads,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(256),
+            runnable -> {
+                Thread thread = new Thread(runnable, "stream-event-flush-" + threadSequence.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+        streamEventWriteMetrics.bindExecutor(flushExecutor);
+    }
+
+    public MessageBuffer open(UUID tenantId, UUID messageId, Instant messageCreatedAt, String traceId) {
+        return new MessageBuffer(tenantId, messageId, messageCreatedAt, traceId);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flushExecutor.shutdown();
+    }
+
+    public final class MessageBuffer {
+
+        private final UUID tenantId;
+        private final UUID messageId;
+        private final Instant messageCreatedAt;
+        private final String traceId;
+        private final ArrayDeque<StreamEventView> pending = new ArrayDeque<>();
+        private boolean flushing;
+        private volatile IntConsumer onPersisted = seq -> { };
+
+        private MessageBuffer(UUID tenantId, UUID messageId, Instant messageCreatedAt, String traceId) {
+            this.tenantId = tenantId;
+            this.messageId = messageId;
+            this.messageCreatedAt = messageCreatedAt;
+            this.traceId = traceId;
+        }
+
+        public void onPersisted(IntConsumer onPersisted) {
+            this.onPersisted = onPersisted;
+        }
+
+        public synchronized void offer(StreamEventView event) {
+            int capacity = Math.max(1, appProperties.getStream().getWriteBufferCapacity());
+            while (pending.size() >= capacity) {
+                // Why: 버퍼가 차면 행을 버리지 않고 생성 스레드를 멈춰, 저장이 느릴 때 이벤트를 잃는 대신 생성이 느려진다.
+                streamEventWriteMetrics.recordBackpressure();
+                if (flushing) {
+                    awaitFlush();
+                } else {
+                    flushInline();
+                }
+            }
+            pending.addLast(event);
+            streamEventWriteMetrics.recordBuffered(1);
+            scheduleFlushIfDue();
+        }
+
+        public synchronized void flushAndAwait(List<StreamEventView> closingEvents) {
+            while (flushing) {
+                awaitFlush();
+            }
+            pending.addAll(closingEvents);
+            streamEventWriteMetrics.recordBuffered(closingEvents.size());
+            if (!pending.isEmpty()) {
+                flushInline();
+            }
+        }
+
+        public synchronized void discard() {
+            streamEventWriteMetrics.recordDiscarded(pending.size());
+            pending.clear();
+        }
+
+        private void scheduleFlushIfDue() {
+            int batchSize = Math.max(1, appProperties.getLlm().getStreamPersistBatchSize());
+            if (flushing || pending.size() < batchSize) {
+                return;
+            }
+            // 메시지당 배치 하나만 진행해 행이 seq 순서로 쌓이므로, 재개 시 저장소에는 항상 빈틈없는 앞부분이 있다.
+            List<StreamEventView> batch = takePending();
+            flushing = true;
+            try {
+                flushExecutor.execute(() -> flushInBackground(batch));
+            } catch (RejectedExecutionException exception) {
+                flushing = false;
+                requeue(batch);
+                flushInline();
+            }
+        }
+
+        private void flushInBackground(List<StreamEventView> batch) {
+            TraceContext.setTraceId(traceId);
+            try {
+                write(batch);
+                synchronized (this) {
+                    flushing = false;
+                    scheduleFlushIfDue();
+                    notifyAll();
+                }
+            } catch (RuntimeException exception) {
+                log.warn("stream event flush failed messageId={} events={}", messageId, batch.size(), exception);
+                streamEventWriteMetrics.recordFlushFailed();
+                synchronized (this) {
+                    // 실패한 행은 버퍼 앞쪽으로 돌아가 다음 flush에서 새 행보다 먼저 재시도된다.
+                    flushing = false;
+                    requeue(batch);
+                    notifyAll();
+                }
+            } finally {
+                TraceContext.clear();
+            }
+        }
+
+        private void flushInline() {
+            List<StreamEventView> batch = takePending();
+            try {
+                write(batch);
+            } catch (RuntimeException exception) {
+                streamEventWriteMetrics.recordFlushFailed();
+                requeue(batch);
+                throw exception;
+            }
+        }
+
+        private void write(List<StreamEventView> batch) {
+            long startedAtNanos = System.nanoTime();
+            streamEventRepository.saveAll(tenantId, messageId, messageCreatedAt, batch);
+            streamEventWriteMetrics.recordFlushed(batch.size(), (System.nanoTime() - startedAtNanos) / 1_000_000L);
+            onPersisted.accept(batch.get(batch.size() - 1).eventSeq());
+        }
+
+        private List<StreamEventView> takePending() {
+            List<StreamEventView> batch = new ArrayList<>(pending);
+            pending.clear();
+            return batch;
+        }
+
+        private void requeue(List<StreamEventView> batch) {
+            for (int i = batch.size() - 1; i >= 0; i--) {
+                pending.addFirst(batch.get(i));
+            }
+        }
+
+        private void awaitFlush() {
+            try {
+                wait();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("stream_event_persist_interrupted", exception);
+            }
+        }
+    }
+}
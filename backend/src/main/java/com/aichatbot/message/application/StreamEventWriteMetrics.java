@@ -0,0 +1,64 @@
+package com.aichatbot.message.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.stereotype.Component;
+
+@Component
+public class StreamEventWriteMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final AtomicInteger bufferedEvents = new AtomicInteger();
+    private final Timer flushSeconds;
+    private final Counter flushFailedTotal;
+    private final Counter backpressureTotal;
+
+    public StreamEventWriteMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("stream_event_write_queue_depth", bufferedEvents, AtomicInteger::get)
+            .description("Stream events accepted but not yet written to tb_stream_event")
+            .register(meterRegistry);
+        this.flushSeconds = Timer.builder("stream_event_flush_seconds")
+            .description("Time to write one ordered batch of stream events")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(meterRegistry);
+        this.flushFailedTotal = Counter.builder("stream_event_flush_failed_total")
+            .description("Stream event batches whose write failed and were kept for retry")
+            .register(meterRegistry);
+        this.backpressureTotal = Counter.builder("stream_event_write_backpressure_total")
+            .description("Appends that waited because a message's write buffer was full")
+            .register(meterRegistry);
+    }
+
+    public void bindExecutor(ThreadPoolExecutor executor) {
+        Gauge.builder("stream_event_flush_tasks_queued", executor, pool -> pool.getQueue().size())
+            .description("Stream event batches waiting for a flush thread")
+            .register(meterRegistry);
+    }
+
+    public void recordBuffered(int events) {
+        bufferedEvents.addAndGet(events);
+    }
+
+    public void recordFlushed(int events, long elapsedMs) {
+        bufferedEvents.addAndGet(-events);
+        flushSeconds.record(Duration.ofMillis(Math.max(0L, elapsedMs)));
+    }
+
+    public void recordDiscarded(int events) {
+        bufferedEvents.addAndGet(-events);
+    }
+
+    public void recordFlushFailed() {
+        flushFailedTotal.increment();
+    }
+
+    public void recordBackpressure() {
+        backpressureTotal.increment();
+    }
+}
@@ -14,6 +14,10 @@ public interface MessageMapper {
                @Param("messageText") String messageText,
                @Param("traceId") UUID traceId);
 
+    int updateText(@Param("tenantId") UUID tenantId,
+                   @Param("messageId") UUID messageId,
+                   @Param("messageText") String messageText);
+
     MessageRow findById(@Param("tenantId") UUID tenantId, @Param("messageId") UUID messageId);
 
     MessageRow findByIdWithoutTenant(@Param("messageId") UUID messageId);
@@ -1,6 +1,7 @@
 package com.aichatbot.message.domain.mapper;
 
-import com.aichatbot.message.application.StreamEventView;
+import com.aichatbot.message.infrastructure.StreamEventInsertRow;
+import com.aichatbot.message.infrastructure.StreamEventStoredRow;
 import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
@@ -16,7 +17,12 @@ public interface StreamEventMapper {
              @Param("eventType") String eventType,
              @Param("payloadJson") String payloadJson);
 
-    List<StreamEventView> findByMessageFromSeq(@Param("tenantId") UUID tenantId,
-                                               @Param("messageId") UUID messageId,
-                                               @Param("fromEventSeqExclusive") int fromEventSeqExclusive);
+    int saveAll(@Param("tenantId") UUID tenantId,
+                @Param("messageId") UUID messageId,
+                @Param("messageCreatedAt") Instant messageCreatedAt,
+                @Param("events") List<StreamEventInsertRow> events);
+
+    List<StreamEventStoredRow> findByMessageFromSeq(@Param("tenantId") UUID tenantId,
+                                                    @Param("messageId") UUID messageId,
+                                                    @Param("fromEventSeqExclusive") int fromEventSeqExclusive);
 }
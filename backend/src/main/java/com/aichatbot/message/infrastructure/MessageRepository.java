@@ -33,6 +33,10 @@ public class MessageRepository {
         return findById(tenantId, messageId).orElseThrow();
     }
 
+    public void updateText(UUID tenantId, UUID messageId, String messageText) {
+        messageMapper.updateText(tenantId, messageId, messageText);
+    }
+
     public Optional<MessageView> findById(UUID tenantId, UUID messageId) {
         MessageRow row = messageMapper.findById(tenantId, messageId);
         if (row == null) {
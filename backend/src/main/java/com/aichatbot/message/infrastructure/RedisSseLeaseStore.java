@@ -0,0 +1,92 @@
+package com.aichatbot.message.infrastructure;
+
+import com.aichatbot.global.config.AppProperties;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+@Component
+public class RedisSseLeaseStore {
+
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>(
+        "local time = redis.call('TIME') "
+            + "local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000) "
+            + "redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', now) "
+            + "local active = redis.call('ZCARD', KEYS[1]) "
+            + "if active >= tonumber(ARGV[2]) then return -1 end "
+            + "redis.call('ZADD', KEYS[1], now + tonumber(ARGV[3]), ARGV[1]) "
+            + "redis.call('PEXPIRE', KEYS[1], ARGV[3]) "
+            + "return active + 1",
+        Long.class
+    );
+    private static final RedisScript<Long> REFRESH_SCRIPT = new DefaultRedisScript<>(
+        "local time = redis.call('TIME') "
+            + "local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000) "
+            + "local expiry = now + tonumber(ARGV[1]) "
+            + "local refreshed = 0 "
+            + "for i = 2, #ARGV do refreshed = refreshed + redis.call('ZADD', KEYS[1], 'XX', 'CH', expiry, ARGV[i]) end "
+            + "if refreshed > 0 then redis.call('PEXPIRE', KEYS[1], ARGV[1]) end "
+            + "return refreshed",
+        Long.class
+    );
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+        "local removed = redis.call('ZREM', KEYS[1], ARGV[1]) "
+            + "if redis.call('ZCARD', KEYS[1]) == 0 then redis.call('DEL', KEYS[1]) end "
+            + "return removed",
+        Long.class
+    );
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final AppProperties appProperties;
+
+    public RedisSseLeaseStore(ObjectProvider<StringRedisTemplate> stringRedisTemplateProvider, AppProperties appProperties) {
+        this.stringRedisTemplate = stringRedisTemplateProvider.getIfAvailable();
+        this.appProperties = appProperties;
+    }
+
+    public boolean enabled() {
+        return "redis".equalsIgnoreCase(appProperties.getStream().getSseGuard()) && stringRedisTemplate != null;
+    }
+
+    public long tryAcquire(String userKey, String leaseId, int limit) {
+        Long active = stringRedisTemplate.execute(
+            ACQUIRE_SCRIPT,
+            List.of(key(userKey)),
+            leaseId,
+            String.valueOf(limit),
+            String.valueOf(leaseTtlMs())
+        );
+        if (active == null) {
+            throw new IllegalStateException("sse_lease_acquire_no_reply");
+        }
+        return active;
+    }
+
+    public long refresh(String userKey, Collection<String> leaseIds) {
+        List<String> args = new ArrayList<>(leaseIds.size() + 1);
+        args.add(String.valueOf(leaseTtlMs()));
+        args.addAll(leaseIds);
+        Long refreshed = stringRedisTemplate.execute(REFRESH_SCRIPT, List.of(key(userKey)), args.toArray());
+        if (refreshed == null) {
+            throw new IllegalStateException("sse_lease_refresh_no_reply");
+        }
+        return refreshed;
+    }
+
+    public void release(String userKey, String leaseId) {
+        stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(key(userKey)), leaseId);
+    }
+
+    private long leaseTtlMs() {
+        return Math.max(1L, appProperties.getStream().getSseLeaseTtlSeconds()) * 1000L;
+    }
+
+    private String key(String userKey) {
+        return appProperties.getStream().getSseGuardRedisKeyPrefix() + userKey;
+    }
+}
@@ -0,0 +1,189 @@
+package com.aichatbot.message.infrastructure;
+
+import com.aichatbot.global.config.AppProperties;
+import com.aichatbot.message.application.StreamEventView;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+@Component
+public class RedisStreamEventRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(RedisStreamEventRelay.class);
+    private static final int OUTGOING_CAPACITY = 8192;
+    private static final int MAX_DRAIN_BATCH = 512;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisConnectionFactory redisConnectionFactory;
+    private final ObjectMapper objectMapper;
+    private final AppProperties appProperties;
+    private final LinkedBlockingQueue<Outgoing> outgoing = new LinkedBlockingQueue<>(OUTGOING_CAPACITY);
+    private final AtomicBoolean draining = new AtomicBoolean(false);
+    private final ExecutorService publishExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "stream-relay-publisher");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private RedisMessageListenerContainer listenerContainer;
+
+    public RedisStreamEventRelay(
+        ObjectProvider<StringRedisTemplate> stringRedisTemplateProvider,
+        ObjectProvider<RedisConnectionFactory> redisConnectionFactoryProvider,
+        ObjectMapper objectMapper,
+        AppProperties appProperties
+    ) {
+        this.stringRedisTemplate = stringRedisTemplateProvider.getIfAvailable();
+        this.redisConnectionFactory = redisConnectionFactoryProvider.getIfAvailable();
+        this.objectMapper = objectMapper;
+        this.appProperties = appProperties;
+    }
+
+    public boolean enabled() {
+        return "redis".equalsIgnoreCase(appProperties.getStream().getRelay())
+            && stringRedisTemplate != null
+            && redisConnectionFactory != null;
+    }
+
+    public void publish(UUID messageId, StreamEventView event) {
+        if (!enabled()) {
+            return;
+        }
+        if (!outgoing.offer(new Outgoing(messageId, event))) {
+            // 큐가 가득 차면 생성 스레드에서 직접 보내 이벤트를 버리지 않고 생산 속도를 늦춘다.
+            send(messageId, List.of(event));
+            return;
+        }
+        scheduleDrain();
+    }
+
+    private void scheduleDrain() {
+        if (!draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            publishExecutor.execute(this::drain);
+        } catch (RejectedExecutionException exception) {
+            draining.set(false);
+        }
+    }
+
+    private void drain() {
+        try {
+            List<Outgoing> drained = new ArrayList<>();
+            while (outgoing.drainTo(drained, MAX_DRAIN_BATCH) > 0) {
+                // Why: 생성 스레드는 큐에만 넣고, 같은 답변의 이벤트는 Redis 메시지 하나로 묶어 왕복 횟수를 토큰 수와 무관하게 만든다.
+                Map<UUID, List<StreamEventView>> byMessage = new LinkedHashMap<>();
+                for (Outgoing item : drained) {
+                    byMessage.computeIfAbsent(item.messageId(), ignored -> new ArrayList<>()).add(item.event());
+                }
+                byMessage.forEach(this::send);
+                drained.clear();
+            }
+        } finally {
+            draining.set(false);
+        }
+        if (!outgoing.isEmpty()) {
+            scheduleDrain();
+        }
+    }
+
+    private void send(UUID messageId, List<StreamEventView> events) {
+        try {
+            ArrayNode batch = objectMapper.createArrayNode();
+            for (StreamEventView event : events) {
+                batch.addObject()
+                    .put("seq", event.eventSeq())
+                    .put("type", event.eventType())
+                    .put("payload", event.payloadJson());
+            }
+            stringRedisTemplate.convertAndSend(channel(messageId), objectMapper.writeValueAsString(batch));
+        } catch (Exception exception) {
+            log.warn(
+                "stream event relay publish failed messageId={} fromSeq={} events={}",
+                messageId,
+                events.get(0).eventSeq(),
+                events.size(),
+                exception
+            );
+        }
+    }
+
+    public Runnable subscribe(UUID messageId, Consumer<StreamEventView> listener) {
+        if (!enabled()) {
+            return null;
+        }
+        ChannelTopic topic = new ChannelTopic(channel(messageId));
+        MessageListener messageListener = (message, pattern) -> {
+            try {
+                JsonNode body = objectMapper.readTree(new String(message.getBody(), StandardCharsets.UTF_8));
+                // 배포 중 이전 노드가 보내는 단건 envelope도 함께 받는다.
+                for (JsonNode envelope : body.isArray() ? body : List.of(body)) {
+                    listener.accept(new StreamEventView(
+                        envelope.path("seq").asInt(),
+                        envelope.path("type").asText(),
+                        envelope.path("payload").asText()
+                    ));
+                }
+            } catch (Exception exception) {
+                log.warn("stream event relay message dropped messageId={}", messageId, exception);
+            }
+        };
+        try {
+            RedisMessageListenerContainer container = container();
+            container.addMessageListener(messageListener, topic);
+            return () -> container.removeMessageListener(messageListener, topic);
+        } catch (RuntimeException exception) {
+            log.warn("stream event relay subscribe failed messageId={}", messageId, exception);
+            return null;
+        }
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() {
+        publishExecutor.shutdown();
+        if (listenerContainer != null) {
+            listenerContainer.stop();
+        }
+    }
+
+    private synchronized RedisMessageListenerContainer container() {
+        if (listenerContainer == null) {
+            // local relay를 쓰는 노드가 구독 연결을 열지 않도록 처음 쓸 때 만든다.
+            RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+            container.setConnectionFactory(redisConnectionFactory);
+            container.afterPropertiesSet();
+            container.start();
+            listenerContainer = container;
+        }
+        return listenerContainer;
+    }
+
+    private String channel(UUID messageId) {
+        return appProperties.getStream().getRedisChannelPrefix() + messageId;
+    }
+
+    private record Outgoing(UUID messageId, StreamEventView event) {
+    }
+}
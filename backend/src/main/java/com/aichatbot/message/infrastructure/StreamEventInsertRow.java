@@ -0,0 +1,11 @@
+package com.aichatbot.message.infrastructure;
+
+import java.util.UUID;
+
+public record StreamEventInsertRow(
+    UUID streamEventId,
+    int eventSeq,
+    String eventType,
+    String payloadJson
+) {
+}
@@ -0,0 +1,71 @@
+package com.aichatbot.message.infrastructure;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+final class StreamEventPayloadCodec {
+
+    private static final String TOKEN_EVENT = "token";
+    private static final String TRACE_ID_FIELD = "trace_id";
+
+    private final ObjectMapper objectMapper;
+
+    StreamEventPayloadCodec(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    String compact(String eventType, String payloadJson, String traceId) {
+        if (!TOKEN_EVENT.equals(eventType) || payloadJson == null || payloadJson.isBlank()) {
+            return payloadJson;
+        }
+        ObjectNode payload = readObject(payloadJson);
+        if (payload == null || !traceId.equals(payload.path(TRACE_ID_FIELD).asText(null))) {
+            return payloadJson;
+        }
+        // Why: token 행이 테이블 대부분을 차지하므로 메시지와 같은 trace_id는 저장하지 않고 조회 시 tb_message 값으로 복원한다.
+        payload.remove(TRACE_ID_FIELD);
+        return write(payload);
+    }
+
+    String expand(String eventType, String storedJson, String traceId) {
+        if (!TOKEN_EVENT.equals(eventType) || storedJson == null || storedJson.isBlank() || traceId == null) {
+            return storedJson;
+        }
+        JsonNode stored = readTree(storedJson);
+        if (stored == null) {
+            return storedJson;
+        }
+        boolean textual = stored.isTextual();
+        JsonNode payload = textual ? readTree(stored.asText()) : stored;
+        if (!(payload instanceof ObjectNode objectPayload) || objectPayload.has(TRACE_ID_FIELD)) {
+            return storedJson;
+        }
+        objectPayload.put(TRACE_ID_FIELD, traceId);
+        String expanded = write(objectPayload);
+        // JSON 문자열 리터럴로 읽힌 행(H2)도 같은 스트림의 다른 행과 같은 모양으로 돌려준다.
+        return textual ? write(objectMapper.getNodeFactory().textNode(expanded)) : expanded;
+    }
+
+    private ObjectNode readObject(String json) {
+        JsonNode node = readTree(json);
+        return node instanceof ObjectNode objectNode ? objectNode : null;
+    }
+
+    private JsonNode readTree(String json) {
+        try {
+            return objectMapper.readTree(json);
+        } catch (JsonProcessingException exception) {
+            return null;
+        }
+    }
+
+    private String write(JsonNode node) {
+        try {
+            return objectMapper.writeValueAsString(node);
+        } catch (JsonProcessingException exception) {
+            throw new IllegalStateException("stream_event_payload_serialize_failed", exception);
+        }
+    }
+}
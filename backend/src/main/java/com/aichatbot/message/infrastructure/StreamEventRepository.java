@@ -5,7 +5,9 @@ import com.aichatbot.global.error.ErrorCatalog;
 import com.aichatbot.global.observability.TraceGuard;
 import com.aichatbot.message.application.StreamEventView;
 import com.aichatbot.message.domain.mapper.StreamEventMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.http.HttpStatus;
@@ -14,23 +16,20 @@ import org.springframework.stereotype.Repository;
 @Repository
 public class StreamEventRepository {
 
+    private static final int MAX_ROWS_PER_INSERT = 500;
+
     private final StreamEventMapper streamEventMapper;
+    private final StreamEventPayloadCodec payloadCodec;
 
-    public StreamEventRepository(StreamEventMapper streamEventMapper) {
+    public StreamEventRepository(StreamEventMapper streamEventMapper, ObjectMapper objectMapper) {
         this.streamEventMapper = streamEventMapper;
+        this.payloadCodec = new StreamEventPayloadCodec(objectMapper);
     }
 
     public void save(UUID tenantId, UUID messageId, Instant messageCreatedAt, int eventSeq, String eventType, String payloadJson) {
         // Why: Stream event rows are part of audit trail; missing trace_id in payload is a policy violation.
-        TraceGuard.requireTraceId();
-        if (payloadJson == null || !payloadJson.contains("\"trace_id\"")) {
-            throw new ApiException(
-                HttpStatus.CONFLICT,
-                "SYS-004-409-TRACE",
-                ErrorCatalog.messageOf("SYS-004-409-TRACE"),
-                List.of("stream_event_trace_id_missing")
-            );
-        }
+        String traceId = TraceGuard.requireTraceId();
+        requireTracedPayload(payloadJson);
         streamEventMapper.save(
             UUID.randomUUID(),
             tenantId,
@@ -38,11 +37,56 @@ public class StreamEventRepository {
             messageCreatedAt,
             eventSeq,
             eventType,
-            payloadJson
+            payloadCodec.compact(eventType, payloadJson, traceId)
         );
     }
 
+    public void saveAll(UUID tenantId, UUID messageId, Instant messageCreatedAt, List<StreamEventView> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        String traceId = TraceGuard.requireTraceId();
+        List<StreamEventInsertRow> rows = new ArrayList<>(events.size());
+        for (StreamEventView event : events) {
+            requireTracedPayload(event.payloadJson());
+            rows.add(new StreamEventInsertRow(
+                UUID.randomUUID(),
+                event.eventSeq(),
+                event.eventType(),
+                payloadCodec.compact(event.eventType(), event.payloadJson(), traceId)
+            ));
+        }
+        for (int from = 0; from < rows.size(); from += MAX_ROWS_PER_INSERT) {
+            streamEventMapper.saveAll(
+                tenantId,
+                messageId,
+                messageCreatedAt,
+                rows.subList(from, Math.min(rows.size(), from + MAX_ROWS_PER_INSERT))
+            );
+        }
+    }
+
     public List<StreamEventView> findByMessageFromSeq(UUID tenantId, UUID messageId, int fromEventSeqExclusive) {
-        return streamEventMapper.findByMessageFromSeq(tenantId, messageId, fromEventSeqExclusive);
+        List<StreamEventStoredRow> rows = streamEventMapper.findByMessageFromSeq(tenantId, messageId, fromEventSeqExclusive);
+        List<StreamEventView> events = new ArrayList<>(rows.size());
+        for (StreamEventStoredRow row : rows) {
+            events.add(new StreamEventView(
+                row.eventSeq(),
+                row.eventType(),
+                payloadCodec.expand(row.eventType(), row.payloadJson(), row.messageTraceId())
+            ));
+        }
+        return events;
+    }
+
+    private void requireTracedPayload(String payloadJson) {
+        if (payloadJson == null || !payloadJson.contains("\"trace_id\"")) {
+            throw new ApiException(
+                HttpStatus.CONFLICT,
+                "SYS-004-409-TRACE",
+                ErrorCatalog.messageOf("SYS-004-409-TRACE"),
+                List.of("stream_event_trace_id_missing")
+            );
+        }
     }
 }
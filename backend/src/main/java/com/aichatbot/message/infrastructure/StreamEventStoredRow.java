@@ -0,0 +1,9 @@
+package com.aichatbot.message.infrastructure;
+
+public record StreamEventStoredRow(
+    int eventSeq,
+    String eventType,
+    String payloadJson,
+    String messageTraceId
+) {
+}
@@ -0,0 +1,65 @@
+package com.aichatbot.rag.application;
+
+import com.aichatbot.global.config.AppProperties;
+import com.aichatbot.rag.application.index.OrdinalScoreMap;
+import com.aichatbot.rag.application.index.RankedOrdinals;
+import com.aichatbot.rag.application.index.TenantKbIndex;
+import com.aichatbot.rag.application.index.TopKHeap;
+import java.util.BitSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import org.springframework.stereotype.Component;
+
+@Component
+public class Bm25Scorer {
+
+    private final AppProperties appProperties;
+
+    public Bm25Scorer(AppProperties appProperties) {
+        this.appProperties = appProperties;
+    }
+
+    public RankedOrdinals score(String[] queryTerms, TenantKbIndex index, int limit) {
+        return score(queryTerms, index, limit, null);
+    }
+
+    public RankedOrdinals score(String[] queryTerms, TenantKbIndex index, int limit, BitSet allowedOrdinals) {
+        int documentCount = index.size();
+        if (documentCount == 0 || queryTerms.length == 0) {
+            return RankedOrdinals.empty();
+        }
+        double k1 = Math.max(0.0d, appProperties.getRag().getBm25K1());
+        double b = Math.min(1.0d, Math.max(0.0d, appProperties.getRag().getBm25B()));
+        double averageLength = Math.max(1.0d, index.averageFieldLength());
+
+        Set<String> distinctTerms = new LinkedHashSet<>(List.of(queryTerms));
+        OrdinalScoreMap scoreByOrdinal = null;
+        for (String term : distinctTerms) {
+            TenantKbIndex.TermPostings postings = index.postings(term);
+            int documentFrequency = postings.documentFrequency();
+            if (documentFrequency == 0) {
+                continue;
+            }
+            if (scoreByOrdinal == null) {
+                scoreByOrdinal = new OrdinalScoreMap(documentFrequency);
+            }
+            // Why: 대부분의 chunk에 나오는 term도 idf가 음수가 되지 않도록 Lucene 방식 식을 쓴다.
+            double idf = Math.log(1.0d + (documentCount - documentFrequency + 0.5d) / (documentFrequency + 0.5d));
+            int[] ordinals = postings.ordinals();
+            int[] termFrequencies = postings.termFrequencies();
+            for (int i = 0; i < ordinals.length; i++) {
+                if (allowedOrdinals != null && !allowedOrdinals.get(ordinals[i])) {
+                    continue;
+                }
+                double tf = termFrequencies[i];
+                double lengthNorm = 1.0d - b + b * (index.fieldLength(ordinals[i]) / averageLength);
+                scoreByOrdinal.add(ordinals[i], idf * (tf * (k1 + 1.0d)) / (tf + k1 * lengthNorm));
+            }
+        }
+        if (scoreByOrdinal == null) {
+            return RankedOrdinals.empty();
+        }
+        return scoreByOrdinal.offerAll(new TopKHeap(limit)).drain();
+    }
+}
@@ -0,0 +1,40 @@
+package com.aichatbot.rag.application;
+
+import com.aichatbot.global.privacy.PiiMaskingService;
+import com.aichatbot.rag.infrastructure.ChunkSearchRow;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ChunkEnricher {
+
+    private final ChunkContextHeaderBuilder chunkContextHeaderBuilder;
+    private final ExtractiveChunkSummarizer chunkSummarizer;
+    private final PiiMaskingService piiMaskingService;
+
+    public ChunkEnricher(
+        ChunkContextHeaderBuilder chunkContextHeaderBuilder,
+        ExtractiveChunkSummarizer chunkSummarizer,
+        PiiMaskingService piiMaskingService
+    ) {
+        this.chunkContextHeaderBuilder = chunkContextHeaderBuilder;
+        this.chunkSummarizer = chunkSummarizer;
+        this.piiMaskingService = piiMaskingService;
+    }
+
+    public Enrichment enrich(ChunkSearchRow row, int versionChunkCount) {
+        String contextHeader = isBlank(row.contextHeader())
+            ? piiMaskingService.mask(chunkContextHeaderBuilder.build(row, versionChunkCount))
+            : row.contextHeader();
+        String summaryText = isBlank(row.summaryText())
+            ? chunkSummarizer.summarize(row.chunkText(), 2)
+            : row.summaryText();
+        return new Enrichment(contextHeader, summaryText);
+    }
+
+    private boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    public record Enrichment(String contextHeader, String summaryText) {
+    }
+}
@@ -0,0 +1,34 @@
+package com.aichatbot.rag.application;
+
+import com.aichatbot.global.config.AppProperties;
+import com.aichatbot.global.scheduler.SchedulerLockService;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ChunkEnrichmentBackfillJob {
+
+    private final ChunkEnrichmentService chunkEnrichmentService;
+    private final SchedulerLockService schedulerLockService;
+    private final AppProperties appProperties;
+
+    public ChunkEnrichmentBackfillJob(
+        ChunkEnrichmentService chunkEnrichmentService,
+        SchedulerLockService schedulerLockService,
+        AppProperties appProperties
+    ) {
+        this.chunkEnrichmentService = chunkEnrichmentService;
+        this.schedulerLockService = schedulerLockService;
+        this.appProperties = appProperties;
+    }
+
+    @Scheduled(cron = "${rag.enrichment.backfill-cron:0 */10 * * * *}", zone = "UTC")
+    public void backfillMissingEnrichment() {
+        if (!schedulerLockService.tryAcquire("rag_chunk_enrichment_backfill", java.time.Duration.ofMinutes(5))) {
+            return;
+        }
+        AppProperties.Rag rag = appProperties.getRag();
+        chunkEnrichmentService.backfillMissing(rag.getEnrichmentPageSize(), rag.getEnrichmentMaxPages());
+        chunkEnrichmentService.backfillEmbeddings(rag.getEnrichmentPageSize(), rag.getEnrichmentMaxPages());
+    }
+}
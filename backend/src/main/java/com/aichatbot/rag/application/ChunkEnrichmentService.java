@@ -0,0 +1,139 @@
+package com.aichatbot.rag.application;
+
+import com.aichatbot.llm.application.EmbeddingClient;
+import com.aichatbot.rag.application.index.FlatVectorIndex;
+import com.aichatbot.rag.application.index.KbIndexRegistry;
+import com.aichatbot.rag.infrastructure.ChunkEmbeddingRow;
+import com.aichatbot.rag.infrastructure.ChunkEnrichmentRow;
+import com.aichatbot.rag.infrastructure.KbChunkRepository;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.springframework.stereotype.Service;
+
+@Service
+public class ChunkEnrichmentService {
+
+    private final KbChunkRepository kbChunkRepository;
+    private final ChunkEnricher chunkEnricher;
+    private final EmbeddingClient embeddingClient;
+    private final KbIndexRegistry kbIndexRegistry;
+
+    public ChunkEnrichmentService(
+        KbChunkRepository kbChunkRepository,
+        ChunkEnricher chunkEnricher,
+        EmbeddingClient embeddingClient,
+        KbIndexRegistry kbIndexRegistry
+    ) {
+        this.kbChunkRepository = kbChunkRepository;
+        this.chunkEnricher = chunkEnricher;
+        this.embeddingClient = embeddingClient;
+        this.kbIndexRegistry = kbIndexRegistry;
+    }
+
+    public int enrichDocumentVersion(UUID documentVersionId, int pageSize) {
+        return enrichMissing(documentVersionId, pageSize, Integer.MAX_VALUE);
+    }
+
+    public int backfillMissing(int pageSize, int maxPages) {
+        return enrichMissing(null, pageSize, maxPages);
+    }
+
+    private int enrichMissing(UUID documentVersionId, int pageSize, int maxPages) {
+        int limit = Math.max(1, pageSize);
+        UUID afterChunkId = null;
+        int updated = 0;
+        Map<UUID, Set<UUID>> touchedVersions = new LinkedHashMap<>();
+        for (int page = 0; page < maxPages; page++) {
+            List<ChunkEnrichmentRow> rows = kbChunkRepository.findChunksMissingEnrichment(documentVersionId, afterChunkId, limit);
+            for (ChunkEnrichmentRow row : rows) {
+                ChunkEnricher.Enrichment enrichment = chunkEnricher.enrich(
+                    row.toSearchRow(),
+                    row.versionChunkCount() == null ? 1 : row.versionChunkCount()
+                );
+                UUID tenantId = UUID.fromString(row.tenantId());
+                if (kbChunkRepository.updateChunkEnrichment(
+                    tenantId,
+                    UUID.fromString(row.chunkId()),
+                    enrichment.contextHeader(),
+                    enrichment.summaryText()
+                )) {
+                    updated++;
+                    touchedVersions.computeIfAbsent(tenantId, ignored -> new LinkedHashSet<>())
+                        .add(UUID.fromString(row.documentVersionId()));
+                }
+            }
+            if (rows.size() < limit) {
+                break;
+            }
+            afterChunkId = UUID.fromString(rows.get(rows.size() - 1).chunkId());
+        }
+        publish(touchedVersions);
+        return updated;
+    }
+
+    public int backfillEmbeddings(int pageSize, int maxPages) {
+        int limit = Math.max(1, pageSize);
+        String model = embeddingClient.modelName();
+        UUID afterChunkId = null;
+        int updated = 0;
+        Map<UUID, Set<UUID>> touchedVersions = new LinkedHashMap<>();
+        for (int page = 0; page < maxPages; page++) {
+            List<ChunkEmbeddingRow> rows = kbChunkRepository.findChunksWithStaleEmbedding(model, afterChunkId, limit);
+            List<ChunkEmbeddingRow> embeddable = new ArrayList<>(rows.size());
+            List<String> inputs = new ArrayList<>(rows.size());
+            for (ChunkEmbeddingRow row : rows) {
+                String input = embeddingInput(row);
+                if (!input.isBlank()) {
+                    embeddable.add(row);
+                    inputs.add(input);
+                }
+            }
+            List<float[]> vectors = inputs.isEmpty() ? List.of() : embeddingClient.embedAll(inputs);
+            for (int i = 0; i < embeddable.size(); i++) {
+                ChunkEmbeddingRow row = embeddable.get(i);
+                UUID tenantId = UUID.fromString(row.tenantId());
+                float[] vector = vectors.get(i);
+                kbChunkRepository.saveChunkEmbedding(
+                    tenantId,
+                    UUID.fromString(row.chunkId()),
+                    FlatVectorIndex.serialize(vector),
+                    vector.length,
+                    model,
+                    inputs.get(i)
+                );
+                updated++;
+                touchedVersions.computeIfAbsent(tenantId, ignored -> new LinkedHashSet<>())
+                    .add(UUID.fromString(row.documentVersionId()));
+            }
+            if (rows.size() < limit) {
+                break;
+            }
+            afterChunkId = UUID.fromString(rows.get(rows.size() - 1).chunkId());
+        }
+        publish(touchedVersions);
+        return updated;
+    }
+
+    private String embeddingInput(ChunkEmbeddingRow row) {
+        if (row.embeddingInputText() != null && !row.embeddingInputText().isBlank()) {
+            return row.embeddingInputText();
+        }
+        if (row.contextHeader() != null && !row.contextHeader().isBlank()) {
+            return row.contextHeader() + "\n" + (row.summaryText() == null ? "" : row.summaryText());
+        }
+        return row.chunkText() == null ? "" : row.chunkText();
+    }
+
+    private void publish(Map<UUID, Set<UUID>> touchedVersions) {
+        touchedVersions.forEach((tenantId, versionIds) -> {
+            // Why: 다른 노드는 문서 버전의 updated_at으로 만든 stamp만 비교하므로, 버전 행을 갱신해 다음 stamp 확인 때 인덱스를 다시 만들게 한다.
+            versionIds.forEach(versionId -> kbChunkRepository.touchDocumentVersion(tenantId, versionId));
+            kbIndexRegistry.invalidate(tenantId);
+        });
+    }
+}
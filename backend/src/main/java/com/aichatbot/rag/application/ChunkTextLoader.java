@@ -0,0 +1,71 @@
+package com.aichatbot.rag.application;
+
+import com.aichatbot.global.config.AppProperties;
+import com.aichatbot.rag.infrastructure.ChunkTextRow;
+import com.aichatbot.rag.infrastructure.KbSearchRepository;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ChunkTextLoader {
+
+    private final KbSearchRepository kbSearchRepository;
+    private final AppProperties appProperties;
+    private final LinkedHashMap<Key, String> texts = new LinkedHashMap<>(256, 0.75f, true);
+
+    public ChunkTextLoader(KbSearchRepository kbSearchRepository, AppProperties appProperties) {
+        this.kbSearchRepository = kbSearchRepository;
+        this.appProperties = appProperties;
+    }
+
+    public Map<UUID, String> load(UUID tenantId, List<UUID> chunkIds) {
+        Map<UUID, String> loaded = new HashMap<>(chunkIds.size() * 2);
+        List<UUID> missing = new ArrayList<>();
+        synchronized (texts) {
+            for (UUID chunkId : chunkIds) {
+                String cached = texts.get(new Key(tenantId, chunkId));
+                if (cached != null) {
+                    loaded.put(chunkId, cached);
+                } else if (!missing.contains(chunkId)) {
+                    missing.add(chunkId);
+                }
+            }
+        }
+        if (missing.isEmpty()) {
+            return loaded;
+        }
+        List<ChunkTextRow> rows = kbSearchRepository.findChunkTextsByIds(tenantId, missing);
+        int maxEntries = appProperties.getRag().getChunkTextCacheMaxEntries();
+        synchronized (texts) {
+            for (ChunkTextRow row : rows) {
+                UUID chunkId = UUID.fromString(row.chunkId());
+                String text = row.chunkText() == null ? "" : row.chunkText();
+                loaded.put(chunkId, text);
+                // chunk 본문은 chunk id마다 바뀌지 않으므로(새 버전은 새 chunk를 쓴다) 항목을 무효화할 필요가 없다.
+                if (maxEntries > 0) {
+                    texts.put(new Key(tenantId, chunkId), text);
+                }
+            }
+            var iterator = texts.entrySet().iterator();
+            while (texts.size() > Math.max(0, maxEntries) && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+        return loaded;
+    }
+
+    public int size() {
+        synchronized (texts) {
+            return texts.size();
+        }
+    }
+
+    private record Key(UUID tenantId, UUID chunkId) {
+    }
+}
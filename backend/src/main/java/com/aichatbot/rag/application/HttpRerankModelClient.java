@@ -0,0 +1,75 @@
+package com.aichatbot.rag.application;
+
+import com.aichatbot.global.config.AppProperties;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+@Component
+public class HttpRerankModelClient implements RerankModelClient {
+
+    private final AppProperties appProperties;
+    private final ObjectMapper objectMapper;
+    private final RestTemplate restTemplate;
+
+    public HttpRerankModelClient(AppProperties appProperties, ObjectMapper objectMapper, RestTemplateBuilder restTemplateBuilder) {
+        this.appProperties = appProperties;
+        this.objectMapper = objectMapper;
+        Duration budget = Duration.ofMillis(Math.max(1L, appProperties.getRag().getRerankBudgetMs()));
+        this.restTemplate = restTemplateBuilder
+            .connectTimeout(budget)
+            .readTimeout(budget)
+            .build();
+    }
+
+    @Override
+    public double[] score(String queryMasked, List<String> documentsMasked) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("model", appProperties.getRag().getRerankModel());
+        body.put("query", queryMasked);
+        body.put("documents", documentsMasked);
+
+        String raw = restTemplate.postForObject(
+            appProperties.getRag().getRerankEndpointUrl(),
+            new HttpEntity<>(body, headers),
+            String.class
+        );
+        if (raw == null || raw.isBlank()) {
+            throw new IllegalStateException("empty_rerank_response");
+        }
+        JsonNode results;
+        try {
+            results = objectMapper.readTree(raw).path("results");
+        } catch (Exception exception) {
+            throw new IllegalStateException("invalid_rerank_response", exception);
+        }
+        if (!results.isArray()) {
+            throw new IllegalStateException("missing_results_field");
+        }
+
+        double[] scores = new double[documentsMasked.size()];
+        Arrays.fill(scores, Double.NEGATIVE_INFINITY);
+        for (JsonNode result : results) {
+            int index = result.path("index").asInt(-1);
+            if (index < 0 || index >= scores.length) {
+                throw new IllegalStateException("invalid_rerank_index");
+            }
+            JsonNode score = result.has("relevance_score") ? result.get("relevance_score") : result.path("score");
+            scores[index] = score.asDouble(Double.NEGATIVE_INFINITY);
+        }
+        return scores;
+    }
+}
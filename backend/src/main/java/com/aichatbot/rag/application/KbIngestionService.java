@@ -0,0 +1,436 @@
+package com.aichatbot.rag.application;
+
+import com.aichatbot.global.audit.AuditLogService;
+import com.aichatbot.global.config.AppProperties;
+import com.aichatbot.global.error.ApiException;
+import com.aichatbot.global.error.ErrorCatalog;
+import com.aichatbot.global.observability.TraceContext;
+import com.aichatbot.global.observability.TraceGuard;
+import com.aichatbot.global.privacy.PiiMaskingService;
+import com.aichatbot.llm.application.EmbeddingClient;
+import com.aichatbot.rag.application.index.FlatVectorIndex;
+import com.aichatbot.rag.application.index.KbIndexRegistry;
+import com.aichatbot.rag.application.index.WordTokenizer;
+import com.aichatbot.rag.infrastructure.ChunkSearchRow;
+import com.aichatbot.rag.infrastructure.KbChunkDraft;
+import com.aichatbot.rag.infrastructure.KbIngestionJobRecord;
+import com.aichatbot.rag.infrastructure.KbIngestionRepository;
+import com.aichatbot.rag.infrastructure.KbIngestionSpool;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+@Service
+public class KbIngestionService {
+
+    private static final int MAX_TITLE_LENGTH = 300;
+
+    private final KbIngestionRepository kbIngestionRepository;
+    private final KbIngestionSpool kbIngestionSpool;
+    private final ChunkEnricher chunkEnricher;
+    private final PiiMaskingService piiMaskingService;
+    private final WordTokenizer wordTokenizer;
+    private final EmbeddingClient embeddingClient;
+    private final KbIndexRegistry kbIndexRegistry;
+    private final AuditLogService auditLogService;
+    private final AppProperties appProperties;
+    private final Clock clock;
+
+    @Autowired
+    public KbIngestionService(
+        KbIngestionRepository kbIngestionRepository,
+        KbIngestionSpool kbIngestionSpool,
+        ChunkEnricher chunkEnricher,
+        PiiMaskingService piiMaskingService,
+        WordTokenizer wordTokenizer,
+        EmbeddingClient embeddingClient,
+        KbIndexRegistry kbIndexRegistry,
+        AuditLogService auditLogService,
+        AppProperties appProperties
+    ) {
+        this(
+            kbIngestionRepository,
+            kbIngestionSpool,
+            chunkEnricher,
+            piiMaskingService,
+            wordTokenizer,
+            embeddingClient,
+            kbIndexRegistry,
+            auditLogService,
+            appProperties,
+            Clock.systemUTC()
+        );
+    }
+
+    KbIngestionService(
+        KbIngestionRepository kbIngestionRepository,
+        KbIngestionSpool kbIngestionSpool,
+        ChunkEnricher chunkEnricher,
+        PiiMaskingService piiMaskingService,
+        WordTokenizer wordTokenizer,
+        EmbeddingClient embeddingClient,
+        KbIndexRegistry kbIndexRegistry,
+        AuditLogService auditLogService,
+        AppProperties appProperties,
+        Clock clock
+    ) {
+        this.kbIngestionRepository = kbIngestionRepository;
+        this.kbIngestionSpool = kbIngestionSpool;
+        this.chunkEnricher = chunkEnricher;
+        this.piiMaskingService = piiMaskingService;
+        this.wordTokenizer = wordTokenizer;
+        this.embeddingClient = embeddingClient;
+        this.kbIndexRegistry = kbIndexRegistry;
+        this.auditLogService = auditLogService;
+        this.appProperties = appProperties;
+        this.clock = clock;
+    }
+
+    public KbIngestionJobRecord submit(
+        UUID tenantId,
+        UUID requestedBy,
+        UUID documentId,
+        KbIngestionRepository.DocumentFields newDocument,
+        InputStream body
+    ) {
+        boolean createDocument = documentId == null;
+        if (createDocument) {
+            validateNewDocument(newDocument);
+        } else if (!kbIngestionRepository.documentExists(tenantId, documentId)) {
+            throw new ApiException(HttpStatus.NOT_FOUND, "API-004-404", "KB document not found");
+        }
+
+        UUID jobId = UUID.randomUUID();
+        KbIngestionSpool.SpooledSource source;
+        try {
+            source = kbIngestionSpool.write(jobId, body, appProperties.getRag().getIngestionMaxBytes());
+        } catch (IOException exception) {
+            throw new ApiException(
+                HttpStatus.SERVICE_UNAVAILABLE,
+                "SYS-003-503",
+                ErrorCatalog.messageOf("SYS-003-503"),
+                List.of("ingestion_spool_unavailable")
+            );
+        }
+        if (source.tooLarge() || source.bytes() == 0L) {
+            kbIngestionSpool.delete(source.path());
+            throw invalid(source.tooLarge() ? "document_too_large" : "document_empty");
+        }
+
+        UUID resolvedDocumentId = createDocument ? UUID.randomUUID() : documentId;
+        UUID documentVersionId = UUID.randomUUID();
+        int versionNo;
+        try {
+            versionNo = kbIngestionRepository.registerJob(
+                jobId,
+                tenantId,
+                resolvedDocumentId,
+                createDocument ? newDocument : null,
+                documentVersionId,
+                requestedBy,
+                source.path(),
+                source.bytes(),
+                UUID.fromString(TraceGuard.requireTraceId()),
+                nodeId(),
+                Instant.now(clock)
+            );
+        } catch (RuntimeException exception) {
+            kbIngestionSpool.delete(source.path());
+            throw exception;
+        }
+
+        auditLogService.write(
+            tenantId,
+            "KB_INGESTION_REQUESTED",
+            requestedBy,
+            "ADMIN",
+            "KB_INGESTION_JOB",
+            jobId.toString(),
+            null,
+            Map.of(
+                "document_id", resolvedDocumentId.toString(),
+                "document_version_id", documentVersionId.toString(),
+                "version_no", versionNo,
+                "source_bytes", source.bytes()
+            )
+        );
+        return findById(tenantId, jobId);
+    }
+
+    public KbIngestionJobRecord findById(UUID tenantId, UUID jobId) {
+        return kbIngestionRepository.findJobById(tenantId, jobId)
+            .orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "API-004-404", "KB ingestion job not found"));
+    }
+
+    public int processPendingJobs(int limit) {
+        List<KbIngestionJobRecord> jobs = kbIngestionRepository.findPendingJobs(nodeId(), Math.max(1, limit));
+        int processed = 0;
+        for (KbIngestionJobRecord job : jobs) {
+            if (!kbIngestionRepository.claimJob(job.id(), Instant.now(clock))) {
+                continue;
+            }
+            processed++;
+            if (!kbIngestionSpool.exists(job.spoolPath())) {
+                String previousTraceId = TraceContext.getTraceId();
+                TraceContext.setTraceId(job.traceId().toString());
+                try {
+                    failJob(job, "KB_INGESTION_SPOOL_MISSING", "Uploaded source is no longer available on the owner node");
+                } finally {
+                    restoreTraceId(previousTraceId);
+                }
+                continue;
+            }
+            processClaimedJob(job);
+        }
+        return processed;
+    }
+
+    public int expireAbandonedJobs(int limit) {
+        Instant now = Instant.now(clock);
+        AppProperties.Rag rag = appProperties.getRag();
+        Instant pendingBefore = now.minusSeconds(Math.max(1L, rag.getIngestionPendingTtlSeconds()));
+        Instant runningBefore = now.minusSeconds(Math.max(1L, rag.getIngestionRunningStaleSeconds()));
+        int expired = 0;
+        for (KbIngestionJobRecord job : kbIngestionRepository.findAbandonedJobs(pendingBefore, runningBefore, Math.max(1, limit))) {
+            boolean running = "RUNNING".equals(job.status());
+            // Why: 주인 노드가 죽으면 spool도 함께 사라지므로, 오래 대기하거나 heartbeat가 끊긴 작업은 실패로 닫아 버전이 ingesting에 묶이지 않게 한다.
+            if (!kbIngestionRepository.expireJob(
+                job.id(),
+                job.status(),
+                running ? runningBefore : pendingBefore,
+                running ? "KB_INGESTION_STALE" : "KB_INGESTION_EXPIRED",
+                running ? "Ingestion stopped reporting progress" : "Ingestion was not picked up before it expired",
+                now
+            )) {
+                continue;
+            }
+            expired++;
+            String previousTraceId = TraceContext.getTraceId();
+            TraceContext.setTraceId(job.traceId().toString());
+            try {
+                kbIngestionRepository.discardVersion(job.tenantId(), job.documentVersionId());
+                writeFailureAudit(job, running ? "KB_INGESTION_STALE" : "KB_INGESTION_EXPIRED");
+            } finally {
+                restoreTraceId(previousTraceId);
+                if (nodeId().equals(job.ownerNode())) {
+                    kbIngestionSpool.delete(job.spoolPath());
+                }
+            }
+        }
+        return expired;
+    }
+
+    void processClaimedJob(KbIngestionJobRecord job) {
+        String previousTraceId = TraceContext.getTraceId();
+        TraceContext.setTraceId(job.traceId().toString());
+        try {
+            ChunkSearchRow source = kbIngestionRepository.findVersionSource(job.tenantId(), job.documentVersionId())
+                .orElseThrow(() -> new IllegalStateException("document_version_missing"));
+            int totalChunks = countChunks(job.spoolPath());
+            if (totalChunks == 0) {
+                failJob(job, "KB_INGESTION_EMPTY", "Document contains no text");
+                return;
+            }
+            int written = writeChunks(job, source, totalChunks);
+            if (!kbIngestionRepository.publishVersion(job.tenantId(), job.documentId(), job.documentVersionId())) {
+                failJob(job, "KB_INGESTION_PUBLISH_CONFLICT", "Document version is no longer ingesting");
+                return;
+            }
+            kbIndexRegistry.invalidate(job.tenantId());
+            kbIngestionRepository.markJobDone(job.id(), written, Instant.now(clock));
+            auditLogService.write(
+                job.tenantId(),
+                "KB_INGESTION_COMPLETED",
+                null,
+                "SYSTEM",
+                "KB_INGESTION_JOB",
+                job.id().toString(),
+                null,
+                Map.of("document_version_id", job.documentVersionId().toString(), "chunk_count", written)
+            );
+        } catch (Exception exception) {
+            failJob(job, "KB_INGESTION_FAILED", truncate(exception.getMessage(), 400));
+        } finally {
+            kbIngestionSpool.delete(job.spoolPath());
+            restoreTraceId(previousTraceId);
+        }
+    }
+
+    private void restoreTraceId(String previousTraceId) {
+        if (previousTraceId == null || previousTraceId.isBlank()) {
+            TraceContext.clear();
+        } else {
+            TraceContext.setTraceId(previousTraceId);
+        }
+    }
+
+    private int countChunks(String spoolPath) throws IOException {
+        int count = 0;
+        try (Reader reader = kbIngestionSpool.open(spoolPath)) {
+            StreamingTextChunker chunker = newChunker(reader);
+            while (chunker.next() != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private int writeChunks(KbIngestionJobRecord job, ChunkSearchRow source, int totalChunks) throws IOException {
+        int batchSize = Math.max(1, appProperties.getRag().getIngestionBatchSize());
+        List<ChunkSearchRow> batch = new ArrayList<>(batchSize);
+        int chunkNo = 0;
+        int written = 0;
+        try (Reader reader = kbIngestionSpool.open(job.spoolPath())) {
+            StreamingTextChunker chunker = newChunker(reader);
+            String rawChunk;
+            while ((rawChunk = chunker.next()) != null && chunkNo < totalChunks) {
+                chunkNo++;
+                batch.add(chunkRow(source, chunkNo, piiMaskingService.mask(rawChunk)));
+                if (batch.size() == batchSize) {
+                    written += flush(job, batch, totalChunks);
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            written += flush(job, batch, totalChunks);
+        }
+        return written;
+    }
+
+    private int flush(KbIngestionJobRecord job, List<ChunkSearchRow> batch, int totalChunks) {
+        List<ChunkEnricher.Enrichment> enrichments = new ArrayList<>(batch.size());
+        List<String> embeddingInputs = new ArrayList<>(batch.size());
+        for (ChunkSearchRow row : batch) {
+            ChunkEnricher.Enrichment enrichment = chunkEnricher.enrich(row, totalChunks);
+            enrichments.add(enrichment);
+            embeddingInputs.add(enrichment.contextHeader() + "\n" + enrichment.summaryText());
+        }
+        List<float[]> vectors = embeddingClient.embedAll(embeddingInputs);
+        String model = embeddingClient.modelName();
+
+        List<KbChunkDraft> drafts = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            ChunkSearchRow row = batch.get(i);
+            float[] vector = vectors.get(i);
+            drafts.add(new KbChunkDraft(
+                UUID.randomUUID(),
+                job.tenantId(),
+                job.documentVersionId(),
+                row.chunkNo(),
+                sha256Hex(row.chunkText()),
+                row.chunkText(),
+                wordTokenizer.tokenize(row.chunkText()).length,
+                enrichments.get(i).contextHeader(),
+                enrichments.get(i).summaryText(),
+                UUID.randomUUID(),
+                FlatVectorIndex.serialize(vector),
+                vector.length,
+                model,
+                embeddingInputs.get(i)
+            ));
+        }
+        kbIngestionRepository.insertChunkBatch(drafts);
+        int lastChunkNo = batch.get(batch.size() - 1).chunkNo();
+        kbIngestionRepository.updateJobProgress(job.id(), lastChunkNo, Instant.now(clock));
+        batch.clear();
+        return drafts.size();
+    }
+
+    private ChunkSearchRow chunkRow(ChunkSearchRow source, int chunkNo, String maskedText) {
+        return new ChunkSearchRow(
+            null,
+            source.documentId(),
+            source.documentVersionId(),
+            source.versionNo(),
+            chunkNo,
+            source.title(),
+            source.sourceType(),
+            source.category(),
+            source.effectiveDate(),
+            source.owner(),
+            null,
+            null,
+            maskedText,
+            null,
+            null,
+            null
+        );
+    }
+
+    private StreamingTextChunker newChunker(Reader reader) {
+        AppProperties.Rag rag = appProperties.getRag();
+        return new StreamingTextChunker(reader, rag.getIngestionChunkMaxChars(), rag.getIngestionChunkOverlapChars());
+    }
+
+    private void failJob(KbIngestionJobRecord job, String errorCode, String errorMessage) {
+        kbIngestionRepository.discardVersion(job.tenantId(), job.documentVersionId());
+        kbIngestionRepository.markJobFailed(job.id(), errorCode, errorMessage, Instant.now(clock));
+        writeFailureAudit(job, errorCode);
+    }
+
+    private void writeFailureAudit(KbIngestionJobRecord job, String errorCode) {
+        auditLogService.write(
+            job.tenantId(),
+            "KB_INGESTION_FAILED",
+            null,
+            "SYSTEM",
+            "KB_INGESTION_JOB",
+            job.id().toString(),
+            null,
+            Map.of("error_code", errorCode)
+        );
+    }
+
+    private String nodeId() {
+        return appProperties.getRag().getIngestionNodeId();
+    }
+
+    private void validateNewDocument(KbIngestionRepository.DocumentFields document) {
+        if (document == null || document.title() == null || document.title().isBlank()) {
+            throw invalid("title_required");
+        }
+        if (document.title().length() > MAX_TITLE_LENGTH) {
+            throw invalid("title_too_long");
+        }
+    }
+
+    private ApiException invalid(String detail) {
+        return new ApiException(
+            HttpStatus.UNPROCESSABLE_ENTITY,
+            "API-003-422",
+            ErrorCatalog.messageOf("API-003-422"),
+            List.of(detail)
+        );
+    }
+
+    private String sha256Hex(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (Exception exception) {
+            throw new IllegalStateException("sha256_unavailable", exception);
+        }
+    }
+
+    private String truncate(String value, int maxLength) {
+        if (value == null) {
+            return "";
+        }
+        if (value.length() <= maxLength) {
+            return value;
+        }
+        return value.substring(0, maxLength);
+    }
+}
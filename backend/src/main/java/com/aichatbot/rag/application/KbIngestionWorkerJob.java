@@ -0,0 +1,20 @@
+package com.aichatbot.rag.application;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class KbIngestionWorkerJob {
+
+    private final KbIngestionService kbIngestionService;
+
+    public KbIngestionWorkerJob(KbIngestionService kbIngestionService) {
+        this.kbIngestionService = kbIngestionService;
+    }
+
+    @Scheduled(cron = "${rag.ingestion.worker-cron:*/10 * * * * *}", zone = "UTC")
+    public void processPendingIngestions() {
+        kbIngestionService.expireAbandonedJobs(20);
+        kbIngestionService.processPendingJobs(2);
+    }
+}
@@ -0,0 +1,108 @@
+package com.aichatbot.rag.application;
+
+import com.aichatbot.global.config.AppProperties;
+import com.aichatbot.rag.application.index.TenantKbIndex;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import org.springframework.stereotype.Component;
+
+@Component
+public class LexicalReranker implements Reranker {
+
+    private static final double COVERAGE_WEIGHT = 0.7d;
+    private static final double PROXIMITY_WEIGHT = 0.3d;
+
+    private final AppProperties appProperties;
+
+    public LexicalReranker(AppProperties appProperties) {
+        this.appProperties = appProperties;
+    }
+
+    @Override
+    public String name() {
+        return "lexical";
+    }
+
+    @Override
+    public boolean remote() {
+        return false;
+    }
+
+    @Override
+    public List<RrfFusion.ScoredChunk> rerank(RerankQuery query, List<RrfFusion.ScoredChunk> candidates) {
+        String[] queryTerms = query.queryTerms();
+        if (candidates.size() < 2 || queryTerms.length == 0) {
+            return candidates;
+        }
+        Set<String> distinctTerms = new LinkedHashSet<>(Arrays.asList(queryTerms));
+        double maxFusedScore = 0.0d;
+        for (RrfFusion.ScoredChunk candidate : candidates) {
+            maxFusedScore = Math.max(maxFusedScore, candidate.score());
+        }
+        double lexicalWeight = Math.max(0.0d, appProperties.getRag().getRerankLexicalWeight());
+
+        double[] combined = new double[candidates.size()];
+        for (int i = 0; i < candidates.size(); i++) {
+            RrfFusion.ScoredChunk candidate = candidates.get(i);
+            double fused = maxFusedScore > 0.0d ? candidate.score() / maxFusedScore : 0.0d;
+            combined[i] = fused + lexicalWeight * lexicalFeature(distinctTerms, queryTerms, candidate, query.index());
+        }
+
+        List<Integer> order = new ArrayList<>(candidates.size());
+        for (int i = 0; i < candidates.size(); i++) {
+            order.add(i);
+        }
+        order.sort(Comparator.comparingDouble((Integer i) -> combined[i]).reversed().thenComparingInt(i -> i));
+        List<RrfFusion.ScoredChunk> reranked = new ArrayList<>(candidates.size());
+        for (int i : order) {
+            reranked.add(candidates.get(i));
+        }
+        return reranked;
+    }
+
+    private double lexicalFeature(
+        Set<String> distinctTerms,
+        String[] queryTerms,
+        RrfFusion.ScoredChunk candidate,
+        TenantKbIndex index
+    ) {
+        int ordinal = index.ordinalOf(candidate.chunkId());
+        if (ordinal < 0) {
+            return 0.0d;
+        }
+        String[] chunkTerms = index.terms(ordinal);
+        Set<String> chunkTermSet = new HashSet<>(Arrays.asList(chunkTerms));
+        int covered = 0;
+        for (String term : distinctTerms) {
+            if (chunkTermSet.contains(term)) {
+                covered++;
+            }
+        }
+        double coverage = (double) covered / (double) distinctTerms.size();
+        if (queryTerms.length < 2 || covered < 2) {
+            return COVERAGE_WEIGHT * coverage;
+        }
+        int adjacentPairs = 0;
+        for (int i = 0; i + 1 < queryTerms.length; i++) {
+            if (containsAdjacent(chunkTerms, queryTerms[i], queryTerms[i + 1])) {
+                adjacentPairs++;
+            }
+        }
+        double proximity = (double) adjacentPairs / (double) (queryTerms.length - 1);
+        return COVERAGE_WEIGHT * coverage + PROXIMITY_WEIGHT * proximity;
+    }
+
+    private boolean containsAdjacent(String[] terms, String first, String second) {
+        for (int i = 0; i + 1 < terms.length; i++) {
+            if (terms[i].equals(first) && terms[i + 1].equals(second)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,56 @@
+package com.aichatbot.rag.application;
+
+import com.aichatbot.rag.application.index.TenantKbIndex;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ModelEndpointReranker implements Reranker {
+
+    private final RerankModelClient rerankModelClient;
+
+    public ModelEndpointReranker(RerankModelClient rerankModelClient) {
+        this.rerankModelClient = rerankModelClient;
+    }
+
+    @Override
+    public String name() {
+        return "model";
+    }
+
+    @Override
+    public boolean remote() {
+        return true;
+    }
+
+    @Override
+    public List<RrfFusion.ScoredChunk> rerank(RerankQuery query, List<RrfFusion.ScoredChunk> candidates) {
+        if (candidates.size() < 2) {
+            return candidates;
+        }
+        TenantKbIndex index = query.index();
+        List<String> documents = new ArrayList<>(candidates.size());
+        for (RrfFusion.ScoredChunk candidate : candidates) {
+            int ordinal = index.ordinalOf(candidate.chunkId());
+            // Why: 적재 시 마스킹에서 빠진 PII가 남아 있을 수 있어 외부 모델에는 마스킹한 발췌만 보낸다.
+            documents.add(ordinal < 0 ? candidate.previewText() : index.excerptMasked(ordinal));
+        }
+        double[] relevance = rerankModelClient.score(query.queryMasked(), documents);
+        if (relevance == null || relevance.length != candidates.size()) {
+            throw new IllegalStateException("rerank_score_count_mismatch");
+        }
+
+        List<Integer> order = new ArrayList<>(candidates.size());
+        for (int i = 0; i < candidates.size(); i++) {
+            order.add(i);
+        }
+        order.sort(Comparator.comparingDouble((Integer i) -> relevance[i]).reversed().thenComparingInt(i -> i));
+        List<RrfFusion.ScoredChunk> reranked = new ArrayList<>(candidates.size());
+        for (int i : order) {
+            reranked.add(candidates.get(i));
+        }
+        return reranked;
+    }
+}
@@ -8,9 +8,11 @@ import com.aichatbot.global.error.ApiException;
 import com.aichatbot.global.error.ErrorCatalog;
 import com.aichatbot.global.privacy.PiiMaskingService;
 import com.aichatbot.llm.application.LlmService;
+import com.aichatbot.rag.infrastructure.CitationInsertRow;
 import com.aichatbot.rag.infrastructure.CitationRepository;
 import com.aichatbot.rag.infrastructure.RagSearchLogRepository;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -123,16 +125,11 @@ public class RagAnswerService {
 
     private void persistCitations(UUID tenantId, UUID messageId, Instant createdAt, List<EvidenceChunk> chunks) {
         int rank = 1;
+        List<CitationInsertRow> rows = new ArrayList<>(chunks.size());
         for (EvidenceChunk chunk : chunks) {
-            citationRepository.save(
-                tenantId,
-                messageId,
-                createdAt,
-                chunk.chunkId(),
-                rank++,
-                truncate(chunk.excerptMasked(), 240)
-            );
+            rows.add(new CitationInsertRow(UUID.randomUUID(), chunk.chunkId(), rank++, truncate(chunk.excerptMasked(), 240)));
         }
+        citationRepository.saveAll(tenantId, messageId, createdAt, rows);
     }
 
     private void persistValidatedCitations(
@@ -144,18 +141,18 @@ public class RagAnswerService {
     ) {
         Map<String, EvidenceChunk> evidenceByChunkId = evidenceChunks.stream()
             .collect(Collectors.toMap(chunk -> chunk.chunkId().toString(), chunk -> chunk, (left, right) -> left));
+        List<CitationInsertRow> rows = new ArrayList<>(citations.size());
         for (AnswerContract.Citation citation : citations) {
             EvidenceChunk chunk = evidenceByChunkId.get(citation.chunkId());
             String excerpt = chunk == null ? citation.excerptMasked() : chunk.excerptMasked();
-            citationRepository.save(
-                tenantId,
-                messageId,
-                createdAt,
+            rows.add(new CitationInsertRow(
+                UUID.randomUUID(),
                 UUID.fromString(citation.chunkId()),
                 citation.rankNo(),
                 truncate(piiMaskingService.mask(excerpt), 240)
-            );
+            ));
         }
+        citationRepository.saveAll(tenantId, messageId, createdAt, rows);
     }
 
     private String truncate(String text, int maxLength) {
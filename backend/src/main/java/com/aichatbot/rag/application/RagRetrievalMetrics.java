@@ -1,5 +1,6 @@
 package com.aichatbot.rag.application;
 
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
@@ -10,20 +11,30 @@ import org.springframework.stereotype.Component;
 @Component
 public class RagRetrievalMetrics {
 
+    private final MeterRegistry meterRegistry;
     private final Timer ragSearchMs;
     private final Timer bm25Ms;
     private final Timer vectorMs;
     private final Timer rrfMs;
     private final Timer rerankMs;
+    private final Counter cacheHits;
+    private final Counter cacheMisses;
     private final AtomicLong totalRequests = new AtomicLong();
     private final AtomicLong zeroEvidenceRequests = new AtomicLong();
 
     public RagRetrievalMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
         this.ragSearchMs = Timer.builder("rag_search_ms").register(meterRegistry);
         this.bm25Ms = Timer.builder("bm25_ms").register(meterRegistry);
         this.vectorMs = Timer.builder("vector_ms").register(meterRegistry);
         this.rrfMs = Timer.builder("rrf_ms").register(meterRegistry);
         this.rerankMs = Timer.builder("rerank_ms").register(meterRegistry);
+        this.cacheHits = Counter.builder("rag_result_cache_hit_total")
+            .description("Retrievals served from the result cache")
+            .register(meterRegistry);
+        this.cacheMisses = Counter.builder("rag_result_cache_miss_total")
+            .description("Retrievals that missed the result cache")
+            .register(meterRegistry);
         Gauge.builder("zero_evidence_rate", this, RagRetrievalMetrics::zeroEvidenceRate).register(meterRegistry);
     }
 
@@ -47,6 +58,32 @@ public class RagRetrievalMetrics {
         rerankMs.record(Duration.ofMillis(Math.max(0, elapsedMs)));
     }
 
+    public void recordCacheHit() {
+        cacheHits.increment();
+    }
+
+    public void recordCacheMiss() {
+        cacheMisses.increment();
+    }
+
+    public void recordRerankFallback(String reranker, String reason) {
+        Counter.builder("rerank_fallback_total")
+            .description("Reranks that returned the fused order unchanged")
+            .tag("reranker", reranker)
+            .tag("reason", reason)
+            .register(meterRegistry)
+            .increment();
+    }
+
+    public void recordLegDegraded(String leg, String reason) {
+        Counter.builder("rag_leg_degraded_total")
+            .description("Retrieval legs dropped from fusion after a timeout or failure")
+            .tag("leg", leg)
+            .tag("reason", reason)
+            .register(meterRegistry)
+            .increment();
+    }
+
     public void recordOutcome(boolean zeroEvidence) {
         totalRequests.incrementAndGet();
         if (zeroEvidence) {
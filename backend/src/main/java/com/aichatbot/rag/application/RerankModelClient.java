@@ -0,0 +1,8 @@
+package com.aichatbot.rag.application;
+
+import java.util.List;
+
+public interface RerankModelClient {
+
+    double[] score(String queryMasked, List<String> documentsMasked);
+}
@@ -0,0 +1,6 @@
+package com.aichatbot.rag.application;
+
+import com.aichatbot.rag.application.index.TenantKbIndex;
+
+public record RerankQuery(String queryMasked, String[] queryTerms, TenantKbIndex index) {
+}
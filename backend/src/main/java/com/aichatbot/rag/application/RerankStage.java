@@ -0,0 +1,119 @@
+package com.aichatbot.rag.application;
+
+import com.aichatbot.global.config.AppProperties;
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.stereotype.Component;
+
+@Component
+public class RerankStage {
+
+    private final LexicalReranker lexicalReranker;
+    private final ModelEndpointReranker modelEndpointReranker;
+    private final RagRetrievalMetrics ragRetrievalMetrics;
+    private final AppProperties appProperties;
+    private final ThreadPoolExecutor remoteExecutor;
+
+    public RerankStage(
+        LexicalReranker lexicalReranker,
+        ModelEndpointReranker modelEndpointReranker,
+        RagRetrievalMetrics ragRetrievalMetrics,
+        AppProperties appProperties
+    ) {
+        this.lexicalReranker = lexicalReranker;
+        this.modelEndpointReranker = modelEndpointReranker;
+        this.ragRetrievalMetrics = ragRetrievalMetrics;
+        this.appProperties = appProperties;
+        int concurrency = Math.max(1, appProperties.getRag().getRerankMaxConcurrency());
+        AtomicInteger threadSequence = new AtomicInteger();
+        this.remoteExecutor = new ThreadPoolExecutor(
+            concurrency,
+            concurrency,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(Math.max(1, appProperties.getRag().getRerankQueueCapacity())),
+            runnable -> {
+                Thread thread = new Thread(runnable, "rag-rerank-" + threadSequence.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    public Outcome rerank(RerankQuery query, List<RrfFusion.ScoredChunk> fused) {
+        Reranker reranker = selectReranker();
+        if (reranker == null || fused.size() < 2) {
+            return new Outcome(fused, false);
+        }
+        if (!reranker.remote()) {
+            try {
+                return new Outcome(reranker.rerank(query, fused), false);
+            } catch (RuntimeException exception) {
+                return fallback(reranker, "error", fused);
+            }
+        }
+        return rerankWithinBudget(reranker, query, fused);
+    }
+
+    private Outcome rerankWithinBudget(
+        Reranker reranker,
+        RerankQuery query,
+        List<RrfFusion.ScoredChunk> fused
+    ) {
+        Future<List<RrfFusion.ScoredChunk>> future;
+        try {
+            future = remoteExecutor.submit(() -> reranker.rerank(query, fused));
+        } catch (RejectedExecutionException exception) {
+            return fallback(reranker, "rejected", fused);
+        }
+        try {
+            return new Outcome(
+                future.get(Math.max(1L, appProperties.getRag().getRerankBudgetMs()), TimeUnit.MILLISECONDS),
+                false
+            );
+        } catch (TimeoutException exception) {
+            future.cancel(true);
+            return fallback(reranker, "timeout", fused);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            return fallback(reranker, "error", fused);
+        } catch (ExecutionException exception) {
+            return fallback(reranker, "error", fused);
+        }
+    }
+
+    private Outcome fallback(Reranker reranker, String reason, List<RrfFusion.ScoredChunk> fused) {
+        ragRetrievalMetrics.recordRerankFallback(reranker.name(), reason);
+        return new Outcome(fused, true);
+    }
+
+    private Reranker selectReranker() {
+        String mode = appProperties.getRag().getRerankMode().toLowerCase(Locale.ROOT);
+        if ("model".equals(mode)) {
+            return modelEndpointReranker;
+        }
+        if ("lexical".equals(mode)) {
+            return lexicalReranker;
+        }
+        return null;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        remoteExecutor.shutdownNow();
+    }
+
+    public record Outcome(List<RrfFusion.ScoredChunk> chunks, boolean fallback) {
+    }
+}
@@ -0,0 +1,12 @@
+package com.aichatbot.rag.application;
+
+import java.util.List;
+
+public interface Reranker {
+
+    String name();
+
+    boolean remote();
+
+    List<RrfFusion.ScoredChunk> rerank(RerankQuery query, List<RrfFusion.ScoredChunk> candidates);
+}
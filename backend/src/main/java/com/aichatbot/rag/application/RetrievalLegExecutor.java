@@ -0,0 +1,110 @@
+package com.aichatbot.rag.application;
+
+import com.aichatbot.global.config.AppProperties;
+import com.aichatbot.rag.application.index.RankedOrdinals;
+import jakarta.annotation.PreDestroy;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.stereotype.Component;
+
+@Component
+public class RetrievalLegExecutor {
+
+    private final RagRetrievalMetrics ragRetrievalMetrics;
+    private final AppProperties appProperties;
+    private final ThreadPoolExecutor legExecutor;
+
+    public RetrievalLegExecutor(RagRetrievalMetrics ragRetrievalMetrics, AppProperties appProperties) {
+        this.ragRetrievalMetrics = ragRetrievalMetrics;
+        this.appProperties = appProperties;
+        int concurrency = Math.max(1, appProperties.getRag().getLegMaxConcurrency());
+        AtomicInteger threadSequence = new AtomicInteger();
+        this.legExecutor = new ThreadPoolExecutor(
+            concurrency,
+            concurrency,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(Math.max(1, appProperties.getRag().getLegQueueCapacity())),
+            runnable -> {
+                Thread thread = new Thread(runnable, "rag-leg-" + threadSequence.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    public Outcome runAll(Map<String, Callable<RankedOrdinals>> legs) {
+        long deadline = System.nanoTime()
+            + TimeUnit.MILLISECONDS.toNanos(Math.max(1L, appProperties.getRag().getLegTimeoutMs()));
+        Map<String, Future<RankedOrdinals>> submitted = new LinkedHashMap<>();
+        Map<String, RankedOrdinals> ranked = new LinkedHashMap<>();
+        boolean degraded = false;
+
+        for (Map.Entry<String, Callable<RankedOrdinals>> leg : legs.entrySet()) {
+            try {
+                submitted.put(leg.getKey(), legExecutor.submit(leg.getValue()));
+            } catch (RejectedExecutionException exception) {
+                submitted.put(leg.getKey(), null);
+            }
+        }
+        for (Map.Entry<String, Future<RankedOrdinals>> leg : submitted.entrySet()) {
+            if (leg.getValue() != null) {
+                continue;
+            }
+            // Why: pool이 포화되면 leg를 버리지 않고 요청 스레드에서 실행해 예전 순차 실행만큼의 지연만 치른다.
+            try {
+                ranked.put(leg.getKey(), legs.get(leg.getKey()).call());
+            } catch (Exception exception) {
+                degraded |= degrade(leg.getKey(), "error", ranked);
+            }
+        }
+        for (Map.Entry<String, Future<RankedOrdinals>> leg : submitted.entrySet()) {
+            Future<RankedOrdinals> future = leg.getValue();
+            if (future == null) {
+                continue;
+            }
+            try {
+                ranked.put(leg.getKey(), future.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS));
+            } catch (TimeoutException exception) {
+                future.cancel(true);
+                degraded |= degrade(leg.getKey(), "timeout", ranked);
+            } catch (ExecutionException exception) {
+                degraded |= degrade(leg.getKey(), "error", ranked);
+            } catch (InterruptedException exception) {
+                future.cancel(true);
+                Thread.currentThread().interrupt();
+                degraded |= degrade(leg.getKey(), "interrupted", ranked);
+            }
+        }
+        return new Outcome(ranked, degraded);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        legExecutor.shutdownNow();
+    }
+
+    private boolean degrade(String leg, String reason, Map<String, RankedOrdinals> ranked) {
+        ranked.put(leg, RankedOrdinals.empty());
+        ragRetrievalMetrics.recordLegDegraded(leg, reason);
+        return true;
+    }
+
+    public record Outcome(Map<String, RankedOrdinals> ranked, boolean degraded) {
+
+        public RankedOrdinals leg(String name) {
+            RankedOrdinals result = ranked.get(name);
+            return result == null ? RankedOrdinals.empty() : result;
+        }
+    }
+}
@@ -6,6 +6,7 @@ public record RetrievalResult(
     List<EvidenceChunk> evidenceChunks,
     String retrievalMode,
     double evidenceScore,
-    boolean zeroEvidence
+    boolean zeroEvidence,
+    String kbVersionStamp
 ) {
 }
@@ -0,0 +1,173 @@
+package com.aichatbot.rag.application;
+
+import com.aichatbot.global.config.AppProperties;
+import java.text.Normalizer;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.stereotype.Component;
+
+@Component
+public class RetrievalResultCache {
+
+    private final RagRetrievalMetrics ragRetrievalMetrics;
+    private final AppProperties appProperties;
+    private final ConcurrentHashMap<UUID, Segment> segments = new ConcurrentHashMap<>();
+    private final AtomicInteger size = new AtomicInteger();
+
+    public RetrievalResultCache(RagRetrievalMetrics ragRetrievalMetrics, AppProperties appProperties) {
+        this.ragRetrievalMetrics = ragRetrievalMetrics;
+        this.appProperties = appProperties;
+    }
+
+    public Key keyFor(RagRetrievalRequest request, String versionStamp) {
+        // Why: dense leg는 질의 원문을 임베딩하므로 키는 token이 아닌 정규화한 질의 텍스트로 잡고, 대소문자, 문장부호, 공백 차이만 같은 항목으로 본다.
+        String normalizedQuery = normalizeQuery(request.queryMasked());
+        Map<String, String> filters = request.filters() == null ? Map.of() : new TreeMap<>(request.filters());
+        return new Key(request.tenantId(), normalizedQuery, request.topK(), filters, versionStamp);
+    }
+
+    public RetrievalResult get(Key key) {
+        if (!enabled()) {
+            return null;
+        }
+        Segment segment = segments.get(key.tenantId());
+        RetrievalResult result = segment == null ? null : segment.get(key, System.currentTimeMillis());
+        if (result != null) {
+            ragRetrievalMetrics.recordCacheHit();
+            return result;
+        }
+        ragRetrievalMetrics.recordCacheMiss();
+        return null;
+    }
+
+    public void put(Key key, RetrievalResult result) {
+        if (!enabled()) {
+            return;
+        }
+        long expiresAt = System.currentTimeMillis() + Math.max(1L, appProperties.getRag().getResultCacheTtlSeconds()) * 1000L;
+        Entry entry = new Entry(result, expiresAt);
+        Segment segment = segments.computeIfAbsent(key.tenantId(), ignored -> new Segment());
+        while (!segment.put(key, entry)) {
+            // invalidateTenant로 폐기된 segment에는 쓰지 않고 새 segment로 바꾼다.
+            segments.remove(key.tenantId(), segment);
+            segment = segments.computeIfAbsent(key.tenantId(), ignored -> new Segment());
+        }
+        int maxEntries = Math.max(1, appProperties.getRag().getResultCacheMaxEntries());
+        // Why: 테넌트마다 락을 따로 두어 조회가 전역 락에서 줄 서지 않게 하고, 상한을 넘으면 쓴 테넌트의 오래된 항목부터 비운다.
+        while (size.get() > maxEntries) {
+            if (!segment.evictEldest(1) && !evictFromOtherSegment(segment) && !segment.evictEldest(0)) {
+                break;
+            }
+        }
+    }
+
+    public void invalidateTenant(UUID tenantId) {
+        Segment segment = segments.remove(tenantId);
+        if (segment != null) {
+            segment.retire();
+        }
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    private boolean evictFromOtherSegment(Segment current) {
+        for (Segment segment : segments.values()) {
+            if (segment != current && segment.evictEldest(0)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean enabled() {
+        return appProperties.getRag().isResultCacheEnabled();
+    }
+
+    static String normalizeQuery(String queryMasked) {
+        if (queryMasked == null) {
+            return "";
+        }
+        String composed = Normalizer.normalize(queryMasked, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder builder = new StringBuilder(composed.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < composed.length(); i++) {
+            char current = composed.charAt(i);
+            if (!Character.isLetterOrDigit(current)) {
+                pendingSpace = builder.length() > 0;
+                continue;
+            }
+            if (pendingSpace) {
+                builder.append(' ');
+                pendingSpace = false;
+            }
+            builder.append(current);
+        }
+        return builder.toString();
+    }
+
+    public record Key(
+        UUID tenantId,
+        String normalizedQuery,
+        int topK,
+        Map<String, String> filters,
+        String versionStamp
+    ) {
+    }
+
+    private record Entry(RetrievalResult result, long expiresAtMillis) {
+    }
+
+    private final class Segment {
+
+        private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+        private boolean retired;
+
+        private synchronized RetrievalResult get(Key key, long now) {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiresAtMillis() > now) {
+                return entry.result();
+            }
+            entries.remove(key);
+            size.decrementAndGet();
+            return null;
+        }
+
+        private synchronized boolean put(Key key, Entry entry) {
+            if (retired) {
+                return false;
+            }
+            if (entries.put(key, entry) == null) {
+                size.incrementAndGet();
+            }
+            return true;
+        }
+
+        private synchronized boolean evictEldest(int keep) {
+            if (entries.size() <= keep) {
+                return false;
+            }
+            Iterator<Key> iterator = entries.keySet().iterator();
+            iterator.next();
+            iterator.remove();
+            size.decrementAndGet();
+            return true;
+        }
+
+        private synchronized void retire() {
+            retired = true;
+            size.addAndGet(-entries.size());
+            entries.clear();
+        }
+    }
+}
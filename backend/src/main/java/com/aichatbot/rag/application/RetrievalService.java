@@ -1,47 +1,72 @@
 package com.aichatbot.rag.application;
 
-import com.aichatbot.global.privacy.PiiMaskingService;
+import com.aichatbot.global.config.AppProperties;
+import com.aichatbot.global.error.ApiException;
+import com.aichatbot.global.error.ErrorCatalog;
+import com.aichatbot.llm.application.EmbeddingClient;
+import com.aichatbot.rag.application.index.KbIndexRegistry;
+import com.aichatbot.rag.application.index.RankedOrdinals;
+import com.aichatbot.rag.application.index.RetrievalFilter;
+import com.aichatbot.rag.application.index.TenantKbIndex;
+import com.aichatbot.rag.application.index.Tokenizer;
+import com.aichatbot.rag.application.index.VectorIndex;
 import com.aichatbot.rag.infrastructure.ChunkSearchRow;
-import com.aichatbot.rag.infrastructure.KbSearchRepository;
 import java.time.Instant;
-import java.util.Comparator;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.Callable;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
 @Service
 public class RetrievalService {
 
-    private final KbSearchRepository kbSearchRepository;
+    private static final String VECTOR_LEG = "vector";
+    private static final String BM25_LEG = "bm25";
+
+    private final KbIndexRegistry kbIndexRegistry;
+    private final Tokenizer tokenizer;
+    private final Bm25Scorer bm25Scorer;
     private final RrfFusion rrfFusion;
-    private final NoopReranker reranker;
+    private final RerankStage rerankStage;
+    private final RetrievalLegExecutor retrievalLegExecutor;
+    private final RetrievalResultCache retrievalResultCache;
     private final EvidenceSelector evidenceSelector;
-    private final ChunkContextHeaderBuilder chunkContextHeaderBuilder;
-    private final ExtractiveChunkSummarizer chunkSummarizer;
-    private final PiiMaskingService piiMaskingService;
+    private final ChunkTextLoader chunkTextLoader;
     private final RagRetrievalMetrics ragRetrievalMetrics;
+    private final EmbeddingClient embeddingClient;
+    private final AppProperties appProperties;
 
     public RetrievalService(
-        KbSearchRepository kbSearchRepository,
+        KbIndexRegistry kbIndexRegistry,
+        Tokenizer tokenizer,
+        Bm25Scorer bm25Scorer,
         RrfFusion rrfFusion,
-        NoopReranker reranker,
+        RerankStage rerankStage,
+        RetrievalLegExecutor retrievalLegExecutor,
+        RetrievalResultCache retrievalResultCache,
         EvidenceSelector evidenceSelector,
-        ChunkContextHeaderBuilder chunkContextHeaderBuilder,
-        ExtractiveChunkSummarizer chunkSummarizer,
-        PiiMaskingService piiMaskingService,
-        RagRetrievalMetrics ragRetrievalMetrics
+        ChunkTextLoader chunkTextLoader,
+        RagRetrievalMetrics ragRetrievalMetrics,
+        EmbeddingClient embeddingClient,
+        AppProperties appProperties
     ) {
-        this.kbSearchRepository = kbSearchRepository;
+        this.kbIndexRegistry = kbIndexRegistry;
+        this.tokenizer = tokenizer;
+        this.bm25Scorer = bm25Scorer;
         this.rrfFusion = rrfFusion;
-        this.reranker = reranker;
+        this.rerankStage = rerankStage;
+        this.retrievalLegExecutor = retrievalLegExecutor;
+        this.retrievalResultCache = retrievalResultCache;
         this.evidenceSelector = evidenceSelector;
-        this.chunkContextHeaderBuilder = chunkContextHeaderBuilder;
-        this.chunkSummarizer = chunkSummarizer;
-        this.piiMaskingService = piiMaskingService;
+        this.chunkTextLoader = chunkTextLoader;
         this.ragRetrievalMetrics = ragRetrievalMetrics;
+        this.embeddingClient = embeddingClient;
+        this.appProperties = appProperties;
     }
 
     public RetrievalResult retrieve(String queryTextMasked, UUID tenantId, int topK) {
@@ -58,44 +83,78 @@ public class RetrievalService {
 
     public RetrievalResult retrieve(RagRetrievalRequest request) {
         long startedAt = System.currentTimeMillis();
-        List<ChunkSearchRow> chunks = kbSearchRepository.findApprovedChunksByTenant(request.tenantId());
-        Map<UUID, ChunkSearchRow> byChunkId = new HashMap<>();
-        for (ChunkSearchRow row : chunks) {
-            byChunkId.put(UUID.fromString(row.chunkId()), row);
+        TenantKbIndex index = kbIndexRegistry.indexFor(request.tenantId());
+        RetrievalResultCache.Key cacheKey = retrievalResultCache.keyFor(request, index.versionStamp());
+        RetrievalResult cached = retrievalResultCache.get(cacheKey);
+        if (cached != null) {
+            ragRetrievalMetrics.recordOutcome(cached.zeroEvidence());
+            ragRetrievalMetrics.recordRagSearch(System.currentTimeMillis() - startedAt);
+            return cached;
         }
-
-        long vectorStart = System.currentTimeMillis();
-        List<RrfFusion.ScoredChunk> vectorRanked = scoreVector(request.queryMasked(), chunks);
-        ragRetrievalMetrics.recordVector(System.currentTimeMillis() - vectorStart);
-
-        long bm25Start = System.currentTimeMillis();
-        List<RrfFusion.ScoredChunk> bm25Ranked = scoreBm25(request.queryMasked(), chunks);
-        ragRetrievalMetrics.recordBm25(System.currentTimeMillis() - bm25Start);
+        String[] keywords = tokenizer.tokenize(request.queryMasked());
+        BitSet allowedOrdinals = index.allowedOrdinals(toFilter(request.filters()));
+
+        int legCandidateK = Math.max(1, appProperties.getRag().getLegCandidateK());
+
+        Map<String, Callable<RankedOrdinals>> legs = new LinkedHashMap<>();
+        legs.put(VECTOR_LEG, () -> {
+            long vectorStart = System.currentTimeMillis();
+            RankedOrdinals ranked = scoreVector(request.queryMasked(), index, legCandidateK, allowedOrdinals);
+            ragRetrievalMetrics.recordVector(System.currentTimeMillis() - vectorStart);
+            return ranked;
+        });
+        legs.put(BM25_LEG, () -> {
+            long bm25Start = System.currentTimeMillis();
+            RankedOrdinals ranked = bm25Scorer.score(keywords, index, legCandidateK, allowedOrdinals);
+            ragRetrievalMetrics.recordBm25(System.currentTimeMillis() - bm25Start);
+            return ranked;
+        });
+        RetrievalLegExecutor.Outcome legResults = retrievalLegExecutor.runAll(legs);
+        RankedOrdinals vectorRanked = legResults.leg(VECTOR_LEG);
+        RankedOrdinals bm25Ranked = legResults.leg(BM25_LEG);
 
         long rrfStart = System.currentTimeMillis();
-        List<RrfFusion.ScoredChunk> fused = rrfFusion.fuse(vectorRanked, bm25Ranked, 60);
+        int fusionLimit = Math.max(request.topK(), appProperties.getRag().getFusionCandidateK());
+        List<RrfFusion.ScoredChunk> fused = toScoredChunks(rrfFusion.fuse(vectorRanked, bm25Ranked, 60, fusionLimit), index);
         ragRetrievalMetrics.recordRrf(System.currentTimeMillis() - rrfStart);
 
         long rerankStart = System.currentTimeMillis();
-        List<RrfFusion.ScoredChunk> reranked = reranker.rerank(request.queryMasked(), fused);
+        RerankStage.Outcome reranked = rerankStage.rerank(
+            new RerankQuery(request.queryMasked(), keywords, index),
+            fused
+        );
         ragRetrievalMetrics.recordRerank(System.currentTimeMillis() - rerankStart);
 
         List<RrfFusion.ScoredChunk> selected = evidenceSelector.select(
-            reranked,
+            reranked.chunks(),
             request.topK(),
             0.0d
         );
         boolean zeroEvidence = selected.isEmpty();
+        Map<UUID, String> chunkTexts = chunkTextLoader.load(
+            request.tenantId(),
+            selected.stream().map(RrfFusion.ScoredChunk::chunkId).toList()
+        );
         ragRetrievalMetrics.recordOutcome(zeroEvidence);
         ragRetrievalMetrics.recordRagSearch(System.currentTimeMillis() - startedAt);
 
         List<EvidenceChunk> evidence = selected.stream()
-            .map(item -> toEvidence(item, byChunkId, chunks.size()))
-            .sorted(Comparator.comparing(EvidenceChunk::score).reversed())
+            .map(item -> toEvidence(item, index, chunkTexts))
             .toList();
         List<EvidenceChunk> ranked = rank(evidence);
-        double evidenceScore = ranked.isEmpty() ? 0.0d : ranked.get(0).score();
-        return new RetrievalResult(ranked, "hybrid_summary_first", evidenceScore, zeroEvidence);
+        double evidenceScore = ranked.stream().mapToDouble(EvidenceChunk::score).max().orElse(0.0d);
+        RetrievalResult result = new RetrievalResult(
+            ranked,
+            "hybrid_summary_first",
+            evidenceScore,
+            zeroEvidence,
+            index.versionStamp()
+        );
+        // Why: fused 순서 대체나 leg 누락 결과는 임시 응답이므로 TTL 동안 캐시에 남기지 않는다.
+        if (!reranked.fallback() && !legResults.degraded()) {
+            retrievalResultCache.put(cacheKey, result);
+        }
+        return result;
     }
 
     private List<EvidenceChunk> rank(List<EvidenceChunk> chunks) {
@@ -115,89 +174,58 @@ public class RetrievalService {
             }).toList();
     }
 
-    private EvidenceChunk toEvidence(RrfFusion.ScoredChunk item, Map<UUID, ChunkSearchRow> byChunkId, int totalChunks) {
-        ChunkSearchRow row = byChunkId.get(item.chunkId());
-        if (row == null) {
+    private EvidenceChunk toEvidence(RrfFusion.ScoredChunk item, TenantKbIndex index, Map<UUID, String> chunkTexts) {
+        int ordinal = index.ordinalOf(item.chunkId());
+        if (ordinal < 0) {
             return new EvidenceChunk(item.chunkId(), null, "unknown", 0, 0, normalizeRrfScore(item.score()), "", "");
         }
-        String contextHeader = chunkContextHeaderBuilder.build(row, totalChunks);
-        String summary = chunkSummarizer.summarize(row.chunkText(), 2);
-        String excerpt = piiMaskingService.mask((contextHeader + "\n" + summary).trim());
-        String original = row.chunkText() == null ? "" : row.chunkText();
+        ChunkSearchRow row = index.row(ordinal);
+        String original = chunkTexts.getOrDefault(item.chunkId(), "");
         return new EvidenceChunk(
-            UUID.fromString(row.chunkId()),
+            index.chunkId(ordinal),
             UUID.fromString(row.documentId()),
             row.title(),
             row.versionNo() == null ? 0 : row.versionNo(),
             0,
             normalizeRrfScore(item.score()),
-            excerpt,
+            index.excerptMasked(ordinal),
             original
         );
     }
 
-    private List<RrfFusion.ScoredChunk> scoreVector(String queryMasked, List<ChunkSearchRow> chunks) {
-        String[] keywords = normalize(queryMasked).split("\\s+");
-        return chunks.stream()
-            .map(chunk -> {
-                String text = normalize(chunk.embeddingInputText());
-                double score = scoreChunk(keywords, text);
-                return new RrfFusion.ScoredChunk(UUID.fromString(chunk.chunkId()), score, text);
-            })
-            .filter(item -> item.score() > 0.0d)
-            .sorted(Comparator.comparing(RrfFusion.ScoredChunk::score).reversed())
-            .toList();
-    }
-
-    private List<RrfFusion.ScoredChunk> scoreBm25(String queryMasked, List<ChunkSearchRow> chunks) {
-        String[] keywords = normalize(queryMasked).split("\\s+");
-        return chunks.stream()
-            .map(chunk -> {
-                String contextHeader = chunk.contextHeader();
-                if (contextHeader == null || contextHeader.isBlank()) {
-                    contextHeader = chunkContextHeaderBuilder.build(chunk, chunks.size());
-                }
-                String summary = chunk.summaryText();
-                if (summary == null || summary.isBlank()) {
-                    summary = chunkSummarizer.summarize(chunk.chunkText(), 2);
-                }
-                String indexText = normalize(contextHeader + "\n" + summary);
-                double score = scoreChunk(keywords, indexText);
-                return new RrfFusion.ScoredChunk(UUID.fromString(chunk.chunkId()), score, indexText);
-            })
-            .filter(item -> item.score() > 0.0d)
-            .sorted(Comparator.comparing(RrfFusion.ScoredChunk::score).reversed())
-            .toList();
+    private RetrievalFilter toFilter(Map<String, String> filters) {
+        try {
+            return RetrievalFilter.from(filters);
+        } catch (IllegalArgumentException exception) {
+            throw new ApiException(
+                HttpStatus.UNPROCESSABLE_ENTITY,
+                "API-003-422",
+                ErrorCatalog.messageOf("API-003-422"),
+                List.of(exception.getMessage())
+            );
+        }
     }
 
-    private double scoreChunk(String[] keywords, String text) {
-        int hits = 0;
-        int nonBlankKeywords = 0;
-        for (String keyword : keywords) {
-            if (keyword.isBlank()) {
-                continue;
-            }
-            nonBlankKeywords++;
-            if (text.contains(keyword)) {
-                hits++;
-            }
-        }
-        if (nonBlankKeywords == 0) {
-            return 0.0d;
+    private RankedOrdinals scoreVector(String queryMasked, TenantKbIndex index, int limit, BitSet allowedOrdinals) {
+        VectorIndex vectors = index.vectors();
+        if (vectors.size() == 0 || queryMasked == null || queryMasked.isBlank()) {
+            return RankedOrdinals.empty();
         }
-        int effectiveDenominator = Math.max(1, Math.min(nonBlankKeywords, 5));
-        return Math.min(1.0d, (double) hits / (double) effectiveDenominator);
+        return vectors.search(
+            embeddingClient.embed(queryMasked),
+            limit,
+            (float) appProperties.getRag().getVectorMinSimilarity(),
+            allowedOrdinals
+        ).drain();
     }
 
-    private String normalize(String value) {
-        if (value == null) {
-            return "";
+    private List<RrfFusion.ScoredChunk> toScoredChunks(RankedOrdinals fused, TenantKbIndex index) {
+        List<RrfFusion.ScoredChunk> scored = new ArrayList<>(fused.size());
+        for (int i = 0; i < fused.size(); i++) {
+            int ordinal = fused.ordinalAt(i);
+            scored.add(new RrfFusion.ScoredChunk(index.chunkId(ordinal), fused.scoreAt(i), index.contextHeader(ordinal)));
         }
-        return value
-            .toLowerCase(Locale.ROOT)
-            .replaceAll("[^a-z0-9\\p{IsHangul}\\s]", " ")
-            .replaceAll("\\s+", " ")
-            .trim();
+        return scored;
     }
 
     private double normalizeRrfScore(double rawRrfScore) {
@@ -1,49 +1,26 @@
 package com.aichatbot.rag.application;
 
-import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import com.aichatbot.rag.application.index.OrdinalScoreMap;
+import com.aichatbot.rag.application.index.RankedOrdinals;
+import com.aichatbot.rag.application.index.TopKHeap;
 import java.util.UUID;
 import org.springframework.stereotype.Component;
 
 @Component
 public class RrfFusion {
 
-    public List<ScoredChunk> fuse(List<ScoredChunk> vectorRanked, List<ScoredChunk> bm25Ranked, int rrfK) {
-        Map<UUID, MutableScore> scores = new HashMap<>();
+    public RankedOrdinals fuse(RankedOrdinals vectorRanked, RankedOrdinals bm25Ranked, int rrfK, int limit) {
+        OrdinalScoreMap scores = new OrdinalScoreMap(vectorRanked.size() + bm25Ranked.size());
         apply(scores, vectorRanked, rrfK);
         apply(scores, bm25Ranked, rrfK);
-
-        List<ScoredChunk> fused = new ArrayList<>();
-        for (Map.Entry<UUID, MutableScore> entry : scores.entrySet()) {
-            MutableScore value = entry.getValue();
-            fused.add(new ScoredChunk(entry.getKey(), value.score, value.previewText));
-        }
-        fused.sort(Comparator.comparing(ScoredChunk::score).reversed().thenComparing(c -> c.chunkId().toString()));
-        return fused;
+        // Why: ordinal이 chunk_id 순서를 따르므로 동점은 int 비교만으로 모든 노드에서 같은 순서가 된다.
+        return scores.offerAll(new TopKHeap(limit)).drain();
     }
 
-    private void apply(Map<UUID, MutableScore> scores, List<ScoredChunk> ranked, int rrfK) {
+    private void apply(OrdinalScoreMap scores, RankedOrdinals ranked, int rrfK) {
         for (int i = 0; i < ranked.size(); i++) {
-            ScoredChunk row = ranked.get(i);
             int rank = i + 1;
-            double delta = 1.0d / (rrfK + rank);
-            scores.computeIfAbsent(row.chunkId(), ignored -> new MutableScore(row.previewText())).add(delta);
-        }
-    }
-
-    private static final class MutableScore {
-        private double score;
-        private final String previewText;
-
-        private MutableScore(String previewText) {
-            this.previewText = previewText;
-        }
-
-        private void add(double delta) {
-            score += delta;
+            scores.add(ranked.ordinalAt(i), 1.0d / (rrfK + rank));
         }
     }
 
@@ -0,0 +1,112 @@
+package com.aichatbot.rag.application;
+
+import java.io.IOException;
+import java.io.Reader;
+
+final class StreamingTextChunker {
+
+    private static final int READ_BUFFER_CHARS = 8192;
+
+    private final Reader reader;
+    private final int maxChars;
+    private final int overlapChars;
+    private final char[] readBuffer = new char[READ_BUFFER_CHARS];
+    private final StringBuilder pending = new StringBuilder();
+    private int carriedChars;
+    private boolean endOfInput;
+
+    StreamingTextChunker(Reader reader, int maxChars, int overlapChars) {
+        this.reader = reader;
+        this.maxChars = Math.max(64, maxChars);
+        this.overlapChars = Math.max(0, Math.min(overlapChars, this.maxChars / 4));
+    }
+
+    String next() throws IOException {
+        while (true) {
+            fill();
+            if (endOfInput && isBlank(carriedChars, pending.length())) {
+                pending.setLength(0);
+                carriedChars = 0;
+                return null;
+            }
+            if (endOfInput && pending.length() <= maxChars) {
+                String chunk = pending.toString().trim();
+                pending.setLength(0);
+                carriedChars = 0;
+                return chunk;
+            }
+            int cut = cutPoint();
+            String chunk = pending.substring(0, cut).trim();
+            int keepFrom = overlapStart(cut);
+            pending.delete(0, keepFrom);
+            carriedChars = cut - keepFrom;
+            if (!chunk.isEmpty()) {
+                return chunk;
+            }
+        }
+    }
+
+    private void fill() throws IOException {
+        while (!endOfInput && pending.length() < maxChars) {
+            int read = reader.read(readBuffer);
+            if (read < 0) {
+                endOfInput = true;
+            } else {
+                pending.append(readBuffer, 0, read);
+            }
+        }
+    }
+
+    private int cutPoint() {
+        int limit = Math.min(maxChars, pending.length());
+        int floor = Math.max(maxChars / 2, carriedChars + 1);
+        int paragraph = -1;
+        int sentence = -1;
+        int space = -1;
+        for (int i = limit - 1; i >= floor; i--) {
+            char current = pending.charAt(i);
+            if (current == '\n' && i > 0 && pending.charAt(i - 1) == '\n') {
+                paragraph = i + 1;
+                break;
+            }
+            if (sentence < 0 && Character.isWhitespace(current) && isSentenceEnd(pending.charAt(i - 1))) {
+                sentence = i + 1;
+            }
+            if (space < 0 && Character.isWhitespace(current)) {
+                space = i + 1;
+            }
+        }
+        if (paragraph > 0) {
+            return paragraph;
+        }
+        if (sentence > 0) {
+            return sentence;
+        }
+        return space > 0 ? space : limit;
+    }
+
+    private int overlapStart(int cut) {
+        if (overlapChars == 0) {
+            return cut;
+        }
+        for (int i = cut - overlapChars; i < cut; i++) {
+            if (Character.isWhitespace(pending.charAt(i))) {
+                return i + 1;
+            }
+        }
+        return cut;
+    }
+
+    private boolean isSentenceEnd(char value) {
+        return value == '.' || value == '!' || value == '?' || value == '。';
+    }
+
+    private boolean isBlank(int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (!Character.isWhitespace(pending.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,107 @@
+package com.aichatbot.rag.application.index;
+
+import com.aichatbot.rag.infrastructure.ChunkSearchRow;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+final class AttributeIndex {
+
+    private final int size;
+    private final Map<String, BitSet> byCategory;
+    private final Map<String, BitSet> bySourceType;
+    private final Map<String, BitSet> byOwner;
+    private final NavigableMap<Long, BitSet> byEffectiveDay;
+
+    private AttributeIndex(
+        int size,
+        Map<String, BitSet> byCategory,
+        Map<String, BitSet> bySourceType,
+        Map<String, BitSet> byOwner,
+        NavigableMap<Long, BitSet> byEffectiveDay
+    ) {
+        this.size = size;
+        this.byCategory = byCategory;
+        this.bySourceType = bySourceType;
+        this.byOwner = byOwner;
+        this.byEffectiveDay = byEffectiveDay;
+    }
+
+    static AttributeIndex of(ChunkSearchRow[] rows) {
+        Map<String, BitSet> byCategory = new HashMap<>();
+        Map<String, BitSet> bySourceType = new HashMap<>();
+        Map<String, BitSet> byOwner = new HashMap<>();
+        NavigableMap<Long, BitSet> byEffectiveDay = new TreeMap<>();
+        for (int ordinal = 0; ordinal < rows.length; ordinal++) {
+            ChunkSearchRow row = rows[ordinal];
+            mark(byCategory, RetrievalFilter.normalizeValue(row.category()), ordinal);
+            mark(bySourceType, RetrievalFilter.normalizeValue(row.sourceType()), ordinal);
+            mark(byOwner, RetrievalFilter.normalizeValue(row.owner()), ordinal);
+            LocalDate effectiveDate = parseDate(row.effectiveDate());
+            if (effectiveDate != null) {
+                byEffectiveDay.computeIfAbsent(effectiveDate.toEpochDay(), ignored -> new BitSet()).set(ordinal);
+            }
+        }
+        return new AttributeIndex(rows.length, byCategory, bySourceType, byOwner, byEffectiveDay);
+    }
+
+    // 제한이 없는 필터면 null을 돌려줘 호출자가 필터 없는 빠른 경로를 그대로 쓴다.
+    BitSet allowedOrdinals(RetrievalFilter filter) {
+        if (filter == null || filter.isEmpty()) {
+            return null;
+        }
+        BitSet allowed = new BitSet(size);
+        allowed.set(0, size);
+        restrict(allowed, byCategory, filter.categories());
+        restrict(allowed, bySourceType, filter.sourceTypes());
+        restrict(allowed, byOwner, filter.owners());
+        if (filter.effectiveFrom() != null || filter.effectiveTo() != null) {
+            long from = filter.effectiveFrom() == null ? Long.MIN_VALUE : filter.effectiveFrom().toEpochDay();
+            long to = filter.effectiveTo() == null ? Long.MAX_VALUE : filter.effectiveTo().toEpochDay();
+            BitSet inRange = new BitSet(size);
+            if (from <= to) {
+                for (BitSet bits : byEffectiveDay.subMap(from, true, to, true).values()) {
+                    inRange.or(bits);
+                }
+            }
+            allowed.and(inRange);
+        }
+        return allowed;
+    }
+
+    private void restrict(BitSet allowed, Map<String, BitSet> bitsByValue, Set<String> values) {
+        if (values.isEmpty()) {
+            return;
+        }
+        BitSet matching = new BitSet(size);
+        for (String value : values) {
+            BitSet bits = bitsByValue.get(value);
+            if (bits != null) {
+                matching.or(bits);
+            }
+        }
+        allowed.and(matching);
+    }
+
+    private static void mark(Map<String, BitSet> bitsByValue, String value, int ordinal) {
+        if (!value.isEmpty()) {
+            bitsByValue.computeIfAbsent(value, ignored -> new BitSet()).set(ordinal);
+        }
+    }
+
+    private static LocalDate parseDate(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value.trim().length() > 10 ? value.trim().substring(0, 10) : value.trim());
+        } catch (DateTimeParseException exception) {
+            return null;
+        }
+    }
+}
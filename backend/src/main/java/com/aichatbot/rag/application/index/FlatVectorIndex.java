@@ -0,0 +1,149 @@
+package com.aichatbot.rag.application.index;
+
+import java.io.IOException;
+import java.util.BitSet;
+
+public final class FlatVectorIndex implements VectorIndex {
+
+    private final int dimension;
+    private final int size;
+    private final float[] packed;
+    private final boolean[] present;
+
+    FlatVectorIndex(int dimension, float[][] vectors) {
+        this.dimension = dimension;
+        this.size = vectors.length;
+        this.packed = new float[Math.multiplyExact(size, dimension)];
+        this.present = new boolean[size];
+        for (int ordinal = 0; ordinal < size; ordinal++) {
+            float[] vector = vectors[ordinal];
+            if (vector == null || vector.length != dimension || !normalizeInto(vector, packed, ordinal * dimension)) {
+                continue;
+            }
+            present[ordinal] = true;
+        }
+    }
+
+    private FlatVectorIndex(int dimension, int size, float[] packed, boolean[] present) {
+        this.dimension = dimension;
+        this.size = size;
+        this.packed = packed;
+        this.present = present;
+    }
+
+    void writeTo(SnapshotWriter writer) throws IOException {
+        writer.writeInt(dimension);
+        writer.writeInt(size);
+        writer.writeFloats(packed, packed.length);
+        writer.writeBooleans(present);
+    }
+
+    static FlatVectorIndex readFrom(SnapshotReader reader) {
+        int dimension = reader.readInt();
+        int size = reader.readCount();
+        float[] packed = reader.readFloats(Math.multiplyExact(size, dimension));
+        return new FlatVectorIndex(dimension, size, packed, reader.readBooleans(size));
+    }
+
+    @Override
+    public int dimension() {
+        return dimension;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public TopKHeap search(float[] query, int topK, float minSimilarity, BitSet allowedOrdinals) {
+        TopKHeap heap = new TopKHeap(topK);
+        if (query == null || query.length != dimension || size == 0) {
+            return heap;
+        }
+        float[] normalizedQuery = new float[dimension];
+        if (!normalizeInto(query, normalizedQuery, 0)) {
+            return heap;
+        }
+        if (allowedOrdinals == null) {
+            for (int ordinal = 0; ordinal < size; ordinal++) {
+                offer(heap, normalizedQuery, ordinal, minSimilarity);
+            }
+            return heap;
+        }
+        for (int ordinal = allowedOrdinals.nextSetBit(0); ordinal >= 0 && ordinal < size; ordinal = allowedOrdinals.nextSetBit(ordinal + 1)) {
+            offer(heap, normalizedQuery, ordinal, minSimilarity);
+        }
+        return heap;
+    }
+
+    private void offer(TopKHeap heap, float[] normalizedQuery, int ordinal, float minSimilarity) {
+        if (!present[ordinal]) {
+            return;
+        }
+        float similarity = dot(normalizedQuery, ordinal * dimension);
+        if (similarity > minSimilarity) {
+            heap.offer(ordinal, similarity);
+        }
+    }
+
+    private float dot(float[] query, int offset) {
+        float sum = 0.0f;
+        for (int i = 0; i < dimension; i++) {
+            sum += query[i] * packed[offset + i];
+        }
+        return sum;
+    }
+
+    static boolean normalizeInto(float[] source, float[] target, int offset) {
+        double norm = 0.0d;
+        for (float value : source) {
+            norm += (double) value * value;
+        }
+        if (norm == 0.0d || Double.isNaN(norm) || Double.isInfinite(norm)) {
+            return false;
+        }
+        float inverse = (float) (1.0d / Math.sqrt(norm));
+        for (int i = 0; i < source.length; i++) {
+            target[offset + i] = source[i] * inverse;
+        }
+        return true;
+    }
+
+    public static String serialize(float[] vector) {
+        StringBuilder builder = new StringBuilder(vector.length * 10 + 2).append('[');
+        for (int i = 0; i < vector.length; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append(vector[i]);
+        }
+        return builder.append(']').toString();
+    }
+
+    static float[] parse(String serialized) {
+        if (serialized == null) {
+            return null;
+        }
+        String body = serialized.trim();
+        if (body.startsWith("[")) {
+            body = body.substring(1);
+        }
+        if (body.endsWith("]")) {
+            body = body.substring(0, body.length() - 1);
+        }
+        if (body.isBlank()) {
+            return null;
+        }
+        String[] parts = body.split(",");
+        float[] vector = new float[parts.length];
+        try {
+            for (int i = 0; i < parts.length; i++) {
+                vector[i] = Float.parseFloat(parts[i].trim());
+            }
+        } catch (NumberFormatException exception) {
+            return null;
+        }
+        return vector;
+    }
+}
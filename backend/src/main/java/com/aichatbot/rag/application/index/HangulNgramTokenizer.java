@@ -0,0 +1,93 @@
+package com.aichatbot.rag.application.index;
+
+import com.aichatbot.global.config.AppProperties;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import org.springframework.stereotype.Component;
+
+@Component
+public class HangulNgramTokenizer implements Tokenizer {
+
+    private static final String[] NO_TERMS = new String[0];
+
+    private final WordTokenizer wordTokenizer;
+    private final AppProperties appProperties;
+    private volatile StopwordSet stopwords = new StopwordSet(null, Set.of());
+
+    public HangulNgramTokenizer(WordTokenizer wordTokenizer, AppProperties appProperties) {
+        this.wordTokenizer = wordTokenizer;
+        this.appProperties = appProperties;
+    }
+
+    @Override
+    public String[] tokenize(String value) {
+        String[] words = wordTokenizer.tokenize(value);
+        if (words.length == 0) {
+            return NO_TERMS;
+        }
+        Set<String> stopwordSet = stopwords();
+        int gramSize = Math.max(1, appProperties.getRag().getHangulNgramSize());
+        List<String> terms = new ArrayList<>(words.length * 2);
+        for (String word : words) {
+            if (stopwordSet.contains(word)) {
+                continue;
+            }
+            addWordTerms(word, gramSize, terms);
+        }
+        return terms.isEmpty() ? NO_TERMS : terms.toArray(NO_TERMS);
+    }
+
+    private void addWordTerms(String word, int gramSize, List<String> terms) {
+        int runStart = 0;
+        boolean runHangul = isHangul(word.charAt(0));
+        for (int i = 1; i <= word.length(); i++) {
+            if (i < word.length() && isHangul(word.charAt(i)) == runHangul) {
+                continue;
+            }
+            if (runHangul) {
+                addHangulGrams(word, runStart, i, gramSize, terms);
+            } else {
+                terms.add(word.substring(runStart, i));
+            }
+            if (i < word.length()) {
+                runStart = i;
+                runHangul = !runHangul;
+            }
+        }
+    }
+
+    private void addHangulGrams(String word, int start, int end, int gramSize, List<String> terms) {
+        // Why: 조사와 어미가 어간에 붙으므로(환불은/환불을) 겹치는 n-gram으로 활용형이 어간의 gram을 공유하게 한다.
+        if (end - start <= gramSize) {
+            terms.add(word.substring(start, end));
+            return;
+        }
+        for (int i = start; i + gramSize <= end; i++) {
+            terms.add(word.substring(i, i + gramSize));
+        }
+    }
+
+    private Set<String> stopwords() {
+        List<String> configured = appProperties.getRag().getTokenizerStopwords();
+        StopwordSet cached = stopwords;
+        if (cached.source() != configured) {
+            Set<String> normalized = new HashSet<>();
+            for (String stopword : configured) {
+                normalized.add(stopword.trim().toLowerCase(Locale.ROOT));
+            }
+            cached = new StopwordSet(configured, Set.copyOf(normalized));
+            stopwords = cached;
+        }
+        return cached.words();
+    }
+
+    private boolean isHangul(char c) {
+        return c >= 0x80 && WordTokenizer.isTermChar(c);
+    }
+
+    private record StopwordSet(List<String> source, Set<String> words) {
+    }
+}
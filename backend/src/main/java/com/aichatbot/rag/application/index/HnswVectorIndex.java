@@ -0,0 +1,523 @@
+package com.aichatbot.rag.application.index;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+public final class HnswVectorIndex implements VectorIndex {
+
+    private static final int[] NO_NEIGHBORS = new int[0];
+    private static final int MAX_LEVEL = 16;
+    private static final long LEVEL_SEED = 0x5DEECE66DL;
+
+    private final String embeddingModel;
+    private final int dimension;
+    private final Params params;
+    private final double levelMultiplier;
+    private final Random random;
+
+    private float[] vectors;
+    private int[][][] neighbors;
+    private final Map<UUID, Integer> nodeByChunkId;
+    private int nodeCount;
+    private int entryPoint = -1;
+    private int topLevel = -1;
+
+    private int[] ordinalByNode;
+    private int[] nodeByOrdinal;
+    private int liveCount;
+    private BitSet constructionVisited = new BitSet();
+
+    public record Params(int m, int efConstruction, int efSearch) {
+
+        public Params {
+            m = Math.max(2, m);
+            efConstruction = Math.max(m, efConstruction);
+            efSearch = Math.max(1, efSearch);
+        }
+    }
+
+    private HnswVectorIndex(String embeddingModel, int dimension, Params params, int capacity, long seed) {
+        this.embeddingModel = embeddingModel;
+        this.dimension = dimension;
+        this.params = params;
+        this.levelMultiplier = 1.0d / Math.log(params.m());
+        this.random = new Random(seed);
+        this.vectors = new float[Math.multiplyExact(Math.max(1, capacity), dimension)];
+        this.neighbors = new int[Math.max(1, capacity)][][];
+        this.nodeByChunkId = new HashMap<>(Math.max(16, capacity * 2));
+    }
+
+    private HnswVectorIndex(HnswVectorIndex previous, int capacity) {
+        this.embeddingModel = previous.embeddingModel;
+        this.dimension = previous.dimension;
+        this.params = previous.params;
+        this.levelMultiplier = previous.levelMultiplier;
+        this.random = new Random(LEVEL_SEED ^ previous.nodeCount);
+        this.vectors = Arrays.copyOf(previous.vectors, Math.multiplyExact(capacity, dimension));
+        this.neighbors = Arrays.copyOf(previous.neighbors, capacity);
+        this.nodeByChunkId = new HashMap<>(previous.nodeByChunkId);
+        this.nodeCount = previous.nodeCount;
+        this.entryPoint = previous.entryPoint;
+        this.topLevel = previous.topLevel;
+    }
+
+    public static HnswVectorIndex build(
+        String embeddingModel,
+        int dimension,
+        Params params,
+        UUID[] chunkIds,
+        float[][] vectorsByOrdinal
+    ) {
+        HnswVectorIndex index = new HnswVectorIndex(embeddingModel, dimension, params, chunkIds.length, LEVEL_SEED);
+        index.ordinalByNode = new int[Math.max(1, chunkIds.length)];
+        Arrays.fill(index.ordinalByNode, -1);
+        for (int ordinal = 0; ordinal < chunkIds.length; ordinal++) {
+            index.insertOrdinal(chunkIds[ordinal], vectorsByOrdinal[ordinal], ordinal);
+        }
+        index.constructionVisited = null;
+        index.nodeByOrdinal = index.invertOrdinals(chunkIds.length);
+        return index;
+    }
+
+    void writeTo(SnapshotWriter writer) throws IOException {
+        writer.writeInt(dimension);
+        writer.writeInt(params.m());
+        writer.writeInt(params.efConstruction());
+        writer.writeInt(params.efSearch());
+        writer.writeInt(nodeCount);
+        writer.writeInt(entryPoint);
+        writer.writeInt(topLevel);
+        writer.writeInt(liveCount);
+        writer.writeFloats(vectors, nodeCount * dimension);
+        UUID[] chunkIdByNode = new UUID[nodeCount];
+        for (Map.Entry<UUID, Integer> entry : nodeByChunkId.entrySet()) {
+            chunkIdByNode[entry.getValue()] = entry.getKey();
+        }
+        for (int node = 0; node < nodeCount; node++) {
+            writer.writeLong(chunkIdByNode[node].getMostSignificantBits());
+            writer.writeLong(chunkIdByNode[node].getLeastSignificantBits());
+            writer.writeInt(ordinalByNode[node]);
+            int[][] levels = neighbors[node];
+            writer.writeInt(levels.length);
+            for (int[] level : levels) {
+                writer.writeInt(level.length);
+                writer.writeInts(level, level.length);
+            }
+        }
+        writer.writeInt(nodeByOrdinal.length);
+    }
+
+    static HnswVectorIndex readFrom(SnapshotReader reader, String embeddingModel) {
+        int dimension = reader.readInt();
+        Params params = new Params(reader.readInt(), reader.readInt(), reader.readInt());
+        int nodeCount = reader.readCount();
+        HnswVectorIndex index = new HnswVectorIndex(embeddingModel, dimension, params, 0, LEVEL_SEED);
+        index.nodeCount = nodeCount;
+        index.entryPoint = reader.readInt();
+        index.topLevel = reader.readInt();
+        index.liveCount = reader.readInt();
+        index.vectors = reader.readFloats(Math.multiplyExact(nodeCount, dimension));
+        index.neighbors = new int[Math.max(1, nodeCount)][][];
+        index.ordinalByNode = new int[Math.max(1, nodeCount)];
+        Arrays.fill(index.ordinalByNode, -1);
+        for (int node = 0; node < nodeCount; node++) {
+            index.nodeByChunkId.put(new UUID(reader.readLong(), reader.readLong()), node);
+            index.ordinalByNode[node] = reader.readInt();
+            int[][] levels = new int[reader.readCount()][];
+            for (int level = 0; level < levels.length; level++) {
+                int[] list = reader.readInts(reader.readCount());
+                levels[level] = list.length == 0 ? NO_NEIGHBORS : list;
+            }
+            index.neighbors[node] = levels;
+        }
+        index.constructionVisited = null;
+        index.nodeByOrdinal = index.invertOrdinals(reader.readInt());
+        return index;
+    }
+
+    public boolean compatibleWith(String embeddingModel, int dimension, Params params) {
+        // Why: 차원이 같아도 다른 모델의 벡터는 같은 공간이 아니므로, 기존 node를 재사용하지 않고 graph를 다시 만든다.
+        return this.embeddingModel.equals(embeddingModel) && this.dimension == dimension && this.params.equals(params);
+    }
+
+    // tombstone 노드가 너무 많아지면 null을 돌려주고 호출자가 처음부터 다시 만든다.
+    public HnswVectorIndex extend(UUID[] chunkIds, float[][] vectorsByOrdinal, double maxDeletedRatio) {
+        int newNodes = 0;
+        for (UUID chunkId : chunkIds) {
+            if (!nodeByChunkId.containsKey(chunkId)) {
+                newNodes++;
+            }
+        }
+        HnswVectorIndex extended = new HnswVectorIndex(this, Math.max(1, nodeCount + newNodes));
+        extended.ordinalByNode = new int[Math.max(1, nodeCount + newNodes)];
+        Arrays.fill(extended.ordinalByNode, -1);
+        for (int ordinal = 0; ordinal < chunkIds.length; ordinal++) {
+            Integer existing = extended.nodeByChunkId.get(chunkIds[ordinal]);
+            if (existing != null) {
+                extended.ordinalByNode[existing] = ordinal;
+                extended.liveCount++;
+                continue;
+            }
+            extended.insertOrdinal(chunkIds[ordinal], vectorsByOrdinal[ordinal], ordinal);
+        }
+        extended.constructionVisited = null;
+        extended.nodeByOrdinal = extended.invertOrdinals(chunkIds.length);
+        int deleted = extended.nodeCount - extended.liveCount;
+        if (extended.nodeCount > 0 && deleted > maxDeletedRatio * extended.nodeCount) {
+            return null;
+        }
+        return extended;
+    }
+
+    @Override
+    public int dimension() {
+        return dimension;
+    }
+
+    @Override
+    public int size() {
+        return liveCount;
+    }
+
+    public int nodeCount() {
+        return nodeCount;
+    }
+
+    @Override
+    public TopKHeap search(float[] query, int topK, float minSimilarity, BitSet allowedOrdinals) {
+        TopKHeap heap = new TopKHeap(topK);
+        if (query == null || query.length != dimension || entryPoint < 0) {
+            return heap;
+        }
+        float[] normalized = new float[dimension];
+        if (!FlatVectorIndex.normalizeInto(query, normalized, 0)) {
+            return heap;
+        }
+        int eligible = allowedOrdinals == null ? liveCount : allowedOrdinals.cardinality();
+        if (eligible == 0) {
+            return heap;
+        }
+        long widenedEf = (long) Math.ceil(Math.max(params.efSearch(), topK) * (double) nodeCount / eligible);
+        int ef = (int) Math.min(nodeCount, widenedEf);
+        if (allowedOrdinals != null && (long) eligible < widenedEf * params.m()) {
+            for (int ordinal = allowedOrdinals.nextSetBit(0); ordinal >= 0 && ordinal < nodeByOrdinal.length; ordinal = allowedOrdinals.nextSetBit(ordinal + 1)) {
+                int node = nodeByOrdinal[ordinal];
+                if (node < 0) {
+                    continue;
+                }
+                float score = similarity(normalized, node);
+                if (score > minSimilarity) {
+                    heap.offer(ordinal, score);
+                }
+            }
+            return heap;
+        }
+        int current = entryPoint;
+        float currentSimilarity = similarity(normalized, current);
+        for (int level = topLevel; level > 0; level--) {
+            int[] best = greedyClosest(normalized, current, currentSimilarity, level);
+            current = best[0];
+            currentSimilarity = Float.intBitsToFloat(best[1]);
+        }
+        NodeHeap results = searchLayer(normalized, current, currentSimilarity, ef, 0, new BitSet(nodeCount));
+        for (int i = 0; i < results.size(); i++) {
+            int ordinal = ordinalByNode[results.nodeAt(i)];
+            float score = results.scoreAt(i);
+            if (ordinal >= 0 && score > minSimilarity && (allowedOrdinals == null || allowedOrdinals.get(ordinal))) {
+                heap.offer(ordinal, score);
+            }
+        }
+        return heap;
+    }
+
+    private int[] invertOrdinals(int ordinalCount) {
+        int[] inverted = new int[ordinalCount];
+        Arrays.fill(inverted, -1);
+        for (int node = 0; node < nodeCount; node++) {
+            if (ordinalByNode[node] >= 0) {
+                inverted[ordinalByNode[node]] = node;
+            }
+        }
+        return inverted;
+    }
+
+    private void insertOrdinal(UUID chunkId, float[] vector, int ordinal) {
+        if (vector == null || vector.length != dimension) {
+            return;
+        }
+        int node = nodeCount;
+        if (!FlatVectorIndex.normalizeInto(vector, vectors, node * dimension)) {
+            return;
+        }
+        nodeCount++;
+        nodeByChunkId.put(chunkId, node);
+        ordinalByNode[node] = ordinal;
+        liveCount++;
+        insertNode(node);
+    }
+
+    private void insertNode(int node) {
+        int level = randomLevel();
+        int[][] levels = new int[level + 1][];
+        Arrays.fill(levels, NO_NEIGHBORS);
+        neighbors[node] = levels;
+        if (entryPoint < 0) {
+            entryPoint = node;
+            topLevel = level;
+            return;
+        }
+
+        float[] query = Arrays.copyOfRange(vectors, node * dimension, (node + 1) * dimension);
+        int current = entryPoint;
+        float currentSimilarity = similarity(query, current);
+        for (int layer = topLevel; layer > level; layer--) {
+            int[] best = greedyClosest(query, current, currentSimilarity, layer);
+            current = best[0];
+            currentSimilarity = Float.intBitsToFloat(best[1]);
+        }
+        for (int layer = Math.min(level, topLevel); layer >= 0; layer--) {
+            constructionVisited.clear();
+            NodeHeap candidates = searchLayer(query, current, currentSimilarity, params.efConstruction(), layer, constructionVisited);
+            int[] selected = selectNeighbors(node, candidates, params.m());
+            setNeighbors(node, layer, selected);
+            int maxConnections = layer == 0 ? params.m() * 2 : params.m();
+            for (int neighbor : selected) {
+                connect(neighbor, node, layer, maxConnections);
+            }
+            for (int i = 0; i < candidates.size(); i++) {
+                if (candidates.scoreAt(i) > currentSimilarity) {
+                    current = candidates.nodeAt(i);
+                    currentSimilarity = candidates.scoreAt(i);
+                }
+            }
+        }
+        if (level > topLevel) {
+            topLevel = level;
+            entryPoint = node;
+        }
+    }
+
+    private int[] greedyClosest(float[] query, int start, float startSimilarity, int level) {
+        int current = start;
+        float currentSimilarity = startSimilarity;
+        boolean improved = true;
+        while (improved) {
+            improved = false;
+            for (int neighbor : neighborsOf(current, level)) {
+                float candidate = similarity(query, neighbor);
+                if (candidate > currentSimilarity) {
+                    currentSimilarity = candidate;
+                    current = neighbor;
+                    improved = true;
+                }
+            }
+        }
+        return new int[] {current, Float.floatToIntBits(currentSimilarity)};
+    }
+
+    private NodeHeap searchLayer(float[] query, int entry, float entrySimilarity, int ef, int level, BitSet visited) {
+        visited.set(entry);
+        NodeHeap candidates = new NodeHeap(true, ef);
+        NodeHeap results = new NodeHeap(false, ef + 1);
+        candidates.push(entry, entrySimilarity);
+        results.push(entry, entrySimilarity);
+        while (candidates.size() > 0) {
+            float bestSimilarity = candidates.peekScore();
+            int node = candidates.pop();
+            if (results.size() >= ef && bestSimilarity < results.peekScore()) {
+                break;
+            }
+            for (int neighbor : neighborsOf(node, level)) {
+                if (visited.get(neighbor)) {
+                    continue;
+                }
+                visited.set(neighbor);
+                float candidate = similarity(query, neighbor);
+                if (results.size() < ef || candidate > results.peekScore()) {
+                    candidates.push(neighbor, candidate);
+                    results.push(neighbor, candidate);
+                    if (results.size() > ef) {
+                        results.pop();
+                    }
+                }
+            }
+        }
+        return results;
+    }
+
+    private int[] selectNeighbors(int base, NodeHeap candidates, int count) {
+        int size = candidates.size();
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (left, right) -> Float.compare(candidates.scoreAt(right), candidates.scoreAt(left)));
+        int[] selected = new int[Math.min(count, size)];
+        boolean[] taken = new boolean[size];
+        int selectedCount = 0;
+        for (int i = 0; i < size && selectedCount < selected.length; i++) {
+            int candidate = candidates.nodeAt(order[i]);
+            if (candidate == base) {
+                taken[i] = true;
+                continue;
+            }
+            float toBase = candidates.scoreAt(order[i]);
+            boolean diverse = true;
+            for (int j = 0; j < selectedCount; j++) {
+                if (similarity(candidate, selected[j]) > toBase) {
+                    diverse = false;
+                    break;
+                }
+            }
+            if (diverse) {
+                selected[selectedCount++] = candidate;
+                taken[i] = true;
+            }
+        }
+        for (int i = 0; i < size && selectedCount < selected.length; i++) {
+            int candidate = candidates.nodeAt(order[i]);
+            if (!taken[i] && candidate != base) {
+                selected[selectedCount++] = candidate;
+            }
+        }
+        return selectedCount == selected.length ? selected : Arrays.copyOf(selected, selectedCount);
+    }
+
+    private void connect(int node, int newNeighbor, int level, int maxConnections) {
+        int[] existing = neighborsOf(node, level);
+        int[] grown = Arrays.copyOf(existing, existing.length + 1);
+        grown[existing.length] = newNeighbor;
+        if (grown.length <= maxConnections) {
+            setNeighbors(node, level, grown);
+            return;
+        }
+        NodeHeap candidates = new NodeHeap(false, grown.length);
+        float[] base = Arrays.copyOfRange(vectors, node * dimension, (node + 1) * dimension);
+        for (int neighbor : grown) {
+            candidates.push(neighbor, similarity(base, neighbor));
+        }
+        setNeighbors(node, level, selectNeighbors(node, candidates, maxConnections));
+    }
+
+    private int[] neighborsOf(int node, int level) {
+        int[][] levels = neighbors[node];
+        return level < levels.length ? levels[level] : NO_NEIGHBORS;
+    }
+
+    private void setNeighbors(int node, int level, int[] list) {
+        int[][] levels = neighbors[node].clone();
+        levels[level] = list;
+        neighbors[node] = levels;
+    }
+
+    private int randomLevel() {
+        double uniform = 1.0d - random.nextDouble();
+        return Math.min(MAX_LEVEL, (int) Math.floor(-Math.log(uniform) * levelMultiplier));
+    }
+
+    private float similarity(float[] query, int node) {
+        int offset = node * dimension;
+        float sum = 0.0f;
+        for (int i = 0; i < dimension; i++) {
+            sum += query[i] * vectors[offset + i];
+        }
+        return sum;
+    }
+
+    private float similarity(int left, int right) {
+        int leftOffset = left * dimension;
+        int rightOffset = right * dimension;
+        float sum = 0.0f;
+        for (int i = 0; i < dimension; i++) {
+            sum += vectors[leftOffset + i] * vectors[rightOffset + i];
+        }
+        return sum;
+    }
+
+    private static final class NodeHeap {
+
+        private final boolean bestFirst;
+        private float[] scores;
+        private int[] nodes;
+        private int size;
+
+        private NodeHeap(boolean bestFirst, int initialCapacity) {
+            this.bestFirst = bestFirst;
+            this.scores = new float[Math.max(4, initialCapacity)];
+            this.nodes = new int[Math.max(4, initialCapacity)];
+        }
+
+        private int size() {
+            return size;
+        }
+
+        private int nodeAt(int index) {
+            return nodes[index];
+        }
+
+        private float scoreAt(int index) {
+            return scores[index];
+        }
+
+        private float peekScore() {
+            return scores[0];
+        }
+
+        private void push(int node, float score) {
+            if (size == scores.length) {
+                scores = Arrays.copyOf(scores, size * 2);
+                nodes = Arrays.copyOf(nodes, size * 2);
+            }
+            scores[size] = score;
+            nodes[size] = node;
+            int index = size++;
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (!before(index, parent)) {
+                    break;
+                }
+                swap(index, parent);
+                index = parent;
+            }
+        }
+
+        private int pop() {
+            int top = nodes[0];
+            size--;
+            scores[0] = scores[size];
+            nodes[0] = nodes[size];
+            int index = 0;
+            while (true) {
+                int left = index * 2 + 1;
+                if (left >= size) {
+                    break;
+                }
+                int child = left + 1 < size && before(left + 1, left) ? left + 1 : left;
+                if (!before(child, index)) {
+                    break;
+                }
+                swap(index, child);
+                index = child;
+            }
+            return top;
+        }
+
+        private boolean before(int left, int right) {
+            return bestFirst ? scores[left] > scores[right] : scores[left] < scores[right];
+        }
+
+        private void swap(int left, int right) {
+            float score = scores[left];
+            scores[left] = scores[right];
+            scores[right] = score;
+            int node = nodes[left];
+            nodes[left] = nodes[right];
+            nodes[right] = node;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.aichatbot.rag.application.index;
+
+import com.aichatbot.global.config.AppProperties;
+import com.aichatbot.rag.application.RetrievalResultCache;
+import com.aichatbot.rag.infrastructure.KbSearchRepository;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Component
+public class KbIndexRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(KbIndexRegistry.class);
+
+    private final KbSearchRepository kbSearchRepository;
+    private final TenantKbIndexBuilder indexBuilder;
+    private final KbIndexSnapshotStore snapshotStore;
+    private final RetrievalResultCache retrievalResultCache;
+    private final AppProperties appProperties;
+    private final ConcurrentHashMap<UUID, TenantIndexHolder> holders = new ConcurrentHashMap<>();
+
+    public KbIndexRegistry(
+        KbSearchRepository kbSearchRepository,
+        TenantKbIndexBuilder indexBuilder,
+        KbIndexSnapshotStore snapshotStore,
+        RetrievalResultCache retrievalResultCache,
+        AppProperties appProperties
+    ) {
+        this.kbSearchRepository = kbSearchRepository;
+        this.indexBuilder = indexBuilder;
+        this.snapshotStore = snapshotStore;
+        this.retrievalResultCache = retrievalResultCache;
+        this.appProperties = appProperties;
+    }
+
+    public TenantKbIndex indexFor(UUID tenantId) {
+        return holders.computeIfAbsent(tenantId, TenantIndexHolder::new).current();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmFromSnapshots() {
+        long startedAt = System.currentTimeMillis();
+        int warmed = 0;
+        for (UUID tenantId : snapshotStore.storedTenants()) {
+            try {
+                indexFor(tenantId);
+                warmed++;
+            } catch (RuntimeException exception) {
+                log.warn("kb_index_warm_failed tenant={} reason={}", tenantId, exception.getMessage());
+            }
+        }
+        if (warmed > 0) {
+            log.info("kb_index_warmed tenants={} elapsed_ms={}", warmed, System.currentTimeMillis() - startedAt);
+        }
+    }
+
+    public void invalidate(UUID tenantId) {
+        retrievalResultCache.invalidateTenant(tenantId);
+        TenantIndexHolder holder = holders.get(tenantId);
+        if (holder != null) {
+            holder.markStale();
+        }
+    }
+
+    private final class TenantIndexHolder {
+
+        private final UUID tenantId;
+        private final ReentrantLock refreshLock = new ReentrantLock();
+        private volatile TenantKbIndex index;
+        private volatile long checkedAtMillis;
+        private volatile boolean stale;
+
+        private TenantIndexHolder(UUID tenantId) {
+            this.tenantId = tenantId;
+        }
+
+        private TenantKbIndex current() {
+            TenantKbIndex snapshot = index;
+            if (snapshot != null && !stale && !stampCheckDue()) {
+                return snapshot;
+            }
+            // Why: 한 요청이 stamp를 확인하는 동안 나머지 요청은 DB를 기다리지 않고 이전 인덱스로 응답한다.
+            if (snapshot != null && !stale && !refreshLock.tryLock()) {
+                return snapshot;
+            }
+            if (snapshot == null || stale) {
+                refreshLock.lock();
+            }
+            try {
+                return refresh();
+            } finally {
+                refreshLock.unlock();
+            }
+        }
+
+        private TenantKbIndex refresh() {
+            TenantKbIndex snapshot = index;
+            if (snapshot != null && !stale && !stampCheckDue()) {
+                return snapshot;
+            }
+            boolean forced = stale;
+            stale = false;
+            if (snapshot == null) {
+                snapshot = snapshotStore.load(tenantId);
+            }
+            String stamp = kbSearchRepository.findKbVersionStamp(tenantId);
+            checkedAtMillis = System.currentTimeMillis();
+            if (snapshot == null || forced || !stamp.equals(snapshot.versionStamp())) {
+                snapshot = indexBuilder.build(kbSearchRepository.findApprovedChunksByTenant(tenantId), stamp, snapshot);
+                snapshotStore.save(tenantId, snapshot);
+                retrievalResultCache.invalidateTenant(tenantId);
+            }
+            index = snapshot;
+            return snapshot;
+        }
+
+        private boolean stampCheckDue() {
+            long interval = Math.max(0L, appProperties.getRag().getIndexStampCheckMs());
+            return System.currentTimeMillis() - checkedAtMillis >= interval;
+        }
+
+        private void markStale() {
+            stale = true;
+        }
+    }
+}
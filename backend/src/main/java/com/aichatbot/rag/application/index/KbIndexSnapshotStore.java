@@ -0,0 +1,320 @@
+package com.aichatbot.rag.application.index;
+
+import com.aichatbot.global.config.AppProperties;
+import com.aichatbot.llm.application.EmbeddingClient;
+import com.aichatbot.rag.infrastructure.ChunkSearchRow;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+@Component
+public class KbIndexSnapshotStore {
+
+    private static final Logger log = LoggerFactory.getLogger(KbIndexSnapshotStore.class);
+    private static final int MAGIC = 0x4B424958;
+    private static final int FORMAT_VERSION = 2;
+    private static final String SUFFIX = ".kbidx";
+    private static final int VECTORS_FLAT = 0;
+    private static final int VECTORS_HNSW = 1;
+    private static final int BUFFER_BYTES = 256 * 1024;
+
+    private final TermDictionary termDictionary;
+    private final EmbeddingClient embeddingClient;
+    private final AppProperties appProperties;
+
+    public KbIndexSnapshotStore(TermDictionary termDictionary, EmbeddingClient embeddingClient, AppProperties appProperties) {
+        this.termDictionary = termDictionary;
+        this.embeddingClient = embeddingClient;
+        this.appProperties = appProperties;
+    }
+
+    public boolean enabled() {
+        return appProperties.getRag().isIndexSnapshotEnabled();
+    }
+
+    public List<UUID> storedTenants() {
+        List<UUID> tenantIds = new ArrayList<>();
+        Path directory = directory();
+        if (!enabled() || !Files.isDirectory(directory)) {
+            return tenantIds;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + SUFFIX)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                try {
+                    tenantIds.add(UUID.fromString(name.substring(0, name.length() - SUFFIX.length())));
+                } catch (IllegalArgumentException ignored) {
+                    // 이 저장소가 쓴 snapshot 파일이 아니다.
+                }
+            }
+        } catch (IOException exception) {
+            log.warn("kb_index_snapshot_list_failed dir={} reason={}", directory, exception.getMessage());
+        }
+        return tenantIds;
+    }
+
+    // 쓸 수 있는 snapshot이 없으면 null을 돌려주고 호출자가 DB에서 다시 만든다.
+    public TenantKbIndex load(UUID tenantId) {
+        if (!enabled()) {
+            return null;
+        }
+        Path file = fileFor(tenantId);
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long length = channel.size();
+            if (length < Long.BYTES || length > Integer.MAX_VALUE) {
+                return discard(file, "size");
+            }
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0L, length);
+            ByteBuffer body = mapped.duplicate();
+            body.limit((int) length - Long.BYTES);
+            CRC32 checksum = new CRC32();
+            checksum.update(body.duplicate());
+            if (checksum.getValue() != mapped.getLong((int) length - Long.BYTES)) {
+                return discard(file, "checksum");
+            }
+            return decode(new SnapshotReader(body), file);
+        } catch (IOException | RuntimeException exception) {
+            log.warn("kb_index_snapshot_load_failed tenant={} reason={}", tenantId, exception.getMessage());
+            return discard(file, "unreadable");
+        }
+    }
+
+    public void save(UUID tenantId, TenantKbIndex index) {
+        if (!enabled()) {
+            return;
+        }
+        Path directory = directory();
+        Path target = fileFor(tenantId);
+        Path temp = directory.resolve(tenantId + SUFFIX + ".tmp");
+        try {
+            Files.createDirectories(directory);
+            CRC32 checksum = new CRC32();
+            try (OutputStream file = Files.newOutputStream(temp);
+                 DataOutputStream output = new DataOutputStream(
+                     new CheckedOutputStream(new BufferedOutputStream(file, BUFFER_BYTES), checksum)
+                 )) {
+                encode(new SnapshotWriter(output), index);
+                output.flush();
+                output.writeLong(checksum.getValue());
+            }
+            try {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException exception) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException | RuntimeException exception) {
+            log.warn("kb_index_snapshot_save_failed tenant={} reason={}", tenantId, exception.getMessage());
+            deleteQuietly(temp);
+        }
+    }
+
+    private void encode(SnapshotWriter writer, TenantKbIndex index) throws IOException {
+        writer.writeInt(MAGIC);
+        writer.writeInt(FORMAT_VERSION);
+        writer.writeString(index.versionStamp());
+        writer.writeString(embeddingClient.modelName());
+        writer.writeString(tokenizerKey());
+        int size = index.size();
+        writer.writeInt(size);
+        for (int ordinal = 0; ordinal < size; ordinal++) {
+            writeRow(writer, index.row(ordinal));
+            writer.writeString(index.contextHeader(ordinal));
+            writer.writeString(index.excerptMasked(ordinal));
+            writer.writeLong(index.contentFingerprint(ordinal));
+        }
+
+        TenantKbIndex.FieldIndex summaryField = index.summaryField();
+        Map<String, Integer> termIds = new LinkedHashMap<>();
+        for (String[] chunkTerms : summaryField.terms()) {
+            for (String term : chunkTerms) {
+                termIds.putIfAbsent(term, termIds.size());
+            }
+        }
+        writer.writeInt(termIds.size());
+        for (String term : termIds.keySet()) {
+            writer.writeString(term);
+        }
+        for (String[] chunkTerms : summaryField.terms()) {
+            int[] ids = new int[chunkTerms.length];
+            for (int i = 0; i < chunkTerms.length; i++) {
+                ids[i] = termIds.get(chunkTerms[i]);
+            }
+            writer.writeInt(ids.length);
+            writer.writeInts(ids, ids.length);
+        }
+        writer.writeInt(summaryField.postings().size());
+        for (Map.Entry<String, TenantKbIndex.TermPostings> entry : summaryField.postings().entrySet()) {
+            TenantKbIndex.TermPostings postings = entry.getValue();
+            writer.writeInt(termIds.get(entry.getKey()));
+            writer.writeInt(postings.documentFrequency());
+            writer.writeInts(postings.ordinals(), postings.ordinals().length);
+            writer.writeInts(postings.termFrequencies(), postings.termFrequencies().length);
+        }
+        writer.writeDouble(summaryField.averageLength());
+
+        VectorIndex vectors = index.vectors();
+        if (vectors instanceof HnswVectorIndex graph) {
+            writer.writeByte(VECTORS_HNSW);
+            graph.writeTo(writer);
+        } else {
+            writer.writeByte(VECTORS_FLAT);
+            ((FlatVectorIndex) vectors).writeTo(writer);
+        }
+    }
+
+    private TenantKbIndex decode(SnapshotReader reader, Path file) {
+        if (reader.readInt() != MAGIC || reader.readInt() != FORMAT_VERSION) {
+            return discard(file, "format");
+        }
+        String versionStamp = reader.readString();
+        // Why: 벡터와 posting은 만든 모델과 tokenizer 설정에서만 유효하므로 설정이 바뀌면 재구축으로 넘어간다.
+        if (!embeddingClient.modelName().equals(reader.readString()) || !tokenizerKey().equals(reader.readString())) {
+            return discard(file, "config");
+        }
+        int size = reader.readCount();
+        ChunkSearchRow[] rows = new ChunkSearchRow[size];
+        UUID[] chunkIds = new UUID[size];
+        String[] contextHeaders = new String[size];
+        String[] excerptsMasked = new String[size];
+        long[] contentFingerprints = new long[size];
+        Map<UUID, Integer> ordinalByChunkId = new HashMap<>(size * 2);
+        for (int ordinal = 0; ordinal < size; ordinal++) {
+            rows[ordinal] = readRow(reader);
+            chunkIds[ordinal] = UUID.fromString(rows[ordinal].chunkId());
+            ordinalByChunkId.put(chunkIds[ordinal], ordinal);
+            contextHeaders[ordinal] = reader.readString();
+            excerptsMasked[ordinal] = reader.readString();
+            contentFingerprints[ordinal] = reader.readLong();
+        }
+
+        String[] termTable = new String[reader.readCount()];
+        for (int id = 0; id < termTable.length; id++) {
+            termTable[id] = termDictionary.intern(reader.readString());
+        }
+        String[][] terms = new String[size][];
+        for (int ordinal = 0; ordinal < size; ordinal++) {
+            int[] ids = reader.readInts(reader.readCount());
+            String[] chunkTerms = new String[ids.length];
+            for (int i = 0; i < ids.length; i++) {
+                chunkTerms[i] = termTable[ids[i]];
+            }
+            terms[ordinal] = chunkTerms;
+        }
+        int postingCount = reader.readCount();
+        Map<String, TenantKbIndex.TermPostings> postings = new HashMap<>(postingCount * 2);
+        for (int i = 0; i < postingCount; i++) {
+            String term = termTable[reader.readInt()];
+            int documentFrequency = reader.readCount();
+            postings.put(term, new TenantKbIndex.TermPostings(reader.readInts(documentFrequency), reader.readInts(documentFrequency)));
+        }
+        double averageLength = reader.readDouble();
+
+        VectorIndex vectors = reader.readByte() == VECTORS_HNSW
+            ? HnswVectorIndex.readFrom(reader, embeddingClient.modelName())
+            : FlatVectorIndex.readFrom(reader);
+        return new TenantKbIndex(
+            versionStamp,
+            rows,
+            chunkIds,
+            contextHeaders,
+            excerptsMasked,
+            contentFingerprints,
+            ordinalByChunkId,
+            new TenantKbIndex.FieldIndex(postings, terms, averageLength),
+            vectors,
+            AttributeIndex.of(rows)
+        );
+    }
+
+    private void writeRow(SnapshotWriter writer, ChunkSearchRow row) throws IOException {
+        writer.writeString(row.chunkId());
+        writer.writeString(row.documentId());
+        writer.writeString(row.documentVersionId());
+        writer.writeNullableInt(row.versionNo());
+        writer.writeNullableInt(row.chunkNo());
+        writer.writeString(row.title());
+        writer.writeString(row.sourceType());
+        writer.writeString(row.category());
+        writer.writeString(row.effectiveDate());
+        writer.writeString(row.owner());
+        writer.writeString(row.contextHeader());
+        writer.writeString(row.summaryText());
+        writer.writeString(row.chunkText());
+        writer.writeString(row.embeddingInputText());
+        writer.writeString(row.embeddingVector());
+        writer.writeString(row.embeddingModel());
+    }
+
+    private ChunkSearchRow readRow(SnapshotReader reader) {
+        return new ChunkSearchRow(
+            reader.readString(),
+            reader.readString(),
+            reader.readString(),
+            reader.readNullableInt(),
+            reader.readNullableInt(),
+            reader.readString(),
+            reader.readString(),
+            reader.readString(),
+            reader.readString(),
+            reader.readString(),
+            reader.readString(),
+            reader.readString(),
+            reader.readString(),
+            reader.readString(),
+            reader.readString(),
+            reader.readString()
+        );
+    }
+
+    private String tokenizerKey() {
+        AppProperties.Rag rag = appProperties.getRag();
+        return rag.getTokenizer() + ":" + rag.getHangulNgramSize() + ":" + String.join(",", rag.getTokenizerStopwords());
+    }
+
+    private TenantKbIndex discard(Path file, String reason) {
+        log.info("kb_index_snapshot_discarded file={} reason={}", file.getFileName(), reason);
+        deleteQuietly(file);
+        return null;
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ignored) {
+            // 오래된 snapshot은 다음 load에서 다시 거부되고 다음 save에서 덮어쓴다.
+        }
+    }
+
+    private Path fileFor(UUID tenantId) {
+        return directory().resolve(tenantId + SUFFIX);
+    }
+
+    private Path directory() {
+        return Paths.get(appProperties.getRag().getIndexSnapshotDir());
+    }
+}
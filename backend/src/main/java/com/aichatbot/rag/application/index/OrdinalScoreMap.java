@@ -0,0 +1,73 @@
+package com.aichatbot.rag.application.index;
+
+import java.util.Arrays;
+
+public final class OrdinalScoreMap {
+
+    private static final int EMPTY_KEY = -1;
+
+    private int[] keys;
+    private double[] values;
+    private int size;
+    private int mask;
+
+    public OrdinalScoreMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, expectedSize * 2 - 1)) << 1;
+        allocate(capacity);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void add(int ordinal, double delta) {
+        int slot = slotOf(ordinal);
+        if (keys[slot] == EMPTY_KEY) {
+            keys[slot] = ordinal;
+            values[slot] = delta;
+            size++;
+            if (size * 4 > keys.length * 3) {
+                grow();
+            }
+            return;
+        }
+        values[slot] += delta;
+    }
+
+    public TopKHeap offerAll(TopKHeap heap) {
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != EMPTY_KEY) {
+                heap.offer(keys[slot], (float) values[slot]);
+            }
+        }
+        return heap;
+    }
+
+    private int slotOf(int ordinal) {
+        int slot = (ordinal * 0x9E3779B9) >>> 1 & mask;
+        while (keys[slot] != EMPTY_KEY && keys[slot] != ordinal) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void grow() {
+        int[] oldKeys = keys;
+        double[] oldValues = values;
+        allocate(oldKeys.length * 2);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY_KEY) {
+                int slot = slotOf(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new double[capacity];
+        Arrays.fill(keys, EMPTY_KEY);
+        mask = capacity - 1;
+    }
+}
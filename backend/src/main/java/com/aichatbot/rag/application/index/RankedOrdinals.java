@@ -0,0 +1,22 @@
+package com.aichatbot.rag.application.index;
+
+public record RankedOrdinals(int[] ordinals, float[] scores) {
+
+    private static final RankedOrdinals EMPTY = new RankedOrdinals(new int[0], new float[0]);
+
+    public static RankedOrdinals empty() {
+        return EMPTY;
+    }
+
+    public int size() {
+        return ordinals.length;
+    }
+
+    public int ordinalAt(int rank) {
+        return ordinals[rank];
+    }
+
+    public float scoreAt(int rank) {
+        return scores[rank];
+    }
+}
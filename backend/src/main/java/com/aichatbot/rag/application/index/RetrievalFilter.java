@@ -0,0 +1,74 @@
+package com.aichatbot.rag.application.index;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+public record RetrievalFilter(
+    Set<String> categories,
+    Set<String> sourceTypes,
+    Set<String> owners,
+    LocalDate effectiveFrom,
+    LocalDate effectiveTo
+) {
+
+    private static final RetrievalFilter NONE = new RetrievalFilter(Set.of(), Set.of(), Set.of(), null, null);
+
+    public static RetrievalFilter none() {
+        return NONE;
+    }
+
+    // 추가 필터 필드를 보내는 이전 클라이언트가 깨지지 않도록 모르는 key는 무시한다.
+    public static RetrievalFilter from(Map<String, String> filters) {
+        if (filters == null || filters.isEmpty()) {
+            return NONE;
+        }
+        LocalDate exactDate = parseDate(filters.get("effective_date"));
+        LocalDate from = parseDate(filters.get("effective_date_from"));
+        LocalDate to = parseDate(filters.get("effective_date_to"));
+        return new RetrievalFilter(
+            values(filters.get("category")),
+            values(filters.get("source_type")),
+            values(filters.get("owner")),
+            exactDate != null ? exactDate : from,
+            exactDate != null ? exactDate : to
+        );
+    }
+
+    public boolean isEmpty() {
+        return categories.isEmpty() && sourceTypes.isEmpty() && owners.isEmpty()
+            && effectiveFrom == null && effectiveTo == null;
+    }
+
+    static String normalizeValue(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static Set<String> values(String raw) {
+        if (raw == null || raw.isBlank()) {
+            return Set.of();
+        }
+        Set<String> values = new LinkedHashSet<>();
+        for (String value : raw.split(",")) {
+            String normalized = normalizeValue(value);
+            if (!normalized.isEmpty()) {
+                values.add(normalized);
+            }
+        }
+        return Set.copyOf(values);
+    }
+
+    private static LocalDate parseDate(String raw) {
+        if (raw == null || raw.isBlank()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(raw.trim());
+        } catch (DateTimeParseException exception) {
+            throw new IllegalArgumentException("invalid_effective_date", exception);
+        }
+    }
+}
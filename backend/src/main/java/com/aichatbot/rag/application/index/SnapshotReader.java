@@ -0,0 +1,79 @@
+package com.aichatbot.rag.application.index;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+final class SnapshotReader {
+
+    private final ByteBuffer buffer;
+
+    SnapshotReader(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    int readInt() {
+        return buffer.getInt();
+    }
+
+    long readLong() {
+        return buffer.getLong();
+    }
+
+    double readDouble() {
+        return buffer.getDouble();
+    }
+
+    int readByte() {
+        return buffer.get();
+    }
+
+    int readCount() {
+        int count = buffer.getInt();
+        // Why: 손상된 길이 값이 버퍼 경계 검사보다 먼저 거대한 할당으로 이어지지 않게 막는다.
+        if (count < 0 || count > buffer.remaining()) {
+            throw new IllegalStateException("snapshot_corrupt_length");
+        }
+        return count;
+    }
+
+    String readString() {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        if (length > buffer.remaining()) {
+            throw new IllegalStateException("snapshot_corrupt_length");
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    Integer readNullableInt() {
+        return buffer.get() != 0 ? buffer.getInt() : null;
+    }
+
+    int[] readInts(int length) {
+        int[] values = new int[length];
+        buffer.asIntBuffer().get(values);
+        buffer.position(buffer.position() + length * Integer.BYTES);
+        return values;
+    }
+
+    float[] readFloats(int length) {
+        float[] values = new float[length];
+        buffer.asFloatBuffer().get(values);
+        buffer.position(buffer.position() + length * Float.BYTES);
+        return values;
+    }
+
+    boolean[] readBooleans(int length) {
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        boolean[] values = new boolean[length];
+        for (int i = 0; i < length; i++) {
+            values[i] = bytes[i] != 0;
+        }
+        return values;
+    }
+}
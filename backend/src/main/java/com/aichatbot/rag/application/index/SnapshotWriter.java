@@ -0,0 +1,81 @@
+package com.aichatbot.rag.application.index;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+final class SnapshotWriter {
+
+    private static final int CHUNK_BYTES = 64 * 1024;
+
+    private final DataOutputStream output;
+    private final ByteBuffer chunk = ByteBuffer.allocate(CHUNK_BYTES);
+
+    SnapshotWriter(DataOutputStream output) {
+        this.output = output;
+    }
+
+    void writeInt(int value) throws IOException {
+        output.writeInt(value);
+    }
+
+    void writeLong(long value) throws IOException {
+        output.writeLong(value);
+    }
+
+    void writeDouble(double value) throws IOException {
+        output.writeDouble(value);
+    }
+
+    void writeByte(int value) throws IOException {
+        output.writeByte(value);
+    }
+
+    void writeString(String value) throws IOException {
+        if (value == null) {
+            output.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    void writeNullableInt(Integer value) throws IOException {
+        output.writeBoolean(value != null);
+        if (value != null) {
+            output.writeInt(value);
+        }
+    }
+
+    void writeInts(int[] values, int length) throws IOException {
+        int written = 0;
+        while (written < length) {
+            chunk.clear();
+            int count = Math.min(length - written, CHUNK_BYTES / Integer.BYTES);
+            chunk.asIntBuffer().put(values, written, count);
+            output.write(chunk.array(), 0, count * Integer.BYTES);
+            written += count;
+        }
+    }
+
+    void writeFloats(float[] values, int length) throws IOException {
+        int written = 0;
+        while (written < length) {
+            chunk.clear();
+            int count = Math.min(length - written, CHUNK_BYTES / Float.BYTES);
+            chunk.asFloatBuffer().put(values, written, count);
+            output.write(chunk.array(), 0, count * Float.BYTES);
+            written += count;
+        }
+    }
+
+    void writeBooleans(boolean[] values) throws IOException {
+        byte[] bytes = new byte[values.length];
+        for (int i = 0; i < values.length; i++) {
+            bytes[i] = (byte) (values[i] ? 1 : 0);
+        }
+        output.write(bytes);
+    }
+}
@@ -0,0 +1,118 @@
+package com.aichatbot.rag.application.index;
+
+import com.aichatbot.rag.infrastructure.ChunkSearchRow;
+import java.util.BitSet;
+import java.util.Map;
+import java.util.UUID;
+
+public final class TenantKbIndex {
+
+    private static final TermPostings EMPTY_POSTINGS = new TermPostings(new int[0], new int[0]);
+
+    private final String versionStamp;
+    private final ChunkSearchRow[] rows;
+    private final UUID[] chunkIds;
+    private final String[] contextHeaders;
+    private final String[] excerptsMasked;
+    private final long[] contentFingerprints;
+    private final Map<UUID, Integer> ordinalByChunkId;
+    private final FieldIndex summaryField;
+    private final VectorIndex vectors;
+    private final AttributeIndex attributes;
+
+    TenantKbIndex(
+        String versionStamp,
+        ChunkSearchRow[] rows,
+        UUID[] chunkIds,
+        String[] contextHeaders,
+        String[] excerptsMasked,
+        long[] contentFingerprints,
+        Map<UUID, Integer> ordinalByChunkId,
+        FieldIndex summaryField,
+        VectorIndex vectors,
+        AttributeIndex attributes
+    ) {
+        this.versionStamp = versionStamp;
+        this.rows = rows;
+        this.chunkIds = chunkIds;
+        this.contextHeaders = contextHeaders;
+        this.excerptsMasked = excerptsMasked;
+        this.contentFingerprints = contentFingerprints;
+        this.ordinalByChunkId = ordinalByChunkId;
+        this.summaryField = summaryField;
+        this.vectors = vectors;
+        this.attributes = attributes;
+    }
+
+    public String versionStamp() {
+        return versionStamp;
+    }
+
+    public int size() {
+        return rows.length;
+    }
+
+    public ChunkSearchRow row(int ordinal) {
+        return rows[ordinal];
+    }
+
+    public UUID chunkId(int ordinal) {
+        return chunkIds[ordinal];
+    }
+
+    public String contextHeader(int ordinal) {
+        return contextHeaders[ordinal];
+    }
+
+    public String excerptMasked(int ordinal) {
+        return excerptsMasked[ordinal];
+    }
+
+    long contentFingerprint(int ordinal) {
+        return contentFingerprints[ordinal];
+    }
+
+    public int ordinalOf(UUID chunkId) {
+        Integer ordinal = ordinalByChunkId.get(chunkId);
+        return ordinal == null ? -1 : ordinal;
+    }
+
+    public TermPostings postings(String term) {
+        TermPostings postings = summaryField.postings().get(term);
+        return postings == null ? EMPTY_POSTINGS : postings;
+    }
+
+    public String[] terms(int ordinal) {
+        return summaryField.terms()[ordinal];
+    }
+
+    public int fieldLength(int ordinal) {
+        return summaryField.terms()[ordinal].length;
+    }
+
+    public double averageFieldLength() {
+        return summaryField.averageLength();
+    }
+
+    public VectorIndex vectors() {
+        return vectors;
+    }
+
+    FieldIndex summaryField() {
+        return summaryField;
+    }
+
+    public BitSet allowedOrdinals(RetrievalFilter filter) {
+        return attributes.allowedOrdinals(filter);
+    }
+
+    public record TermPostings(int[] ordinals, int[] termFrequencies) {
+
+        public int documentFrequency() {
+            return ordinals.length;
+        }
+    }
+
+    record FieldIndex(Map<String, TermPostings> postings, String[][] terms, double averageLength) {
+    }
+}
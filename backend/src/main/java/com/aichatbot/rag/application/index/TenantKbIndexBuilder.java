@@ -0,0 +1,230 @@
+package com.aichatbot.rag.application.index;
+
+import com.aichatbot.global.config.AppProperties;
+import com.aichatbot.global.privacy.PiiMaskingService;
+import com.aichatbot.llm.application.EmbeddingClient;
+import com.aichatbot.rag.application.ChunkEnricher;
+import com.aichatbot.rag.infrastructure.ChunkSearchRow;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TenantKbIndexBuilder {
+
+    private final ChunkEnricher chunkEnricher;
+    private final Tokenizer tokenizer;
+    private final TermDictionary termDictionary;
+    private final PiiMaskingService piiMaskingService;
+    private final EmbeddingClient embeddingClient;
+    private final AppProperties appProperties;
+
+    public TenantKbIndexBuilder(
+        ChunkEnricher chunkEnricher,
+        Tokenizer tokenizer,
+        TermDictionary termDictionary,
+        PiiMaskingService piiMaskingService,
+        EmbeddingClient embeddingClient,
+        AppProperties appProperties
+    ) {
+        this.chunkEnricher = chunkEnricher;
+        this.tokenizer = tokenizer;
+        this.termDictionary = termDictionary;
+        this.piiMaskingService = piiMaskingService;
+        this.embeddingClient = embeddingClient;
+        this.appProperties = appProperties;
+    }
+
+    public TenantKbIndex build(List<ChunkSearchRow> approvedChunks, String versionStamp) {
+        return build(approvedChunks, versionStamp, null);
+    }
+
+    public TenantKbIndex build(List<ChunkSearchRow> approvedChunks, String versionStamp, TenantKbIndex previous) {
+        // Why: ordinal을 DB가 돌려준 chunk_id 문자열 순서로 매겨 fusion 동점 처리가 모든 노드와 재구축에서 같게 한다.
+        List<ChunkSearchRow> sorted = new ArrayList<>(approvedChunks);
+        sorted.sort(Comparator.comparing(ChunkSearchRow::chunkId));
+
+        int size = sorted.size();
+        ChunkSearchRow[] rows = new ChunkSearchRow[size];
+        UUID[] chunkIds = new UUID[size];
+        String[] contextHeaders = new String[size];
+        String[] excerptsMasked = new String[size];
+        long[] contentFingerprints = new long[size];
+        Map<UUID, Integer> ordinalByChunkId = new HashMap<>(size * 2);
+        FieldAccumulator summaryField = new FieldAccumulator(size, termDictionary);
+        float[][] vectors = new float[size][];
+        String embeddingModel = embeddingClient.modelName();
+        Map<String, Integer> chunkCountByVersion = new HashMap<>();
+        for (ChunkSearchRow row : sorted) {
+            chunkCountByVersion.merge(String.valueOf(row.documentVersionId()), 1, Integer::sum);
+        }
+
+        for (int ordinal = 0; ordinal < size; ordinal++) {
+            ChunkSearchRow row = sorted.get(ordinal);
+            rows[ordinal] = row.metadataOnly();
+            contentFingerprints[ordinal] = contentFingerprint(row);
+            chunkIds[ordinal] = UUID.fromString(row.chunkId());
+            ordinalByChunkId.put(chunkIds[ordinal], ordinal);
+
+            // Why: header와 summary는 적재와 backfill 때 저장되므로, 여기서는 backfill이 아직 닿지 않은 행만 보충한다.
+            ChunkEnricher.Enrichment enrichment = chunkEnricher.enrich(
+                row,
+                chunkCountByVersion.get(String.valueOf(row.documentVersionId()))
+            );
+            String contextHeader = enrichment.contextHeader();
+            String summary = enrichment.summaryText();
+            contextHeaders[ordinal] = contextHeader;
+            excerptsMasked[ordinal] = piiMaskingService.mask((contextHeader + "\n" + summary).trim());
+
+            summaryField.add(
+                ordinal,
+                summaryTerms(rows[ordinal], contentFingerprints[ordinal], contextHeader, summary, previous, summaryField)
+            );
+            // Why: 빌드는 조회 경로에서 돌기 때문에 임베딩을 호출하지 않고, 현재 모델 벡터가 없는 행은 backfill job이 채울 때까지 dense leg에서 빠진다.
+            vectors[ordinal] = storedVector(row, embeddingModel);
+        }
+
+        return new TenantKbIndex(
+            versionStamp,
+            rows,
+            chunkIds,
+            contextHeaders,
+            excerptsMasked,
+            contentFingerprints,
+            ordinalByChunkId,
+            summaryField.toFieldIndex(),
+            vectorIndex(embeddingModel, chunkIds, vectors, previous),
+            AttributeIndex.of(rows)
+        );
+    }
+
+    private String[] summaryTerms(
+        ChunkSearchRow row,
+        long contentFingerprint,
+        String contextHeader,
+        String summary,
+        TenantKbIndex previous,
+        FieldAccumulator summaryField
+    ) {
+        if (previous != null) {
+            int previousOrdinal = previous.ordinalOf(UUID.fromString(row.chunkId()));
+            if (previousOrdinal >= 0
+                && row.equals(previous.row(previousOrdinal))
+                && contentFingerprint == previous.contentFingerprint(previousOrdinal)
+                && contextHeader.equals(previous.contextHeader(previousOrdinal))) {
+                return previous.terms(previousOrdinal);
+            }
+        }
+        return summaryField.intern(tokenizer.tokenize(contextHeader + "\n" + summary));
+    }
+
+    static long contentFingerprint(ChunkSearchRow row) {
+        // summary term을 만드는 텍스트 필드의 64-bit FNV-1a 값으로, 버린 본문을 직접 비교하는 대신 쓴다.
+        long hash = 0xcbf29ce484222325L;
+        for (String field : new String[] {row.contextHeader(), row.summaryText(), row.chunkText()}) {
+            String value = field == null ? "" : field;
+            for (int i = 0; i < value.length(); i++) {
+                hash = (hash ^ value.charAt(i)) * 0x100000001b3L;
+            }
+            hash = (hash ^ 0xFFFF) * 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    private VectorIndex vectorIndex(
+        String embeddingModel,
+        UUID[] chunkIds,
+        float[][] vectors,
+        TenantKbIndex previous
+    ) {
+        AppProperties.Rag rag = appProperties.getRag();
+        int dimension = dimensionOf(vectors);
+        if (chunkIds.length < rag.getHnswThreshold()) {
+            return new FlatVectorIndex(dimension, vectors);
+        }
+        HnswVectorIndex.Params params = new HnswVectorIndex.Params(
+            rag.getHnswM(),
+            rag.getHnswEfConstruction(),
+            rag.getHnswEfSearch()
+        );
+        if (previous != null
+            && previous.vectors() instanceof HnswVectorIndex graph
+            && graph.compatibleWith(embeddingModel, dimension, params)) {
+            HnswVectorIndex extended = graph.extend(chunkIds, vectors, rag.getHnswMaxDeletedRatio());
+            if (extended != null) {
+                return extended;
+            }
+        }
+        return HnswVectorIndex.build(embeddingModel, dimension, params, chunkIds, vectors);
+    }
+
+    private float[] storedVector(ChunkSearchRow row, String embeddingModel) {
+        if (embeddingModel.equals(row.embeddingModel())) {
+            return FlatVectorIndex.parse(row.embeddingVector());
+        }
+        return null;
+    }
+
+    private int dimensionOf(float[][] vectors) {
+        for (float[] vector : vectors) {
+            if (vector != null) {
+                return vector.length;
+            }
+        }
+        return 0;
+    }
+
+    private static final class FieldAccumulator {
+
+        private final Map<String, List<int[]>> termEntries = new HashMap<>();
+        private final TermDictionary dictionary;
+        private final String[][] terms;
+        private long totalLength;
+
+        private FieldAccumulator(int size, TermDictionary dictionary) {
+            this.terms = new String[size][];
+            this.dictionary = dictionary;
+        }
+
+        private String[] intern(String[] chunkTerms) {
+            for (int i = 0; i < chunkTerms.length; i++) {
+                chunkTerms[i] = dictionary.intern(chunkTerms[i]);
+            }
+            return chunkTerms;
+        }
+
+        private void add(int ordinal, String[] chunkTerms) {
+            terms[ordinal] = chunkTerms;
+            totalLength += chunkTerms.length;
+            Map<String, Integer> frequencies = new LinkedHashMap<>();
+            for (String term : chunkTerms) {
+                frequencies.merge(term, 1, Integer::sum);
+            }
+            for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+                termEntries.computeIfAbsent(entry.getKey(), ignored -> new ArrayList<>())
+                    .add(new int[] {ordinal, entry.getValue()});
+            }
+        }
+
+        private TenantKbIndex.FieldIndex toFieldIndex() {
+            Map<String, TenantKbIndex.TermPostings> postings = new HashMap<>(termEntries.size() * 2);
+            for (Map.Entry<String, List<int[]>> entry : termEntries.entrySet()) {
+                List<int[]> entries = entry.getValue();
+                int[] ordinals = new int[entries.size()];
+                int[] termFrequencies = new int[entries.size()];
+                for (int i = 0; i < entries.size(); i++) {
+                    ordinals[i] = entries.get(i)[0];
+                    termFrequencies[i] = entries.get(i)[1];
+                }
+                postings.put(entry.getKey(), new TenantKbIndex.TermPostings(ordinals, termFrequencies));
+            }
+            double averageLength = terms.length == 0 ? 0.0d : (double) totalLength / (double) terms.length;
+            return new TenantKbIndex.FieldIndex(postings, terms, averageLength);
+        }
+    }
+}
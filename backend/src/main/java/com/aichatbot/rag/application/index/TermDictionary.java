@@ -0,0 +1,32 @@
+package com.aichatbot.rag.application.index;
+
+import com.aichatbot.global.config.AppProperties;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TermDictionary {
+
+    private final ConcurrentHashMap<String, String> terms = new ConcurrentHashMap<>();
+    private final AppProperties appProperties;
+
+    public TermDictionary(AppProperties appProperties) {
+        this.appProperties = appProperties;
+    }
+
+    public String intern(String term) {
+        String existing = terms.get(term);
+        if (existing != null) {
+            return existing;
+        }
+        if (terms.size() >= appProperties.getRag().getTermDictionaryMaxTerms()) {
+            return term;
+        }
+        existing = terms.putIfAbsent(term, term);
+        return existing == null ? term : existing;
+    }
+
+    public int size() {
+        return terms.size();
+    }
+}
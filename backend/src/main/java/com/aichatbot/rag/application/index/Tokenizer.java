@@ -0,0 +1,6 @@
+package com.aichatbot.rag.application.index;
+
+public interface Tokenizer {
+
+    String[] tokenize(String value);
+}
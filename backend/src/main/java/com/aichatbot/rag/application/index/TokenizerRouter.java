@@ -0,0 +1,32 @@
+package com.aichatbot.rag.application.index;
+
+import com.aichatbot.global.config.AppProperties;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+@Component
+@Primary
+public class TokenizerRouter implements Tokenizer {
+
+    private final WordTokenizer wordTokenizer;
+    private final HangulNgramTokenizer hangulNgramTokenizer;
+    private final AppProperties appProperties;
+
+    public TokenizerRouter(
+        WordTokenizer wordTokenizer,
+        HangulNgramTokenizer hangulNgramTokenizer,
+        AppProperties appProperties
+    ) {
+        this.wordTokenizer = wordTokenizer;
+        this.hangulNgramTokenizer = hangulNgramTokenizer;
+        this.appProperties = appProperties;
+    }
+
+    @Override
+    public String[] tokenize(String value) {
+        if ("word".equalsIgnoreCase(appProperties.getRag().getTokenizer())) {
+            return wordTokenizer.tokenize(value);
+        }
+        return hangulNgramTokenizer.tokenize(value);
+    }
+}
@@ -0,0 +1,96 @@
+package com.aichatbot.rag.application.index;
+
+public final class TopKHeap {
+
+    private final int capacity;
+    private final float[] scores;
+    private final int[] ordinals;
+    private int size;
+
+    public TopKHeap(int capacity) {
+        this.capacity = Math.max(1, capacity);
+        this.scores = new float[this.capacity];
+        this.ordinals = new int[this.capacity];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void offer(int ordinal, float score) {
+        if (size < capacity) {
+            scores[size] = score;
+            ordinals[size] = ordinal;
+            siftUp(size++);
+            return;
+        }
+        if (worseThan(score, ordinal, scores[0], ordinals[0])) {
+            return;
+        }
+        scores[0] = score;
+        ordinals[0] = ordinal;
+        siftDown(0);
+    }
+
+    public RankedOrdinals drain() {
+        int count = size;
+        int[] orderedOrdinals = new int[count];
+        float[] orderedScores = new float[count];
+        for (int i = count - 1; i >= 0; i--) {
+            orderedOrdinals[i] = ordinals[0];
+            orderedScores[i] = scores[0];
+            size--;
+            scores[0] = scores[size];
+            ordinals[0] = ordinals[size];
+            siftDown(0);
+        }
+        return new RankedOrdinals(orderedOrdinals, orderedScores);
+    }
+
+    // Why: 동점이면 낮은 ordinal이 앞서며, ordinal이 chunk_id 문자열 순서이므로 기존 동점 처리와 결과가 같다.
+    private static boolean worseThan(float score, int ordinal, float otherScore, int otherOrdinal) {
+        if (score != otherScore) {
+            return score < otherScore;
+        }
+        return ordinal > otherOrdinal;
+    }
+
+    private void siftUp(int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!worseThan(scores[index], ordinals[index], scores[parent], ordinals[parent])) {
+                return;
+            }
+            swap(index, parent);
+            index = parent;
+        }
+    }
+
+    private void siftDown(int index) {
+        while (true) {
+            int left = index * 2 + 1;
+            if (left >= size) {
+                return;
+            }
+            int right = left + 1;
+            int worst = left;
+            if (right < size && worseThan(scores[right], ordinals[right], scores[left], ordinals[left])) {
+                worst = right;
+            }
+            if (!worseThan(scores[worst], ordinals[worst], scores[index], ordinals[index])) {
+                return;
+            }
+            swap(index, worst);
+            index = worst;
+        }
+    }
+
+    private void swap(int left, int right) {
+        float score = scores[left];
+        scores[left] = scores[right];
+        scores[right] = score;
+        int ordinal = ordinals[left];
+        ordinals[left] = ordinals[right];
+        ordinals[right] = ordinal;
+    }
+}
@@ -0,0 +1,17 @@
+package com.aichatbot.rag.application.index;
+
+import java.util.BitSet;
+
+public interface VectorIndex {
+
+    int dimension();
+
+    int size();
+
+    default TopKHeap search(float[] query, int topK, float minSimilarity) {
+        return search(query, topK, minSimilarity, null);
+    }
+
+    // allowedOrdinals가 null이면 필터가 없고, 아니면 그 ordinal만 돌려줄 수 있다.
+    TopKHeap search(float[] query, int topK, float minSimilarity, BitSet allowedOrdinals);
+}
@@ -0,0 +1,41 @@
+package com.aichatbot.rag.application.index;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.stereotype.Component;
+
+@Component
+public class WordTokenizer implements Tokenizer {
+
+    private static final String[] NO_TERMS = new String[0];
+
+    @Override
+    public String[] tokenize(String value) {
+        if (value == null || value.isEmpty()) {
+            return NO_TERMS;
+        }
+        List<String> terms = new ArrayList<>();
+        char[] buffer = new char[value.length()];
+        int length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = Character.toLowerCase(value.charAt(i));
+            if (isTermChar(c)) {
+                buffer[length++] = c;
+            } else if (length > 0) {
+                terms.add(new String(buffer, 0, length));
+                length = 0;
+            }
+        }
+        if (length > 0) {
+            terms.add(new String(buffer, 0, length));
+        }
+        return terms.isEmpty() ? NO_TERMS : terms.toArray(NO_TERMS);
+    }
+
+    static boolean isTermChar(char c) {
+        if (c < 0x80) {
+            return (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9');
+        }
+        return !Character.isSurrogate(c) && Character.UnicodeScript.of(c) == Character.UnicodeScript.HANGUL;
+    }
+}
@@ -1,5 +1,6 @@
 package com.aichatbot.rag.domain.mapper;
 
+import com.aichatbot.rag.infrastructure.CitationInsertRow;
 import com.aichatbot.rag.infrastructure.CitationRow;
 import java.time.Instant;
 import java.util.List;
@@ -16,6 +17,11 @@ public interface CitationMapper {
              @Param("rankNo") int rankNo,
              @Param("excerptMasked") String excerptMasked);
 
+    int saveAll(@Param("tenantId") UUID tenantId,
+                @Param("messageId") UUID messageId,
+                @Param("messageCreatedAt") Instant messageCreatedAt,
+                @Param("citations") List<CitationInsertRow> citations);
+
     List<CitationRow> findByMessageId(@Param("tenantId") UUID tenantId,
                                       @Param("messageId") UUID messageId,
                                       @Param("cursorRankNo") Integer cursorRankNo,
@@ -0,0 +1,53 @@
+package com.aichatbot.rag.domain.mapper;
+
+import com.aichatbot.rag.infrastructure.ChunkEmbeddingRow;
+import com.aichatbot.rag.infrastructure.ChunkEnrichmentRow;
+import java.util.List;
+import java.util.UUID;
+import org.apache.ibatis.annotations.Param;
+
+public interface KbChunkMapper {
+
+    List<ChunkEnrichmentRow> findChunksMissingEnrichment(
+        @Param("documentVersionId") UUID documentVersionId,
+        @Param("afterChunkId") UUID afterChunkId,
+        @Param("limit") int limit
+    );
+
+    int updateChunkEnrichment(
+        @Param("tenantId") UUID tenantId,
+        @Param("chunkId") UUID chunkId,
+        @Param("contextHeader") String contextHeader,
+        @Param("summaryText") String summaryText
+    );
+
+    int touchDocumentVersion(
+        @Param("tenantId") UUID tenantId,
+        @Param("documentVersionId") UUID documentVersionId
+    );
+
+    List<ChunkEmbeddingRow> findChunksWithStaleEmbedding(
+        @Param("model") String model,
+        @Param("afterChunkId") UUID afterChunkId,
+        @Param("limit") int limit
+    );
+
+    int updateChunkEmbedding(
+        @Param("tenantId") UUID tenantId,
+        @Param("chunkId") UUID chunkId,
+        @Param("embeddingVector") String embeddingVector,
+        @Param("embeddingDim") int embeddingDim,
+        @Param("model") String model,
+        @Param("embeddingInputText") String embeddingInputText
+    );
+
+    int insertChunkEmbedding(
+        @Param("id") UUID id,
+        @Param("tenantId") UUID tenantId,
+        @Param("chunkId") UUID chunkId,
+        @Param("embeddingVector") String embeddingVector,
+        @Param("embeddingDim") int embeddingDim,
+        @Param("model") String model,
+        @Param("embeddingInputText") String embeddingInputText
+    );
+}
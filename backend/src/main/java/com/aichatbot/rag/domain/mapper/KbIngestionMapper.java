@@ -0,0 +1,104 @@
+package com.aichatbot.rag.domain.mapper;
+
+import com.aichatbot.rag.infrastructure.ChunkSearchRow;
+import com.aichatbot.rag.infrastructure.KbChunkDraft;
+import com.aichatbot.rag.infrastructure.KbIngestionJobRecord;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import org.apache.ibatis.annotations.Param;
+
+public interface KbIngestionMapper {
+
+    int insertDocument(
+        @Param("documentId") UUID documentId,
+        @Param("tenantId") UUID tenantId,
+        @Param("title") String title,
+        @Param("sourceType") String sourceType,
+        @Param("category") String category,
+        @Param("effectiveDate") LocalDate effectiveDate,
+        @Param("owner") String owner
+    );
+
+    int countDocument(@Param("tenantId") UUID tenantId, @Param("documentId") UUID documentId);
+
+    int nextVersionNo(@Param("tenantId") UUID tenantId, @Param("documentId") UUID documentId);
+
+    int insertDocumentVersion(
+        @Param("documentVersionId") UUID documentVersionId,
+        @Param("tenantId") UUID tenantId,
+        @Param("documentId") UUID documentId,
+        @Param("versionNo") int versionNo,
+        @Param("status") String status
+    );
+
+    int insertJob(
+        @Param("id") UUID id,
+        @Param("tenantId") UUID tenantId,
+        @Param("documentId") UUID documentId,
+        @Param("documentVersionId") UUID documentVersionId,
+        @Param("requestedBy") UUID requestedBy,
+        @Param("spoolPath") String spoolPath,
+        @Param("sourceBytes") long sourceBytes,
+        @Param("traceId") UUID traceId,
+        @Param("ownerNode") String ownerNode,
+        @Param("createdAt") Instant createdAt
+    );
+
+    KbIngestionJobRecord findJobById(@Param("tenantId") UUID tenantId, @Param("jobId") UUID jobId);
+
+    List<KbIngestionJobRecord> findPendingJobs(@Param("ownerNode") String ownerNode, @Param("limit") int limit);
+
+    List<KbIngestionJobRecord> findAbandonedJobs(
+        @Param("pendingBefore") Instant pendingBefore,
+        @Param("runningBefore") Instant runningBefore,
+        @Param("limit") int limit
+    );
+
+    ChunkSearchRow findVersionSource(@Param("tenantId") UUID tenantId, @Param("documentVersionId") UUID documentVersionId);
+
+    int claimJob(@Param("jobId") UUID jobId, @Param("startedAt") Instant startedAt);
+
+    int updateJobProgress(@Param("jobId") UUID jobId, @Param("chunkCount") int chunkCount, @Param("heartbeatAt") Instant heartbeatAt);
+
+    int markJobDone(@Param("jobId") UUID jobId, @Param("chunkCount") int chunkCount, @Param("completedAt") Instant completedAt);
+
+    int markJobFailed(
+        @Param("jobId") UUID jobId,
+        @Param("errorCode") String errorCode,
+        @Param("errorMessage") String errorMessage,
+        @Param("completedAt") Instant completedAt
+    );
+
+    int expireJob(
+        @Param("jobId") UUID jobId,
+        @Param("expectedStatus") String expectedStatus,
+        @Param("staleBefore") Instant staleBefore,
+        @Param("errorCode") String errorCode,
+        @Param("errorMessage") String errorMessage,
+        @Param("completedAt") Instant completedAt
+    );
+
+    int insertChunks(@Param("chunks") List<KbChunkDraft> chunks);
+
+    int insertChunkEmbeddings(@Param("chunks") List<KbChunkDraft> chunks);
+
+    int deleteChunkEmbeddingsByVersion(@Param("tenantId") UUID tenantId, @Param("documentVersionId") UUID documentVersionId);
+
+    int deleteChunksByVersion(@Param("tenantId") UUID tenantId, @Param("documentVersionId") UUID documentVersionId);
+
+    int supersedeApprovedVersions(
+        @Param("tenantId") UUID tenantId,
+        @Param("documentId") UUID documentId,
+        @Param("documentVersionId") UUID documentVersionId
+    );
+
+    int approveVersion(@Param("tenantId") UUID tenantId, @Param("documentVersionId") UUID documentVersionId);
+
+    int updateVersionStatus(
+        @Param("tenantId") UUID tenantId,
+        @Param("documentVersionId") UUID documentVersionId,
+        @Param("status") String status
+    );
+}
@@ -1,6 +1,7 @@
 package com.aichatbot.rag.domain.mapper;
 
 import com.aichatbot.rag.infrastructure.ChunkSearchRow;
+import com.aichatbot.rag.infrastructure.ChunkTextRow;
 import java.util.List;
 import java.util.UUID;
 import org.apache.ibatis.annotations.Param;
@@ -8,4 +9,8 @@ import org.apache.ibatis.annotations.Param;
 public interface KbSearchMapper {
 
     List<ChunkSearchRow> findApprovedChunksByTenant(@Param("tenantId") UUID tenantId);
+
+    List<ChunkTextRow> findChunkTextsByIds(@Param("tenantId") UUID tenantId, @Param("chunkIds") List<UUID> chunkIds);
+
+    String findKbVersionStamp(@Param("tenantId") UUID tenantId);
 }
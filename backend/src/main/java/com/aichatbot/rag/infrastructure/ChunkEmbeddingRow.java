@@ -0,0 +1,12 @@
+package com.aichatbot.rag.infrastructure;
+
+public record ChunkEmbeddingRow(
+    String chunkId,
+    String tenantId,
+    String documentVersionId,
+    String contextHeader,
+    String summaryText,
+    String chunkText,
+    String embeddingInputText
+) {
+}
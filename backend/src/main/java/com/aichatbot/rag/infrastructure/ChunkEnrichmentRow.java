@@ -0,0 +1,40 @@
+package com.aichatbot.rag.infrastructure;
+
+public record ChunkEnrichmentRow(
+    String chunkId,
+    String tenantId,
+    String documentVersionId,
+    Integer versionNo,
+    Integer chunkNo,
+    Integer versionChunkCount,
+    String title,
+    String sourceType,
+    String category,
+    String effectiveDate,
+    String owner,
+    String contextHeader,
+    String summaryText,
+    String chunkText
+) {
+
+    public ChunkSearchRow toSearchRow() {
+        return new ChunkSearchRow(
+            chunkId,
+            null,
+            documentVersionId,
+            versionNo,
+            chunkNo,
+            title,
+            sourceType,
+            category,
+            effectiveDate,
+            owner,
+            contextHeader,
+            summaryText,
+            chunkText,
+            null,
+            null,
+            null
+        );
+    }
+}
@@ -14,6 +14,29 @@ public record ChunkSearchRow(
     String contextHeader,
     String summaryText,
     String chunkText,
-    String embeddingInputText
+    String embeddingInputText,
+    String embeddingVector,
+    String embeddingModel
 ) {
+
+    public ChunkSearchRow metadataOnly() {
+        return new ChunkSearchRow(
+            chunkId,
+            documentId,
+            documentVersionId,
+            versionNo,
+            chunkNo,
+            title,
+            sourceType,
+            category,
+            effectiveDate,
+            owner,
+            null,
+            null,
+            null,
+            null,
+            null,
+            embeddingModel
+        );
+    }
 }
@@ -0,0 +1,7 @@
+package com.aichatbot.rag.infrastructure;
+
+public record ChunkTextRow(
+    String chunkId,
+    String chunkText
+) {
+}
@@ -0,0 +1,11 @@
+package com.aichatbot.rag.infrastructure;
+
+import java.util.UUID;
+
+public record CitationInsertRow(
+    UUID citationId,
+    UUID chunkId,
+    int rankNo,
+    String excerptMasked
+) {
+}
@@ -29,6 +29,13 @@ public class CitationRepository {
         );
     }
 
+    public void saveAll(UUID tenantId, UUID messageId, Instant messageCreatedAt, List<CitationInsertRow> citations) {
+        if (citations.isEmpty()) {
+            return;
+        }
+        citationMapper.saveAll(tenantId, messageId, messageCreatedAt, citations);
+    }
+
     public List<CitationView> findByMessageId(UUID tenantId, UUID messageId, Integer cursorRankNo, int limit) {
         List<CitationRow> rows = citationMapper.findByMessageId(
             tenantId,
@@ -0,0 +1,21 @@
+package com.aichatbot.rag.infrastructure;
+
+import java.util.UUID;
+
+public record KbChunkDraft(
+    UUID chunkId,
+    UUID tenantId,
+    UUID documentVersionId,
+    int chunkNo,
+    String chunkHash,
+    String chunkText,
+    int tokenCount,
+    String contextHeader,
+    String summaryText,
+    UUID embeddingId,
+    String embeddingVector,
+    int embeddingDim,
+    String embeddingModel,
+    String embeddingInputText
+) {
+}
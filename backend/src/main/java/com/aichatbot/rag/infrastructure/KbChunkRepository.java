@@ -0,0 +1,45 @@
+package com.aichatbot.rag.infrastructure;
+
+import com.aichatbot.rag.domain.mapper.KbChunkMapper;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class KbChunkRepository {
+
+    private final KbChunkMapper kbChunkMapper;
+
+    public KbChunkRepository(KbChunkMapper kbChunkMapper) {
+        this.kbChunkMapper = kbChunkMapper;
+    }
+
+    public List<ChunkEnrichmentRow> findChunksMissingEnrichment(UUID documentVersionId, UUID afterChunkId, int limit) {
+        return kbChunkMapper.findChunksMissingEnrichment(documentVersionId, afterChunkId, limit);
+    }
+
+    public boolean updateChunkEnrichment(UUID tenantId, UUID chunkId, String contextHeader, String summaryText) {
+        return kbChunkMapper.updateChunkEnrichment(tenantId, chunkId, contextHeader, summaryText) > 0;
+    }
+
+    public void touchDocumentVersion(UUID tenantId, UUID documentVersionId) {
+        kbChunkMapper.touchDocumentVersion(tenantId, documentVersionId);
+    }
+
+    public List<ChunkEmbeddingRow> findChunksWithStaleEmbedding(String model, UUID afterChunkId, int limit) {
+        return kbChunkMapper.findChunksWithStaleEmbedding(model, afterChunkId, limit);
+    }
+
+    public void saveChunkEmbedding(
+        UUID tenantId,
+        UUID chunkId,
+        String embeddingVector,
+        int embeddingDim,
+        String model,
+        String embeddingInputText
+    ) {
+        if (kbChunkMapper.updateChunkEmbedding(tenantId, chunkId, embeddingVector, embeddingDim, model, embeddingInputText) == 0) {
+            kbChunkMapper.insertChunkEmbedding(UUID.randomUUID(), tenantId, chunkId, embeddingVector, embeddingDim, model, embeddingInputText);
+        }
+    }
+}
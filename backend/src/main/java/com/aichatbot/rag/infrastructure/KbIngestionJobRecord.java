@@ -0,0 +1,24 @@
+package com.aichatbot.rag.infrastructure;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record KbIngestionJobRecord(
+    UUID id,
+    UUID tenantId,
+    UUID documentId,
+    UUID documentVersionId,
+    UUID requestedBy,
+    String status,
+    String spoolPath,
+    Long sourceBytes,
+    Integer chunkCount,
+    String errorCode,
+    String errorMessage,
+    Instant createdAt,
+    Instant startedAt,
+    Instant completedAt,
+    UUID traceId,
+    String ownerNode
+) {
+}
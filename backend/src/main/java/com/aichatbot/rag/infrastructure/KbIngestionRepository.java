@@ -0,0 +1,143 @@
+package com.aichatbot.rag.infrastructure;
+
+import com.aichatbot.rag.domain.mapper.KbIngestionMapper;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public class KbIngestionRepository {
+
+    private final KbIngestionMapper kbIngestionMapper;
+
+    public KbIngestionRepository(KbIngestionMapper kbIngestionMapper) {
+        this.kbIngestionMapper = kbIngestionMapper;
+    }
+
+    public boolean documentExists(UUID tenantId, UUID documentId) {
+        return kbIngestionMapper.countDocument(tenantId, documentId) > 0;
+    }
+
+    @Transactional
+    public int registerJob(
+        UUID jobId,
+        UUID tenantId,
+        UUID documentId,
+        DocumentFields newDocument,
+        UUID documentVersionId,
+        UUID requestedBy,
+        String spoolPath,
+        long sourceBytes,
+        UUID traceId,
+        String ownerNode,
+        Instant createdAt
+    ) {
+        if (newDocument != null) {
+            kbIngestionMapper.insertDocument(
+                documentId,
+                tenantId,
+                newDocument.title(),
+                newDocument.sourceType(),
+                newDocument.category(),
+                newDocument.effectiveDate(),
+                newDocument.owner()
+            );
+        }
+        int versionNo = kbIngestionMapper.nextVersionNo(tenantId, documentId);
+        kbIngestionMapper.insertDocumentVersion(documentVersionId, tenantId, documentId, versionNo, "ingesting");
+        kbIngestionMapper.insertJob(
+            jobId,
+            tenantId,
+            documentId,
+            documentVersionId,
+            requestedBy,
+            spoolPath,
+            sourceBytes,
+            traceId,
+            ownerNode,
+            createdAt
+        );
+        return versionNo;
+    }
+
+    public Optional<KbIngestionJobRecord> findJobById(UUID tenantId, UUID jobId) {
+        return Optional.ofNullable(kbIngestionMapper.findJobById(tenantId, jobId));
+    }
+
+    public List<KbIngestionJobRecord> findPendingJobs(String ownerNode, int limit) {
+        return kbIngestionMapper.findPendingJobs(ownerNode, limit);
+    }
+
+    public List<KbIngestionJobRecord> findAbandonedJobs(Instant pendingBefore, Instant runningBefore, int limit) {
+        return kbIngestionMapper.findAbandonedJobs(pendingBefore, runningBefore, limit);
+    }
+
+    public Optional<ChunkSearchRow> findVersionSource(UUID tenantId, UUID documentVersionId) {
+        return Optional.ofNullable(kbIngestionMapper.findVersionSource(tenantId, documentVersionId));
+    }
+
+    public boolean claimJob(UUID jobId, Instant startedAt) {
+        return kbIngestionMapper.claimJob(jobId, startedAt) == 1;
+    }
+
+    public void updateJobProgress(UUID jobId, int chunkCount, Instant heartbeatAt) {
+        kbIngestionMapper.updateJobProgress(jobId, chunkCount, heartbeatAt);
+    }
+
+    public void markJobDone(UUID jobId, int chunkCount, Instant completedAt) {
+        kbIngestionMapper.markJobDone(jobId, chunkCount, completedAt);
+    }
+
+    public void markJobFailed(UUID jobId, String errorCode, String errorMessage, Instant completedAt) {
+        kbIngestionMapper.markJobFailed(jobId, errorCode, errorMessage, completedAt);
+    }
+
+    public boolean expireJob(
+        UUID jobId,
+        String expectedStatus,
+        Instant staleBefore,
+        String errorCode,
+        String errorMessage,
+        Instant completedAt
+    ) {
+        return kbIngestionMapper.expireJob(jobId, expectedStatus, staleBefore, errorCode, errorMessage, completedAt) == 1;
+    }
+
+    @Transactional
+    public void insertChunkBatch(List<KbChunkDraft> chunks) {
+        if (chunks.isEmpty()) {
+            return;
+        }
+        kbIngestionMapper.insertChunks(chunks);
+        kbIngestionMapper.insertChunkEmbeddings(chunks);
+    }
+
+    @Transactional
+    public void discardVersion(UUID tenantId, UUID documentVersionId) {
+        kbIngestionMapper.deleteChunkEmbeddingsByVersion(tenantId, documentVersionId);
+        kbIngestionMapper.deleteChunksByVersion(tenantId, documentVersionId);
+        kbIngestionMapper.updateVersionStatus(tenantId, documentVersionId, "failed");
+    }
+
+    @Transactional
+    public boolean publishVersion(UUID tenantId, UUID documentId, UUID documentVersionId) {
+        if (kbIngestionMapper.approveVersion(tenantId, documentVersionId) != 1) {
+            return false;
+        }
+        kbIngestionMapper.supersedeApprovedVersions(tenantId, documentId, documentVersionId);
+        return true;
+    }
+
+    public record DocumentFields(
+        String title,
+        String sourceType,
+        String category,
+        LocalDate effectiveDate,
+        String owner
+    ) {
+    }
+}
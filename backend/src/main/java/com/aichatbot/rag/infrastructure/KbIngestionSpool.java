@@ -0,0 +1,76 @@
+package com.aichatbot.rag.infrastructure;
+
+import com.aichatbot.global.config.AppProperties;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.UUID;
+import org.springframework.stereotype.Component;
+
+@Component
+public class KbIngestionSpool {
+
+    private static final int COPY_BUFFER_BYTES = 64 * 1024;
+
+    private final AppProperties appProperties;
+
+    public KbIngestionSpool(AppProperties appProperties) {
+        this.appProperties = appProperties;
+    }
+
+    public SpooledSource write(UUID jobId, InputStream body, long maxBytes) throws IOException {
+        Path directory = Paths.get(appProperties.getRag().getIngestionSpoolDir());
+        Files.createDirectories(directory);
+        Path target = directory.resolve(jobId + ".txt");
+        long total = 0L;
+        byte[] buffer = new byte[COPY_BUFFER_BYTES];
+        try (OutputStream output = Files.newOutputStream(target)) {
+            int read;
+            while ((read = body.read(buffer)) >= 0) {
+                total += read;
+                if (total > maxBytes) {
+                    output.close();
+                    Files.deleteIfExists(target);
+                    return new SpooledSource(null, total, true);
+                }
+                output.write(buffer, 0, read);
+            }
+        } catch (IOException exception) {
+            Files.deleteIfExists(target);
+            throw exception;
+        }
+        return new SpooledSource(target.toString(), total, false);
+    }
+
+    public boolean exists(String spoolPath) {
+        return spoolPath != null && Files.isRegularFile(Paths.get(spoolPath));
+    }
+
+    public Reader open(String spoolPath) throws IOException {
+        return new BufferedReader(
+            new InputStreamReader(Files.newInputStream(Paths.get(spoolPath)), StandardCharsets.UTF_8),
+            COPY_BUFFER_BYTES
+        );
+    }
+
+    public void delete(String spoolPath) {
+        if (spoolPath == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(Paths.get(spoolPath));
+        } catch (IOException ignored) {
+            // 정리는 best-effort이며, 작업이 PENDING을 벗어나면 남은 spool 파일은 다시 집히지 않는다.
+        }
+    }
+
+    public record SpooledSource(String path, long bytes, boolean tooLarge) {
+    }
+}
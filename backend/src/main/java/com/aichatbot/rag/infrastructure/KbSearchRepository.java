@@ -17,4 +17,16 @@ public class KbSearchRepository {
     public List<ChunkSearchRow> findApprovedChunksByTenant(UUID tenantId) {
         return kbSearchMapper.findApprovedChunksByTenant(tenantId);
     }
+
+    public List<ChunkTextRow> findChunkTextsByIds(UUID tenantId, List<UUID> chunkIds) {
+        if (chunkIds.isEmpty()) {
+            return List.of();
+        }
+        return kbSearchMapper.findChunkTextsByIds(tenantId, chunkIds);
+    }
+
+    public String findKbVersionStamp(UUID tenantId) {
+        String stamp = kbSearchMapper.findKbVersionStamp(tenantId);
+        return stamp == null ? "" : stamp;
+    }
 }
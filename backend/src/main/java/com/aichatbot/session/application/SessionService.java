@@ -1,5 +1,6 @@
 package com.aichatbot.session.application;
 
+import com.aichatbot.global.config.AppProperties;
 import com.aichatbot.global.error.ApiException;
 import com.aichatbot.global.error.ErrorCatalog;
 import com.aichatbot.global.observability.TraceGuard;
@@ -20,15 +21,18 @@ public class SessionService {
     private final ConversationRepository conversationRepository;
     private final MessageRepository messageRepository;
     private final MessageGenerationService messageGenerationService;
+    private final AppProperties appProperties;
 
     public SessionService(
         ConversationRepository conversationRepository,
         MessageRepository messageRepository,
-        MessageGenerationService messageGenerationService
+        MessageGenerationService messageGenerationService,
+        AppProperties appProperties
     ) {
         this.conversationRepository = conversationRepository;
         this.messageRepository = messageRepository;
         this.messageGenerationService = messageGenerationService;
+        this.appProperties = appProperties;
     }
 
     public Map<String, Object> bootstrap(String tenantKey, UUID tenantId, String userId, List<String> roles) {
@@ -61,6 +65,10 @@ public class SessionService {
 
     public MessageGenerationResult generateAnswer(UUID tenantId, UUID sessionId, String text, Integer topK) {
         requireSessionInTenant(tenantId, sessionId);
+        if (appProperties.getGeneration().isAsyncEnabled()) {
+            // Why: 요청 스레드는 질문 저장만 하고 검색, LLM, 복구는 제한된 worker pool에서 돌려 LLM 지연이 Tomcat 스레드를 고갈시키지 않게 한다.
+            return messageGenerationService.generateAsync(tenantId, sessionId, text, topK);
+        }
         return messageGenerationService.generate(tenantId, sessionId, text, topK);
     }
 
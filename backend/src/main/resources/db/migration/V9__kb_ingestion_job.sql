@@ -0,0 +1,35 @@
+CREATE TABLE IF NOT EXISTS tb_kb_ingestion_job (
+    id UUID PRIMARY KEY,
+    tenant_id UUID NOT NULL,
+    document_id UUID NOT NULL,
+    document_version_id UUID NOT NULL,
+    requested_by UUID NULL,
+    status VARCHAR(20) NOT NULL,
+    spool_path VARCHAR(1000) NOT NULL,
+    source_bytes BIGINT NOT NULL DEFAULT 0,
+    chunk_count INTEGER NOT NULL DEFAULT 0,
+    error_code VARCHAR(80) NULL,
+    error_message VARCHAR(500) NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    started_at TIMESTAMP NULL,
+    completed_at TIMESTAMP NULL,
+    trace_id UUID NOT NULL,
+    owner_node VARCHAR(200) NULL,
+    heartbeat_at TIMESTAMP NULL,
+    CONSTRAINT fk_tb_kb_ingestion_job_tenant FOREIGN KEY (tenant_id) REFERENCES tb_tenant(id),
+    CONSTRAINT fk_tb_kb_ingestion_job_version FOREIGN KEY (document_version_id) REFERENCES tb_kb_document_version(id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_tb_kb_ingestion_job_status_created
+    ON tb_kb_ingestion_job (status, created_at);
+
+CREATE INDEX IF NOT EXISTS idx_tb_kb_ingestion_job_tenant_created
+    ON tb_kb_ingestion_job (tenant_id, created_at DESC);
+
+-- Why: spool 파일은 업로드를 받은 노드에만 있으므로 각 노드는 자기 작업만 조회하고, 주인이 사라진 작업은 만료 시각으로 따로 정리한다.
+CREATE INDEX IF NOT EXISTS idx_tb_kb_ingestion_job_owner_status_created
+    ON tb_kb_ingestion_job (owner_node, status, created_at);
+
+-- Why: Embeddings from 768+ dimension models do not fit the original VARCHAR(8192) text encoding.
+ALTER TABLE tb_kb_chunk_embedding
+    ALTER COLUMN embedding_vector SET DATA TYPE TEXT;
@@ -0,0 +1,154 @@
+package com.aichatbot.admin.presentation;
+
+import com.aichatbot.rag.application.KbIngestionService;
+import com.aichatbot.rag.application.index.KbIndexRegistry;
+import com.aichatbot.rag.infrastructure.KbIngestionRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+    "spring.task.scheduling.enabled=false",
+    "app.llm.provider=mock",
+    "app.answer.evidence-threshold=0.0",
+    "app.auth.mfa-enforce-ops-admin=false"
+})
+@AutoConfigureMockMvc
+class AdminKbIngestionContractTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private static final UUID DEMO_TENANT_ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+
+    @Autowired
+    private KbIngestionService kbIngestionService;
+
+    @Autowired
+    private KbIngestionRepository kbIngestionRepository;
+
+    @Autowired
+    private KbIndexRegistry kbIndexRegistry;
+
+    private final List<UUID> ingestedVersionIds = new ArrayList<>();
+
+    @AfterEach
+    void discardIngestedVersions() {
+        // 같은 컨텍스트를 쓰는 다른 계약 테스트의 검색 결과에 섞이지 않도록 적재한 버전을 되돌린다.
+        ingestedVersionIds.forEach(versionId -> kbIngestionRepository.discardVersion(DEMO_TENANT_ID, versionId));
+        kbIndexRegistry.invalidate(DEMO_TENANT_ID);
+    }
+
+    @Test
+    void shouldAcceptUploadProcessItAndReportDoneStatus() throws Exception {
+        String accessToken = login("admin1", "admin1-pass", "94000000-0000-4000-8000-000000000001").get("access_token").asText();
+
+        MvcResult createResult = mockMvc.perform(post("/v1/admin/kb/ingestion-jobs")
+                .header("Authorization", "Bearer " + accessToken)
+                .header("X-Trace-Id", "94000000-0000-4000-8000-000000000002")
+                .header("X-Tenant-Key", "demo-tenant")
+                .param("title", "환불 정책 매뉴얼")
+                .param("category", "refund")
+                .contentType(MediaType.TEXT_PLAIN)
+                .content("""
+                    환불은 결제일로부터 7일 이내에 신청할 수 있습니다.
+
+                    부분 환불은 상담원 확인 후 영업일 기준 3일 안에 처리됩니다.
+                    """))
+            .andExpect(status().isAccepted())
+            .andExpect(jsonPath("$.status").value("PENDING"))
+            .andExpect(jsonPath("$.trace_id").value("94000000-0000-4000-8000-000000000002"))
+            .andReturn();
+
+        JsonNode created = objectMapper.readTree(createResult.getResponse().getContentAsString());
+        String jobId = created.get("job_id").asText();
+        ingestedVersionIds.add(UUID.fromString(created.get("document_version_id").asText()));
+        kbIngestionService.processPendingJobs(20);
+
+        mockMvc.perform(get("/v1/admin/kb/ingestion-jobs/{job_id}", jobId)
+                .header("Authorization", "Bearer " + accessToken)
+                .header("X-Trace-Id", "94000000-0000-4000-8000-000000000003")
+                .header("X-Tenant-Key", "demo-tenant"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.job_id").value(jobId))
+            .andExpect(jsonPath("$.status").value("DONE"))
+            .andExpect(jsonPath("$.chunk_count").value(greaterThan(0)));
+    }
+
+    @Test
+    void shouldRejectEmptyUploadAndUnknownJob() throws Exception {
+        String accessToken = login("admin1", "admin1-pass", "95000000-0000-4000-8000-000000000001").get("access_token").asText();
+
+        mockMvc.perform(post("/v1/admin/kb/ingestion-jobs")
+                .header("Authorization", "Bearer " + accessToken)
+                .header("X-Trace-Id", "95000000-0000-4000-8000-000000000002")
+                .header("X-Tenant-Key", "demo-tenant")
+                .param("title", "빈 문서")
+                .contentType(MediaType.TEXT_PLAIN)
+                .content(""))
+            .andExpect(status().isUnprocessableEntity())
+            .andExpect(jsonPath("$.error_code").value("API-003-422"));
+
+        mockMvc.perform(get("/v1/admin/kb/ingestion-jobs/{job_id}", "95000000-0000-4000-8000-00000000dead")
+                .header("Authorization", "Bearer " + accessToken)
+                .header("X-Trace-Id", "95000000-0000-4000-8000-000000000003")
+                .header("X-Tenant-Key", "demo-tenant"))
+            .andExpect(status().isNotFound())
+            .andExpect(jsonPath("$.error_code").value("API-004-404"));
+    }
+
+    @Test
+    void shouldForbidUploadForNonAdminRole() throws Exception {
+        String accessToken = login("ops1", "ops1-pass", "96000000-0000-4000-8000-000000000001").get("access_token").asText();
+
+        mockMvc.perform(post("/v1/admin/kb/ingestion-jobs")
+                .header("Authorization", "Bearer " + accessToken)
+                .header("X-Trace-Id", "96000000-0000-4000-8000-000000000002")
+                .header("X-Tenant-Key", "demo-tenant")
+                .param("title", "권한 없음")
+                .contentType(MediaType.TEXT_PLAIN)
+                .content("본문"))
+            .andExpect(status().isForbidden());
+    }
+
+    private JsonNode login(String loginId, String password, String traceId) throws Exception {
+        MvcResult result = mockMvc.perform(post("/v1/auth/login")
+                .header("X-Trace-Id", traceId)
+                .header("X-Tenant-Key", "demo-tenant")
+                .header("Idempotency-Key", "idem-" + loginId + "-" + traceId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {
+                      "login_id":"%s",
+                      "password":"%s",
+                      "client_type":"web",
+                      "client_nonce":"nonce-login"
+                    }
+                    """.formatted(loginId, password)))
+            .andExpect(status().isCreated())
+            .andReturn();
+        JsonNode node = objectMapper.readTree(result.getResponse().getContentAsString());
+        assertThat(node.get("access_token").asText()).isNotBlank();
+        return node;
+    }
+}
@@ -0,0 +1,31 @@
+package com.aichatbot.llm.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class AnswerTextStreamExtractorTest {
+
+    @Test
+    void shouldEmitOnlyAnswerTextAcrossFragmentBoundaries() {
+        AnswerTextStreamExtractor extractor = new AnswerTextStreamExtractor();
+        String contract = "{\"schema_version\":\"v1\",\"response_type\":\"answer\",\"answer\":{\"text\":\"Refund \\\"3-5\\\" days\\n\\uD658\\uBD88\"},"
+            + "\"citations\":[{\"citation_id\":\"c1\",\"excerpt_masked\":\"text\"}],\"evidence\":{\"score\":0.9,\"threshold\":0.5}}";
+
+        StringBuilder streamed = new StringBuilder();
+        for (int i = 0; i < contract.length(); i += 3) {
+            streamed.append(extractor.feed(contract.substring(i, Math.min(contract.length(), i + 3))));
+        }
+
+        assertThat(streamed.toString()).isEqualTo("Refund \"3-5\" days\n환불");
+    }
+
+    @Test
+    void shouldIgnoreTextKeysOutsideAnswerObject() {
+        AnswerTextStreamExtractor extractor = new AnswerTextStreamExtractor();
+
+        String delta = extractor.feed("{\"text\":\"top\",\"evidence\":{\"text\":\"nested\"},\"answer\":{\"note\":\"x\",\"text\":\"ok\"}}");
+
+        assertThat(delta).isEqualTo("ok");
+    }
+}
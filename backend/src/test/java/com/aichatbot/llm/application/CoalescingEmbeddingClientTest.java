@@ -0,0 +1,103 @@
+package com.aichatbot.llm.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.aichatbot.global.config.AppProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class CoalescingEmbeddingClientTest {
+
+    private final AppProperties appProperties = new AppProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final OllamaEmbeddingClient remoteClient = mock(OllamaEmbeddingClient.class);
+    private final CoalescingEmbeddingClient client = new CoalescingEmbeddingClient(
+        new HashingEmbeddingClient(appProperties),
+        remoteClient,
+        new EmbeddingMetrics(meterRegistry),
+        appProperties
+    );
+
+    @AfterEach
+    void tearDown() {
+        client.shutdown();
+    }
+
+    @Test
+    void shouldServeWhitespaceVariantsFromCache() {
+        float[] first = client.embed("refund   policy");
+        float[] second = client.embed(" refund policy\n");
+
+        assertThat(second).containsExactly(first);
+        assertThat(client.cacheSize()).isEqualTo(1);
+        assertThat(meterRegistry.get("embedding_cache_hit_total").counter().count()).isEqualTo(1.0d);
+        assertThat(meterRegistry.get("embedding_batch_size").summary().count()).isEqualTo(1L);
+    }
+
+    @Test
+    void shouldCoalesceConcurrentRemoteRequestsIntoBatches() {
+        appProperties.getLlm().getEmbedding().setProvider("ollama");
+        appProperties.getLlm().getEmbedding().setMaxWaitMs(200L);
+        appProperties.getLlm().getEmbedding().setMaxBatchSize(8);
+        when(remoteClient.remote()).thenReturn(true);
+        when(remoteClient.modelName()).thenReturn("remote-model");
+        when(remoteClient.embedAll(anyList())).thenAnswer(invocation -> {
+            List<String> texts = invocation.getArgument(0);
+            List<float[]> vectors = new ArrayList<>();
+            for (String text : texts) {
+                vectors.add(new float[] {text.length(), 1.0f});
+            }
+            return vectors;
+        });
+
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        try {
+            List<CompletableFuture<float[]>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                String text = "q".repeat(i + 1);
+                futures.add(CompletableFuture.supplyAsync(() -> client.embed(text), callers));
+            }
+            for (int i = 0; i < 8; i++) {
+                assertThat(futures.get(i).join()).containsExactly(i + 1.0f, 1.0f);
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+
+        verify(remoteClient, atMost(4)).embedAll(anyList());
+        assertThat(client.embed("qqq")).containsExactly(3.0f, 1.0f);
+        verify(remoteClient, atMost(4)).embedAll(anyList());
+    }
+
+    @Test
+    void shouldSplitBulkEmbeddingIntoMaxBatchSizeCalls() {
+        appProperties.getLlm().getEmbedding().setProvider("ollama");
+        appProperties.getLlm().getEmbedding().setMaxBatchSize(2);
+        when(remoteClient.remote()).thenReturn(true);
+        when(remoteClient.modelName()).thenReturn("remote-model");
+        when(remoteClient.embedAll(anyList())).thenAnswer(invocation -> {
+            List<String> texts = invocation.getArgument(0);
+            List<float[]> vectors = new ArrayList<>();
+            texts.forEach(text -> vectors.add(new float[] {1.0f}));
+            return vectors;
+        });
+
+        List<float[]> vectors = client.embedAll(List.of("a", "b", "c", "d", "e"));
+
+        assertThat(vectors).hasSize(5);
+        verify(remoteClient, times(3)).embedAll(anyList());
+        assertThat(meterRegistry.get("embedding_batch_size").summary().totalAmount()).isEqualTo(5.0d);
+    }
+}
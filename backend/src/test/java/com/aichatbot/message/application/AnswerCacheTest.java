@@ -0,0 +1,79 @@
+package com.aichatbot.message.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.aichatbot.answer.application.AnswerContract;
+import com.aichatbot.global.config.AppProperties;
+import com.aichatbot.rag.application.EvidenceChunk;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class AnswerCacheTest {
+
+    private static final UUID TENANT_ID = UUID.fromString("30000000-0000-0000-0000-000000000001");
+    private static final UUID FIRST = UUID.fromString("10000000-0000-0000-0000-000000000001");
+    private static final UUID SECOND = UUID.fromString("10000000-0000-0000-0000-000000000002");
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AppProperties appProperties = new AppProperties();
+    private final AnswerCache cache = new AnswerCache(new MvpObservabilityMetrics(meterRegistry), appProperties);
+
+    @Test
+    void shouldHitForEquivalentQuestionAndSameEvidenceSet() {
+        AnswerContract contract = contract();
+        cache.put(cache.keyFor(TENANT_ID, "How long does a refund take?", evidence(FIRST, SECOND), "2:stamp"), contract);
+
+        AnswerContract cached = cache.get(cache.keyFor(TENANT_ID, "  how LONG does a refund take ", evidence(SECOND, FIRST), "2:stamp"));
+
+        assertThat(cached).isSameAs(contract);
+        assertThat(meterRegistry.get("answer_cache_hit_total").counter().count()).isEqualTo(1.0d);
+    }
+
+    @Test
+    void shouldMissForDifferentEvidenceOrTenant() {
+        cache.put(cache.keyFor(TENANT_ID, "refund period", evidence(FIRST), "2:stamp"), contract());
+
+        assertThat(cache.get(cache.keyFor(TENANT_ID, "refund period", evidence(FIRST, SECOND), "2:stamp"))).isNull();
+        assertThat(cache.get(cache.keyFor(UUID.randomUUID(), "refund period", evidence(FIRST), "2:stamp"))).isNull();
+        assertThat(meterRegistry.get("answer_cache_miss_total").counter().count()).isEqualTo(2.0d);
+    }
+
+    @Test
+    void shouldDropTenantAnswersWhenKbStampChanges() {
+        cache.put(cache.keyFor(TENANT_ID, "refund period", evidence(FIRST), "2:stamp"), contract());
+        cache.put(cache.keyFor(TENANT_ID, "delivery delay", evidence(SECOND), "2:stamp"), contract());
+
+        assertThat(cache.get(cache.keyFor(TENANT_ID, "refund period", evidence(FIRST), "3:stamp"))).isNull();
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void shouldBypassWhenDisabled() {
+        appProperties.getAnswer().setCacheEnabled(false);
+        AnswerCache.Key key = cache.keyFor(TENANT_ID, "refund period", evidence(FIRST), "2:stamp");
+
+        cache.put(key, contract());
+
+        assertThat(cache.get(key)).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    private List<EvidenceChunk> evidence(UUID... chunkIds) {
+        return java.util.Arrays.stream(chunkIds)
+            .map(chunkId -> new EvidenceChunk(chunkId, null, "policy", 1, 1, 0.9d, "excerpt", "text"))
+            .toList();
+    }
+
+    private AnswerContract contract() {
+        return new AnswerContract(
+            "v1",
+            "answer",
+            new AnswerContract.Answer("Refunds are processed in 3-5 business days."),
+            List.of(new AnswerContract.Citation("c1", UUID.randomUUID().toString(), FIRST.toString(), 1, "excerpt")),
+            new AnswerContract.Evidence(0.9d, 0.7d)
+        );
+    }
+}
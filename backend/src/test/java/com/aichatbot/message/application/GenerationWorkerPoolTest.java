@@ -0,0 +1,81 @@
+package com.aichatbot.message.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.aichatbot.global.config.AppProperties;
+import com.aichatbot.global.observability.TraceContext;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class GenerationWorkerPoolTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AppProperties appProperties = new AppProperties();
+    private GenerationWorkerPool pool;
+
+    @AfterEach
+    void tearDown() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void shouldRunGenerationWithTraceIdAndRecordTimings() throws Exception {
+        pool = new GenerationWorkerPool(new GenerationWorkerMetrics(meterRegistry), appProperties);
+        AtomicReference<String> seenTraceId = new AtomicReference<>();
+        CountDownLatch done = new CountDownLatch(1);
+
+        boolean submitted = pool.submit("trace-1", () -> {
+            seenTraceId.set(TraceContext.getTraceId());
+            done.countDown();
+        });
+
+        assertThat(submitted).isTrue();
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(seenTraceId.get()).isEqualTo("trace-1");
+        awaitRunRecorded();
+        assertThat(meterRegistry.get("generation_queue_wait_seconds").timer().count()).isEqualTo(1L);
+    }
+
+    @Test
+    void shouldRejectWhenQueueIsFull() throws Exception {
+        appProperties.getGeneration().setWorkerThreads(1);
+        appProperties.getGeneration().setQueueCapacity(1);
+        pool = new GenerationWorkerPool(new GenerationWorkerMetrics(meterRegistry), appProperties);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+
+        assertThat(pool.submit("trace-1", () -> {
+            started.countDown();
+            awaitQuietly(release);
+        })).isTrue();
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(pool.submit("trace-2", () -> { })).isTrue();
+
+        assertThat(meterRegistry.get("generation_queue_depth").gauge().value()).isEqualTo(1.0d);
+        assertThat(pool.submit("trace-3", () -> { })).isFalse();
+        assertThat(meterRegistry.get("generation_rejected_total").counter().count()).isEqualTo(1.0d);
+        release.countDown();
+    }
+
+    private void awaitRunRecorded() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000L;
+        while (meterRegistry.get("generation_run_seconds").timer().count() == 0L && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10L);
+        }
+        assertThat(meterRegistry.get("generation_run_seconds").timer().count()).isEqualTo(1L);
+    }
+
+    private void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.aichatbot.message.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.aichatbot.global.config.AppProperties;
+import com.aichatbot.message.infrastructure.RedisStreamEventRelay;
+import com.aichatbot.message.infrastructure.StreamEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class LiveStreamHubTest {
+
+    private static final UUID TENANT_ID = UUID.fromString("30000000-0000-0000-0000-000000000001");
+    private static final UUID MESSAGE_ID = UUID.fromString("40000000-0000-0000-0000-000000000001");
+
+    private final StreamEventRepository streamEventRepository = mock(StreamEventRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AppProperties appProperties = new AppProperties();
+    private final LiveStreamHub hub = new LiveStreamHub(
+        mock(RedisStreamEventRelay.class),
+        streamEventRepository,
+        appProperties,
+        meterRegistry
+    );
+
+    @AfterEach
+    void tearDown() {
+        hub.shutdown();
+    }
+
+    @Test
+    void shouldEvictSlowSubscriberWithoutStallingProducerOrOtherSubscribers() throws Exception {
+        appProperties.getStream().setSubscriberQueueCapacity(2);
+        hub.open(TENANT_ID, MESSAGE_ID);
+        CountDownLatch slowEntered = new CountDownLatch(1);
+        CountDownLatch releaseSlow = new CountDownLatch(1);
+        CountDownLatch slowClosed = new CountDownLatch(1);
+        RecordingSubscriber fast = new RecordingSubscriber();
+        hub.subscribe(MESSAGE_ID, 0, new LiveStreamHub.Subscriber() {
+            @Override
+            public void onEvent(StreamEventView event) throws InterruptedException {
+                slowEntered.countDown();
+                releaseSlow.await(5, TimeUnit.SECONDS);
+            }
+
+            @Override
+            public void onClose() {
+                slowClosed.countDown();
+            }
+        });
+        hub.subscribe(MESSAGE_ID, 0, fast);
+
+        hub.publish(MESSAGE_ID, event(1, "token"));
+        assertThat(slowEntered.await(5, TimeUnit.SECONDS)).isTrue();
+        for (int seq = 2; seq <= 6; seq++) {
+            hub.publish(MESSAGE_ID, event(seq, "token"));
+            awaitDelivered(fast, seq);
+        }
+
+        assertThat(slowClosed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(meterRegistry.get("live_stream_subscribers_evicted_total").counter().count()).isEqualTo(1.0d);
+        releaseSlow.countDown();
+        hub.publish(MESSAGE_ID, event(7, "done"));
+        hub.close(MESSAGE_ID);
+
+        assertThat(fast.closed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(fast.delivered).containsExactly(1, 2, 3, 4, 5, 6, 7);
+    }
+
+    @Test
+    void shouldTrimOnlyPersistedBacklogAndReplayTrimmedPrefixFromStore() throws Exception {
+        appProperties.getStream().setLiveBacklogMax(2);
+        hub.open(TENANT_ID, MESSAGE_ID);
+        for (int seq = 1; seq <= 4; seq++) {
+            hub.publish(MESSAGE_ID, event(seq, "token"));
+        }
+        hub.markPersisted(MESSAGE_ID, 3);
+        when(streamEventRepository.findByMessageFromSeq(TENANT_ID, MESSAGE_ID, 0))
+            .thenReturn(List.of(event(1, "token"), event(2, "token"), event(3, "token")));
+        RecordingSubscriber late = new RecordingSubscriber();
+
+        hub.subscribe(MESSAGE_ID, 0, late);
+        hub.publish(MESSAGE_ID, event(5, "done"));
+        hub.close(MESSAGE_ID);
+
+        assertThat(late.closed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(late.delivered).containsExactly(1, 2, 3, 4, 5);
+    }
+
+    private void awaitDelivered(RecordingSubscriber subscriber, int seq) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!subscriber.delivered.contains(seq) && System.nanoTime() < deadline) {
+            Thread.sleep(5L);
+        }
+    }
+
+    private StreamEventView event(int seq, String type) {
+        return new StreamEventView(seq, type, "{\"trace_id\":\"t\"}");
+    }
+
+    private static final class RecordingSubscriber implements LiveStreamHub.Subscriber {
+
+        private final List<Integer> delivered = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch closed = new CountDownLatch(1);
+
+        @Override
+        public void onEvent(StreamEventView event) {
+            delivered.add(event.eventSeq());
+        }
+
+        @Override
+        public void onClose() {
+            closed.countDown();
+        }
+    }
+}
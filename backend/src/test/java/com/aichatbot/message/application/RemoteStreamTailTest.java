@@ -0,0 +1,114 @@
+package com.aichatbot.message.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.aichatbot.message.infrastructure.StreamEventRepository;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class RemoteStreamTailTest {
+
+    private static final UUID TENANT_ID = UUID.fromString("30000000-0000-0000-0000-000000000001");
+    private static final UUID MESSAGE_ID = UUID.fromString("40000000-0000-0000-0000-000000000001");
+
+    private final StreamEventRepository streamEventRepository = mock(StreamEventRepository.class);
+    private final List<String> delivered = new ArrayList<>();
+    private final List<String> closed = new ArrayList<>();
+    private final ArrayDeque<Runnable> deliveryTasks = new ArrayDeque<>();
+    private final RemoteStreamTail tail = new RemoteStreamTail(
+        TENANT_ID,
+        MESSAGE_ID,
+        streamEventRepository,
+        new LiveStreamHub.Subscriber() {
+            @Override
+            public void onEvent(StreamEventView event) {
+                delivered.add(event.eventSeq() + ":" + event.eventType());
+            }
+
+            @Override
+            public void onClose() {
+                closed.add("closed");
+            }
+        },
+        deliveryTasks::add,
+        16
+    );
+
+    @Test
+    void shouldBufferUntilReplayEndsAndSkipReplayedEvents() {
+        List<String> unsubscribed = new ArrayList<>();
+        tail.bind(() -> unsubscribed.add("unsubscribed"));
+
+        tail.onRemoteEvent(event(3, "token"));
+        tail.onRemoteEvent(event(4, "token"));
+        assertThat(delivered).isEmpty();
+
+        tail.start(3);
+        tail.onRemoteEvent(event(5, "done"));
+        runDeliveryTasks();
+
+        assertThat(delivered).containsExactly("4:token", "5:done");
+        assertThat(closed).containsExactly("closed");
+        assertThat(unsubscribed).containsExactly("unsubscribed");
+        verify(streamEventRepository, never()).findByMessageFromSeq(TENANT_ID, MESSAGE_ID, 3);
+    }
+
+    @Test
+    void shouldFillSeqGapFromStoreOffTheListenerThread() {
+        when(streamEventRepository.findByMessageFromSeq(TENANT_ID, MESSAGE_ID, 2)).thenReturn(List.of(event(3, "token")));
+        when(streamEventRepository.findByMessageFromSeq(TENANT_ID, MESSAGE_ID, 3)).thenReturn(List.of(event(4, "token")));
+        tail.start(2);
+
+        tail.onRemoteEvent(event(5, "token"));
+        verify(streamEventRepository, never()).findByMessageFromSeq(TENANT_ID, MESSAGE_ID, 2);
+        runDeliveryTasks();
+        assertThat(delivered).containsExactly("3:token", "4:token", "5:token");
+
+        tail.onRemoteEvent(event(6, "done"));
+        runDeliveryTasks();
+
+        assertThat(delivered).containsExactly("3:token", "4:token", "5:token", "6:done");
+        assertThat(closed).containsExactly("closed");
+    }
+
+    @Test
+    void shouldBackfillPersistentGapOnceAndAgainWhenDoneArrives() {
+        when(streamEventRepository.findByMessageFromSeq(TENANT_ID, MESSAGE_ID, 2))
+            .thenReturn(List.of())
+            .thenReturn(List.of(event(3, "token"), event(4, "token")));
+        tail.start(2);
+
+        for (int seq = 4; seq <= 8; seq++) {
+            tail.onRemoteEvent(event(seq, "token"));
+            runDeliveryTasks();
+        }
+        verify(streamEventRepository, times(1)).findByMessageFromSeq(TENANT_ID, MESSAGE_ID, 2);
+        assertThat(delivered).isEmpty();
+
+        tail.onRemoteEvent(event(9, "done"));
+        runDeliveryTasks();
+
+        verify(streamEventRepository, times(2)).findByMessageFromSeq(TENANT_ID, MESSAGE_ID, 2);
+        assertThat(delivered).containsExactly("3:token", "4:token", "5:token", "6:token", "7:token", "8:token", "9:done");
+        assertThat(closed).containsExactly("closed");
+    }
+
+    private void runDeliveryTasks() {
+        Runnable task;
+        while ((task = deliveryTasks.poll()) != null) {
+            task.run();
+        }
+    }
+
+    private StreamEventView event(int seq, String type) {
+        return new StreamEventView(seq, type, "{\"trace_id\":\"t\"}");
+    }
+}
@@ -0,0 +1,98 @@
+package com.aichatbot.message.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.aichatbot.global.config.AppProperties;
+import com.aichatbot.global.error.QuotaExceededException;
+import com.aichatbot.message.infrastructure.RedisSseLeaseStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+class SseConcurrencyGuardTest {
+
+    private static final String TENANT_ID = "00000000-0000-0000-0000-000000000001";
+    private static final String USER_KEY = TENANT_ID + ":user-1";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AppProperties appProperties = new AppProperties();
+    private final RedisSseLeaseStore redisSseLeaseStore = mock(RedisSseLeaseStore.class);
+    private final SseConcurrencyGuard guard = new SseConcurrencyGuard(appProperties, redisSseLeaseStore, meterRegistry);
+
+    @Test
+    void shouldEnforceLimitThroughRedisLeasesAndReleaseTheGrantedLease() {
+        appProperties.getBudget().setSseConcurrencyMaxPerUser(1);
+        when(redisSseLeaseStore.enabled()).thenReturn(true);
+        when(redisSseLeaseStore.tryAcquire(eq(USER_KEY), anyString(), eq(1))).thenReturn(1L, -1L);
+
+        SseConcurrencyGuard.Lease lease = guard.acquire(USER_KEY);
+
+        assertThatThrownBy(() -> guard.acquire(USER_KEY)).isInstanceOf(QuotaExceededException.class);
+        assertThat(activeStreams()).isEqualTo(1.0d);
+
+        lease.release();
+        lease.release();
+
+        verify(redisSseLeaseStore, times(1)).release(eq(USER_KEY), anyString());
+        assertThat(activeStreams()).isZero();
+    }
+
+    @Test
+    void shouldRefreshAllLeasesOfAUserInOneCallAndCountLostLeases() {
+        appProperties.getBudget().setSseConcurrencyMaxPerUser(3);
+        when(redisSseLeaseStore.enabled()).thenReturn(true);
+        when(redisSseLeaseStore.tryAcquire(eq(USER_KEY), anyString(), eq(3))).thenReturn(1L, 2L);
+        when(redisSseLeaseStore.refresh(eq(USER_KEY), anyCollection())).thenReturn(1L, 1L);
+        SseConcurrencyGuard.Lease first = guard.acquire(USER_KEY);
+        guard.acquire(USER_KEY);
+
+        guard.refreshLeases();
+        first.release();
+        guard.refreshLeases();
+
+        verify(redisSseLeaseStore).refresh(eq(USER_KEY), argThat(leaseIds -> leaseIds.size() == 2));
+        verify(redisSseLeaseStore).refresh(eq(USER_KEY), argThat(leaseIds -> leaseIds.size() == 1));
+        assertThat(meterRegistry.get("sse_lease_refresh_failed_total").counter().count()).isEqualTo(1.0d);
+    }
+
+    @Test
+    void shouldRejectLeaseTimingThatCannotSurviveAMissedRefresh() {
+        assertThatThrownBy(() -> SseConcurrencyGuard.validateLeaseTiming(45_000L, 0L)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> SseConcurrencyGuard.validateLeaseTiming(45_000L, 30_000L)).isInstanceOf(IllegalStateException.class);
+        SseConcurrencyGuard.validateLeaseTiming(45_000L, 15_000L);
+
+        AppProperties redisGuard = new AppProperties();
+        redisGuard.getStream().setSseGuard("redis");
+        redisGuard.getStream().setSseLeaseRefreshIntervalMs(0L);
+        assertThatThrownBy(() -> new SseConcurrencyGuard(redisGuard, redisSseLeaseStore, meterRegistry))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void shouldFallBackToLocalCountWhenRedisIsUnavailable() {
+        appProperties.getBudget().setSseConcurrencyMaxPerUser(1);
+        when(redisSseLeaseStore.enabled()).thenReturn(true);
+        when(redisSseLeaseStore.tryAcquire(eq(USER_KEY), anyString(), eq(1))).thenThrow(new IllegalStateException("redis_down"));
+
+        SseConcurrencyGuard.Lease lease = guard.acquire(USER_KEY);
+
+        assertThatThrownBy(() -> guard.acquire(USER_KEY)).isInstanceOf(QuotaExceededException.class);
+        lease.release();
+        guard.acquire(USER_KEY).release();
+
+        assertThat(meterRegistry.get("sse_guard_redis_fallback_total").counter().count()).isEqualTo(3.0d);
+        verify(redisSseLeaseStore, times(0)).release(anyString(), anyString());
+    }
+
+    private double activeStreams() {
+        return meterRegistry.get("sse_active_streams").gauge().value();
+    }
+}
@@ -0,0 +1,57 @@
+package com.aichatbot.message.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.aichatbot.global.config.AppProperties;
+import com.aichatbot.global.error.ApiException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+class SseConnectionRegistryTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AppProperties appProperties = new AppProperties();
+    private SseConnectionRegistry registry;
+
+    @AfterEach
+    void tearDown() {
+        if (registry != null) {
+            registry.shutdown();
+        }
+    }
+
+    @Test
+    void shouldRejectStreamsBeyondNodeLimitUntilOneCloses() {
+        appProperties.getStream().setMaxConcurrentStreams(1);
+        registry = new SseConnectionRegistry(appProperties, meterRegistry);
+
+        SseConnectionRegistry.Connection first = registry.open(new SseEmitter());
+
+        assertThatThrownBy(() -> registry.open(new SseEmitter()))
+            .isInstanceOf(ApiException.class)
+            .satisfies(exception -> assertThat(((ApiException) exception).errorCode()).isEqualTo("SYS-003-503"));
+        assertThat(meterRegistry.get("sse_connections_active").gauge().value()).isEqualTo(1.0d);
+        assertThat(meterRegistry.get("sse_connections_rejected_total").counter().count()).isEqualTo(1.0d);
+
+        first.close();
+        first.close();
+
+        assertThat(meterRegistry.get("sse_connections_active").gauge().value()).isZero();
+        registry.open(new SseEmitter());
+    }
+
+    @Test
+    void shouldRunScheduledTaskOnSharedTimer() throws Exception {
+        registry = new SseConnectionRegistry(appProperties, meterRegistry);
+        CountDownLatch ran = new CountDownLatch(1);
+
+        registry.schedule(10L, ran::countDown);
+
+        assertThat(ran.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+}
@@ -0,0 +1,118 @@
+package com.aichatbot.message.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import com.aichatbot.global.config.AppProperties;
+import com.aichatbot.global.observability.TraceContext;
+import com.aichatbot.message.infrastructure.RedisStreamEventRelay;
+import com.aichatbot.message.infrastructure.StreamEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class StreamEventPublisherTest {
+
+    private static final UUID TENANT_ID = UUID.fromString("30000000-0000-0000-0000-000000000001");
+    private static final UUID MESSAGE_ID = UUID.fromString("40000000-0000-0000-0000-000000000001");
+    private static final String TRACE_ID = "50000000-0000-0000-0000-000000000001";
+
+    private final StreamEventRepository streamEventRepository = mock(StreamEventRepository.class);
+    private final AppProperties appProperties = new AppProperties();
+    private final LiveStreamHub liveStreamHub = new LiveStreamHub(
+        mock(RedisStreamEventRelay.class),
+        streamEventRepository,
+        appProperties,
+        new SimpleMeterRegistry()
+    );
+    private final StreamEventWriteBehind writeBehind = new StreamEventWriteBehind(
+        streamEventRepository,
+        new StreamEventWriteMetrics(new SimpleMeterRegistry()),
+        appProperties
+    );
+    private final StreamEventPublisher publisher = new StreamEventPublisher(writeBehind, liveStreamHub);
+    private final List<Integer> persistedSeqs = Collections.synchronizedList(new ArrayList<>());
+    private final List<Integer> persistedBatches = Collections.synchronizedList(new ArrayList<>());
+
+    @AfterEach
+    void tearDown() {
+        writeBehind.shutdown();
+        liveStreamHub.shutdown();
+        TraceContext.clear();
+    }
+
+    @Test
+    void shouldPushTokensLiveAndPersistGapFreePrefixBeforeDone() throws Exception {
+        appProperties.getLlm().setStreamPersistBatchSize(2);
+        doAnswer(invocation -> {
+            assertThat(TraceContext.getTraceId()).isEqualTo(TRACE_ID);
+            List<StreamEventView> batch = invocation.getArgument(3);
+            batch.forEach(event -> persistedSeqs.add(event.eventSeq()));
+            persistedBatches.add(batch.size());
+            return null;
+        }).when(streamEventRepository).saveAll(eq(TENANT_ID), eq(MESSAGE_ID), any(), anyList());
+        TraceContext.setTraceId(TRACE_ID);
+        StreamEventPublisher.MessageEventStream events = publisher.open(TENANT_ID, answerMessage(), TRACE_ID);
+        List<String> delivered = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch closed = new CountDownLatch(1);
+
+        events.append("tool", "{\"trace_id\":\"t\"}");
+        liveStreamHub.subscribe(MESSAGE_ID, 0, new LiveStreamHub.Subscriber() {
+            @Override
+            public void onEvent(StreamEventView event) {
+                delivered.add(event.eventSeq() + ":" + event.eventType());
+            }
+
+            @Override
+            public void onClose() {
+                closed.countDown();
+            }
+        });
+        for (int i = 0; i < 5; i++) {
+            events.appendToken("{\"text\":\"t" + i + "\",\"trace_id\":\"t\"}");
+        }
+        events.finish(List.of(
+            new StreamEventPublisher.Draft("citation", "{\"trace_id\":\"t\"}"),
+            new StreamEventPublisher.Draft("done", "{\"trace_id\":\"t\"}")
+        ));
+
+        assertThat(closed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(delivered).containsExactly("1:tool", "2:token", "3:token", "4:token", "5:token", "6:token", "7:citation", "8:done");
+        assertThat(persistedSeqs).containsExactlyInAnyOrder(1, 2, 3, 4, 5, 6, 7, 8);
+        assertThat(persistedSeqs.get(persistedSeqs.size() - 1)).isEqualTo(8);
+        assertThat(persistedBatches.size()).isLessThanOrEqualTo(4);
+        assertThat(liveStreamHub.isLive(MESSAGE_ID)).isFalse();
+    }
+
+    @Test
+    void shouldReportNotLiveAfterAbort() {
+        StreamEventPublisher.MessageEventStream events = publisher.open(TENANT_ID, answerMessage(), TRACE_ID);
+
+        events.abort();
+
+        assertThat(liveStreamHub.subscribe(MESSAGE_ID, 0, new LiveStreamHub.Subscriber() {
+            @Override
+            public void onEvent(StreamEventView event) {
+            }
+
+            @Override
+            public void onClose() {
+            }
+        })).isFalse();
+    }
+
+    private MessageView answerMessage() {
+        return new MessageView(MESSAGE_ID, TENANT_ID, UUID.randomUUID(), "ASSISTANT", "", TRACE_ID, Instant.now());
+    }
+}
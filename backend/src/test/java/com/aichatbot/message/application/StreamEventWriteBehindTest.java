@@ -0,0 +1,109 @@
+package com.aichatbot.message.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import com.aichatbot.global.config.AppProperties;
+import com.aichatbot.message.infrastructure.StreamEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class StreamEventWriteBehindTest {
+
+    private static final UUID TENANT_ID = UUID.fromString("30000000-0000-0000-0000-000000000002");
+    private static final UUID MESSAGE_ID = UUID.fromString("40000000-0000-0000-0000-000000000002");
+
+    private final StreamEventRepository streamEventRepository = mock(StreamEventRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AppProperties appProperties = new AppProperties();
+    private final List<Integer> persistedSeqs = Collections.synchronizedList(new ArrayList<>());
+    private StreamEventWriteBehind writeBehind;
+
+    @AfterEach
+    void tearDown() {
+        if (writeBehind != null) {
+            writeBehind.shutdown();
+        }
+    }
+
+    @Test
+    void shouldStallProducerWhenBufferIsFullAndKeepSeqOrder() throws Exception {
+        appProperties.getLlm().setStreamPersistBatchSize(2);
+        appProperties.getStream().setWriteBufferCapacity(2);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            List<StreamEventView> batch = invocation.getArgument(3);
+            batch.forEach(event -> persistedSeqs.add(event.eventSeq()));
+            return null;
+        }).when(streamEventRepository).saveAll(eq(TENANT_ID), eq(MESSAGE_ID), any(), anyList());
+        writeBehind = new StreamEventWriteBehind(streamEventRepository, new StreamEventWriteMetrics(meterRegistry), appProperties);
+        StreamEventWriteBehind.MessageBuffer buffer = writeBehind.open(TENANT_ID, MESSAGE_ID, Instant.now(), "trace-1");
+        AtomicInteger offered = new AtomicInteger();
+
+        Thread producer = new Thread(() -> {
+            for (int seq = 1; seq <= 5; seq++) {
+                buffer.offer(token(seq));
+                offered.incrementAndGet();
+            }
+        });
+        producer.start();
+        Thread.sleep(200L);
+
+        assertThat(offered.get()).isEqualTo(4);
+        assertThat(meterRegistry.get("stream_event_write_queue_depth").gauge().value()).isEqualTo(4.0d);
+        release.countDown();
+        producer.join(5000L);
+        buffer.flushAndAwait(List.of(new StreamEventView(6, "done", "{}")));
+
+        assertThat(offered.get()).isEqualTo(5);
+        assertThat(persistedSeqs).containsExactly(1, 2, 3, 4, 5, 6);
+        assertThat(meterRegistry.get("stream_event_write_backpressure_total").counter().count()).isGreaterThanOrEqualTo(1.0d);
+        assertThat(meterRegistry.get("stream_event_write_queue_depth").gauge().value()).isZero();
+    }
+
+    @Test
+    void shouldRetryFailedBatchAheadOfNewerEventsOnDurabilityFlush() throws Exception {
+        appProperties.getLlm().setStreamPersistBatchSize(2);
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch failed = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            if (calls.incrementAndGet() == 1) {
+                failed.countDown();
+                throw new IllegalStateException("store_unavailable");
+            }
+            List<StreamEventView> batch = invocation.getArgument(3);
+            batch.forEach(event -> persistedSeqs.add(event.eventSeq()));
+            return null;
+        }).when(streamEventRepository).saveAll(eq(TENANT_ID), eq(MESSAGE_ID), any(), anyList());
+        writeBehind = new StreamEventWriteBehind(streamEventRepository, new StreamEventWriteMetrics(meterRegistry), appProperties);
+        StreamEventWriteBehind.MessageBuffer buffer = writeBehind.open(TENANT_ID, MESSAGE_ID, Instant.now(), "trace-1");
+
+        buffer.offer(token(1));
+        buffer.offer(token(2));
+        assertThat(failed.await(5, TimeUnit.SECONDS)).isTrue();
+        buffer.offer(token(3));
+        buffer.flushAndAwait(List.of(new StreamEventView(4, "done", "{}")));
+
+        assertThat(persistedSeqs).containsExactly(1, 2, 3, 4);
+        assertThat(meterRegistry.get("stream_event_flush_failed_total").counter().count()).isEqualTo(1.0d);
+        assertThat(meterRegistry.get("stream_event_flush_seconds").timer().count()).isGreaterThanOrEqualTo(1L);
+    }
+
+    private StreamEventView token(int seq) {
+        return new StreamEventView(seq, "token", "{\"text\":\"t" + seq + "\"}");
+    }
+}
@@ -0,0 +1,89 @@
+package com.aichatbot.message.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.aichatbot.global.config.AppProperties;
+import com.aichatbot.message.application.StreamEventView;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+class RedisStreamEventRelayTest {
+
+    private static final UUID MESSAGE_ID = UUID.fromString("40000000-0000-0000-0000-000000000001");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+    private final AppProperties appProperties = new AppProperties();
+    private final RedisStreamEventRelay relay = new RedisStreamEventRelay(
+        provider(stringRedisTemplate),
+        provider(mock(RedisConnectionFactory.class)),
+        objectMapper,
+        appProperties
+    );
+
+    @AfterEach
+    void tearDown() {
+        relay.shutdown();
+    }
+
+    @Test
+    void shouldPublishOffTheCallerThreadInPerMessageBatches() throws Exception {
+        appProperties.getStream().setRelay("redis");
+        String channel = appProperties.getStream().getRedisChannelPrefix() + MESSAGE_ID;
+        CountDownLatch redisBlocked = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            redisBlocked.await(5, TimeUnit.SECONDS);
+            return 1L;
+        }).when(stringRedisTemplate).convertAndSend(eq(channel), anyString());
+
+        for (int seq = 1; seq <= 3; seq++) {
+            relay.publish(MESSAGE_ID, new StreamEventView(seq, "token", "{\"text\":\"t" + seq + "\"}"));
+        }
+        redisBlocked.countDown();
+
+        ArgumentCaptor<String> bodies = ArgumentCaptor.forClass(String.class);
+        verify(stringRedisTemplate, timeout(5000).atLeastOnce()).convertAndSend(eq(channel), bodies.capture());
+        List<Integer> relayedSeqs = new ArrayList<>();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (relayedSeqs.size() < 3 && System.nanoTime() < deadline) {
+            relayedSeqs.clear();
+            bodies = ArgumentCaptor.forClass(String.class);
+            verify(stringRedisTemplate, atLeastOnce()).convertAndSend(eq(channel), bodies.capture());
+            for (String body : bodies.getAllValues()) {
+                for (JsonNode envelope : objectMapper.readTree(body)) {
+                    relayedSeqs.add(envelope.path("seq").asInt());
+                }
+            }
+            Thread.sleep(5L);
+        }
+
+        assertThat(relayedSeqs).containsExactly(1, 2, 3);
+        assertThat(bodies.getAllValues()).hasSizeLessThanOrEqualTo(2);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> ObjectProvider<T> provider(T bean) {
+        ObjectProvider<T> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(bean);
+        return provider;
+    }
+}
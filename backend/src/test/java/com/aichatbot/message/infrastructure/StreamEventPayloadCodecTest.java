@@ -0,0 +1,51 @@
+package com.aichatbot.message.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+class StreamEventPayloadCodecTest {
+
+    private static final String TRACE_ID = "50000000-0000-0000-0000-000000000003";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final StreamEventPayloadCodec codec = new StreamEventPayloadCodec(objectMapper);
+
+    @Test
+    void shouldDropMessageTraceFromTokenRowsRegardlessOfKeyOrderAndRestoreItOnRead() throws Exception {
+        String tracedLast = "{\"text\":\"hello\",\"trace_id\":\"" + TRACE_ID + "\"}";
+        String tracedFirst = "{ \"trace_id\" : \"" + TRACE_ID + "\", \"text\" : \"hello\" }";
+
+        assertThat(codec.compact("token", tracedLast, TRACE_ID)).isEqualTo("{\"text\":\"hello\"}");
+        assertThat(codec.compact("token", tracedFirst, TRACE_ID)).isEqualTo("{\"text\":\"hello\"}");
+        assertThat(objectMapper.readTree(codec.expand("token", "{\"text\":\"hello\"}", TRACE_ID)))
+            .isEqualTo(objectMapper.readTree(tracedLast));
+    }
+
+    @Test
+    void shouldRestoreTraceInsideJsonStringLiteralRows() throws Exception {
+        String stored = objectMapper.writeValueAsString("{\"text\":\"say \\\"hi\\\"\"}");
+
+        JsonNode expanded = objectMapper.readTree(codec.expand("token", stored, TRACE_ID));
+
+        assertThat(expanded.isTextual()).isTrue();
+        JsonNode payload = objectMapper.readTree(expanded.asText());
+        assertThat(payload.path("text").asText()).isEqualTo("say \"hi\"");
+        assertThat(payload.path("trace_id").asText()).isEqualTo(TRACE_ID);
+    }
+
+    @Test
+    void shouldLeaveNonTokenRowsAndForeignTracesUntouched() {
+        String otherTrace = "{\"text\":\"hello\",\"trace_id\":\"other\"}";
+        String done = "{\"message_id\":\"m\",\"trace_id\":\"" + TRACE_ID + "\"}";
+        String escapedError = "\"{\\\"error_code\\\":\\\"AI-009-422-SCHEMA\\\",\\\"trace_id\\\":\\\"" + TRACE_ID + "\\\"}\"";
+
+        assertThat(codec.compact("token", otherTrace, TRACE_ID)).isEqualTo(otherTrace);
+        assertThat(codec.compact("done", done, TRACE_ID)).isEqualTo(done);
+        assertThat(codec.expand("token", otherTrace, TRACE_ID)).isEqualTo(otherTrace);
+        assertThat(codec.expand("error", escapedError, TRACE_ID)).isEqualTo(escapedError);
+        assertThat(codec.expand("done", "{}", TRACE_ID)).isEqualTo("{}");
+    }
+}
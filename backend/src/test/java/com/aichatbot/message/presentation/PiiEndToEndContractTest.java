@@ -6,6 +6,7 @@ import ch.qos.logback.core.read.ListAppender;
 import com.aichatbot.llm.application.LlmService;
 import com.aichatbot.message.application.MessageView;
 import com.aichatbot.message.infrastructure.MessageRepository;
+import com.aichatbot.rag.application.ChunkEnrichmentService;
 import com.aichatbot.rag.application.CitationView;
 import com.aichatbot.rag.infrastructure.CitationRepository;
 import com.aichatbot.rag.infrastructure.RagSearchLogRepository;
@@ -18,6 +19,7 @@ import java.util.concurrent.atomic.AtomicReference;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -65,9 +67,18 @@ class PiiEndToEndContractTest {
     @Autowired
     private CitationRepository citationRepository;
 
+    @Autowired
+    private ChunkEnrichmentService chunkEnrichmentService;
+
     @SpyBean
     private LlmService llmService;
 
+    @BeforeEach
+    void setUp() {
+        // 스케줄러가 꺼진 테스트에서는 seed chunk를 현재 임베딩 모델로 다시 임베딩하는 backfill을 직접 돌린다.
+        chunkEnrichmentService.backfillEmbeddings(200, 50);
+    }
+
     @AfterEach
     void tearDown() {
         reset(llmService);
@@ -122,7 +122,7 @@ class SseConcurrencyLimitContractTest {
                 .header("X-Tenant-Key", "demo-tenant"))
             .andExpect(status().isOk())
             .andReturn();
-        String second = secondResult.getResponse().getContentAsString();
+        String second = awaitCompletedBody(secondResult);
         assertThat(second).contains("event:done");
         assertThat(second).doesNotContain("API-008-429-SSE");
     }
@@ -221,6 +221,13 @@ class SseConcurrencyLimitContractTest {
                 .header("X-Tenant-Key", "demo-tenant"))
             .andExpect(status().isOk())
             .andReturn();
+        return awaitCompletedBody(result);
+    }
+
+    private String awaitCompletedBody(MvcResult result) throws Exception {
+        if (result.getRequest().isAsyncStarted()) {
+            result.getAsyncResult(10_000L);
+        }
         return result.getResponse().getContentAsString();
     }
 }
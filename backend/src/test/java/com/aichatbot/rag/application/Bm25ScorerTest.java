@@ -0,0 +1,102 @@
+package com.aichatbot.rag.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.aichatbot.global.config.AppProperties;
+import com.aichatbot.global.privacy.PiiMaskingService;
+import com.aichatbot.llm.application.HashingEmbeddingClient;
+import com.aichatbot.rag.application.index.RankedOrdinals;
+import com.aichatbot.rag.application.index.TenantKbIndex;
+import com.aichatbot.rag.application.index.TenantKbIndexBuilder;
+import com.aichatbot.rag.application.index.TermDictionary;
+import com.aichatbot.rag.application.index.WordTokenizer;
+import com.aichatbot.rag.infrastructure.ChunkSearchRow;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class Bm25ScorerTest {
+
+    private static final UUID REFUND_CHUNK = UUID.fromString("10000000-0000-0000-0000-000000000001");
+    private static final UUID DELIVERY_CHUNK = UUID.fromString("10000000-0000-0000-0000-000000000002");
+    private static final UUID NOTICE_CHUNK = UUID.fromString("10000000-0000-0000-0000-000000000003");
+
+    private final PiiMaskingService piiMaskingService = new PiiMaskingService();
+    private final WordTokenizer tokenizer = new WordTokenizer();
+    private final TenantKbIndexBuilder indexBuilder = new TenantKbIndexBuilder(
+        new ChunkEnricher(
+            new ChunkContextHeaderBuilder(),
+            new ExtractiveChunkSummarizer(piiMaskingService),
+            piiMaskingService
+        ),
+        tokenizer,
+        new TermDictionary(new AppProperties()),
+        piiMaskingService,
+        new HashingEmbeddingClient(new AppProperties()),
+        new AppProperties()
+    );
+    private final Bm25Scorer bm25Scorer = new Bm25Scorer(new AppProperties());
+
+    @Test
+    void shouldRankRareTermAboveCommonTerm() {
+        TenantKbIndex index = index();
+
+        RankedOrdinals ranked = bm25Scorer.score(
+            tokenizer.tokenize("refund notice"),
+            index,
+            10
+        );
+
+        assertThat(IntStream.of(ranked.ordinals()).mapToObj(index::chunkId))
+            .containsExactly(NOTICE_CHUNK, REFUND_CHUNK, DELIVERY_CHUNK);
+        for (float score : ranked.scores()) {
+            assertThat(score).isPositive();
+        }
+    }
+
+    @Test
+    void shouldKeepOnlyTopScoresWithinLimit() {
+        TenantKbIndex index = index();
+
+        RankedOrdinals ranked = bm25Scorer.score(tokenizer.tokenize("refund notice"), index, 1);
+
+        assertThat(ranked.size()).isEqualTo(1);
+        assertThat(index.chunkId(ranked.ordinalAt(0))).isEqualTo(NOTICE_CHUNK);
+    }
+
+    @Test
+    void shouldReturnEmptyWhenNoTermMatches() {
+        assertThat(bm25Scorer.score(tokenizer.tokenize("zzzzzz qqqqq"), index(), 10).size())
+            .isZero();
+    }
+
+    private TenantKbIndex index() {
+        return indexBuilder.build(List.of(
+            row(REFUND_CHUNK, "refund refund approval within business days."),
+            row(DELIVERY_CHUNK, "delayed delivery compensation is refund or coupon."),
+            row(NOTICE_CHUNK, "holiday notice for refund processing.")
+        ), "3:stamp");
+    }
+
+    private ChunkSearchRow row(UUID chunkId, String summary) {
+        return new ChunkSearchRow(
+            chunkId.toString(),
+            "41000000-0000-0000-0000-000000000001",
+            "42000000-0000-0000-0000-000000000001",
+            1,
+            1,
+            "cs_policy",
+            "policy",
+            "CS",
+            "2026-01-01",
+            "ops-team",
+            "[DOC] cs_policy",
+            summary,
+            summary,
+            summary,
+            null,
+            null
+        );
+    }
+}
@@ -0,0 +1,144 @@
+package com.aichatbot.rag.application;
+
+import com.aichatbot.global.config.AppProperties;
+import com.aichatbot.global.privacy.PiiMaskingService;
+import com.aichatbot.llm.application.HashingEmbeddingClient;
+import com.aichatbot.rag.application.index.KbIndexRegistry;
+import com.aichatbot.rag.infrastructure.ChunkEmbeddingRow;
+import com.aichatbot.rag.infrastructure.ChunkEnrichmentRow;
+import com.aichatbot.rag.infrastructure.KbChunkRepository;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ChunkEnrichmentServiceTest {
+
+    private static final UUID TENANT_ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final UUID VERSION_ID = UUID.fromString("42000000-0000-0000-0000-000000000011");
+
+    private final KbChunkRepository repository = mock(KbChunkRepository.class);
+    private final KbIndexRegistry kbIndexRegistry = mock(KbIndexRegistry.class);
+    private final PiiMaskingService piiMaskingService = new PiiMaskingService();
+    private final HashingEmbeddingClient embeddingClient = new HashingEmbeddingClient(new AppProperties());
+    private final ChunkEnrichmentService service = new ChunkEnrichmentService(
+        repository,
+        new ChunkEnricher(
+            new ChunkContextHeaderBuilder(),
+            new ExtractiveChunkSummarizer(piiMaskingService),
+            piiMaskingService
+        ),
+        embeddingClient,
+        kbIndexRegistry
+    );
+
+    @Test
+    void shouldBackfillMissingHeadersAndSummariesPageByPage() {
+
+        ChunkEnrichmentRow first = row("43000000-0000-0000-0000-000000000011", "contact ops@example.com for refund. second sentence.");
+        ChunkEnrichmentRow second = row("43000000-0000-0000-0000-000000000012", "delivery delay compensation.");
+        ChunkEnrichmentRow third = row("43000000-0000-0000-0000-000000000013", "coupon policy.");
+        when(repository.findChunksMissingEnrichment(isNull(), isNull(), eq(2))).thenReturn(List.of(first, second));
+        when(repository.findChunksMissingEnrichment(isNull(), eq(UUID.fromString(second.chunkId())), eq(2)))
+            .thenReturn(List.of(third));
+        when(repository.updateChunkEnrichment(any(), any(), anyString(), anyString())).thenReturn(true);
+
+        int updated = service.backfillMissing(2, 10);
+
+        assertThat(updated).isEqualTo(3);
+        verify(repository, times(3)).updateChunkEnrichment(eq(TENANT_ID), any(), anyString(), anyString());
+        verify(repository).updateChunkEnrichment(
+            eq(TENANT_ID),
+            eq(UUID.fromString(first.chunkId())),
+            eq("[DOC] refund_policy | ver=1 | chunk=1/3 | source=policy | category=CS | effective=unknown | owner=ops-team\n[SECTION] refund_policy"),
+            eq("contact ***@*** for refund. second sentence.")
+        );
+        verify(repository).touchDocumentVersion(TENANT_ID, VERSION_ID);
+        verify(kbIndexRegistry).invalidate(TENANT_ID);
+    }
+
+    @Test
+    void shouldReembedChunksStoredWithAnotherModelAndBumpTheirVersion() {
+        String model = embeddingClient.modelName();
+        ChunkEmbeddingRow legacy = new ChunkEmbeddingRow(
+            "43000000-0000-0000-0000-000000000021",
+            TENANT_ID.toString(),
+            VERSION_ID.toString(),
+            "[DOC] refund_policy",
+            "refund in 3 days.",
+            "refund in 3 days.",
+            "refund approval processing"
+        );
+        ChunkEmbeddingRow missing = new ChunkEmbeddingRow(
+            "43000000-0000-0000-0000-000000000022",
+            TENANT_ID.toString(),
+            VERSION_ID.toString(),
+            null,
+            null,
+            "delivery delay compensation.",
+            null
+        );
+        ChunkEmbeddingRow empty = new ChunkEmbeddingRow(
+            "43000000-0000-0000-0000-000000000023",
+            TENANT_ID.toString(),
+            VERSION_ID.toString(),
+            null,
+            null,
+            " ",
+            null
+        );
+        when(repository.findChunksWithStaleEmbedding(eq(model), isNull(), eq(10))).thenReturn(List.of(legacy, missing, empty));
+
+        int updated = service.backfillEmbeddings(10, 5);
+
+        assertThat(updated).isEqualTo(2);
+        verify(repository).saveChunkEmbedding(
+            eq(TENANT_ID),
+            eq(UUID.fromString(legacy.chunkId())),
+            anyString(),
+            eq(embeddingClient.embed("refund approval processing").length),
+            eq(model),
+            eq("refund approval processing")
+        );
+        verify(repository).saveChunkEmbedding(
+            eq(TENANT_ID),
+            eq(UUID.fromString(missing.chunkId())),
+            anyString(),
+            any(Integer.class),
+            eq(model),
+            eq("delivery delay compensation.")
+        );
+        verify(repository, never()).saveChunkEmbedding(any(), eq(UUID.fromString(empty.chunkId())), any(), any(Integer.class), any(), any());
+        verify(repository).touchDocumentVersion(TENANT_ID, VERSION_ID);
+        verify(kbIndexRegistry).invalidate(TENANT_ID);
+    }
+
+    private ChunkEnrichmentRow row(String chunkId, String chunkText) {
+        return new ChunkEnrichmentRow(
+            chunkId,
+            TENANT_ID.toString(),
+            VERSION_ID.toString(),
+            1,
+            1,
+            3,
+            "refund_policy",
+            "policy",
+            "CS",
+            null,
+            "ops-team",
+            null,
+            null,
+            chunkText
+        );
+    }
+}
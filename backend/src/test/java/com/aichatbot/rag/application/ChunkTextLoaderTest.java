@@ -0,0 +1,55 @@
+package com.aichatbot.rag.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.aichatbot.global.config.AppProperties;
+import com.aichatbot.rag.infrastructure.ChunkTextRow;
+import com.aichatbot.rag.infrastructure.KbSearchRepository;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class ChunkTextLoaderTest {
+
+    private static final UUID TENANT_ID = UUID.fromString("30000000-0000-0000-0000-000000000001");
+    private static final UUID FIRST = UUID.fromString("10000000-0000-0000-0000-000000000001");
+    private static final UUID SECOND = UUID.fromString("10000000-0000-0000-0000-000000000002");
+
+    private final KbSearchRepository kbSearchRepository = mock(KbSearchRepository.class);
+    private final AppProperties appProperties = new AppProperties();
+    private final ChunkTextLoader loader = new ChunkTextLoader(kbSearchRepository, appProperties);
+
+    @Test
+    void shouldFetchOnlyUncachedChunkTexts() {
+        when(kbSearchRepository.findChunkTextsByIds(TENANT_ID, List.of(FIRST)))
+            .thenReturn(List.of(new ChunkTextRow(FIRST.toString(), "refund is processed in 3-5 business days.")));
+        when(kbSearchRepository.findChunkTextsByIds(TENANT_ID, List.of(SECOND)))
+            .thenReturn(List.of(new ChunkTextRow(SECOND.toString(), null)));
+
+        loader.load(TENANT_ID, List.of(FIRST));
+        Map<UUID, String> loaded = loader.load(TENANT_ID, List.of(FIRST, SECOND));
+
+        assertThat(loaded).containsEntry(FIRST, "refund is processed in 3-5 business days.").containsEntry(SECOND, "");
+        verify(kbSearchRepository, times(1)).findChunkTextsByIds(TENANT_ID, List.of(FIRST));
+        verify(kbSearchRepository, times(1)).findChunkTextsByIds(TENANT_ID, List.of(SECOND));
+    }
+
+    @Test
+    void shouldKeepCacheWithinConfiguredEntries() {
+        appProperties.getRag().setChunkTextCacheMaxEntries(1);
+        when(kbSearchRepository.findChunkTextsByIds(TENANT_ID, List.of(FIRST, SECOND))).thenReturn(List.of(
+            new ChunkTextRow(FIRST.toString(), "first"),
+            new ChunkTextRow(SECOND.toString(), "second")
+        ));
+
+        Map<UUID, String> loaded = loader.load(TENANT_ID, List.of(FIRST, SECOND));
+
+        assertThat(loaded).hasSize(2);
+        assertThat(loader.size()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,135 @@
+package com.aichatbot.rag.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.aichatbot.global.audit.AuditLogService;
+import com.aichatbot.global.config.AppProperties;
+import com.aichatbot.global.observability.TraceContext;
+import com.aichatbot.global.observability.TraceGuard;
+import com.aichatbot.global.privacy.PiiMaskingService;
+import com.aichatbot.llm.application.EmbeddingClient;
+import com.aichatbot.rag.application.index.KbIndexRegistry;
+import com.aichatbot.rag.application.index.WordTokenizer;
+import com.aichatbot.rag.infrastructure.KbIngestionJobRecord;
+import com.aichatbot.rag.infrastructure.KbIngestionRepository;
+import com.aichatbot.rag.infrastructure.KbIngestionSpool;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class KbIngestionServiceTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-01T12:00:00Z");
+    private static final UUID TENANT_ID = UUID.fromString("30000000-0000-0000-0000-000000000001");
+
+    private final KbIngestionRepository kbIngestionRepository = mock(KbIngestionRepository.class);
+    private final KbIngestionSpool kbIngestionSpool = mock(KbIngestionSpool.class);
+    private final AuditLogService auditLogService = mock(AuditLogService.class);
+    private final AppProperties appProperties = new AppProperties();
+    private final List<String> auditedTraceIds = new ArrayList<>();
+    private final KbIngestionService service = new KbIngestionService(
+        kbIngestionRepository,
+        kbIngestionSpool,
+        mock(ChunkEnricher.class),
+        mock(PiiMaskingService.class),
+        mock(WordTokenizer.class),
+        mock(EmbeddingClient.class),
+        mock(KbIndexRegistry.class),
+        auditLogService,
+        appProperties,
+        Clock.fixed(NOW, ZoneOffset.UTC)
+    );
+
+    @BeforeEach
+    void setUp() {
+        // 스케줄러 스레드에는 요청 trace가 없으므로 실제 TraceGuard로 감사 기록 시점의 trace를 확인한다.
+        doAnswer(invocation -> auditedTraceIds.add(TraceGuard.requireTraceId()))
+            .when(auditLogService).write(any(), anyString(), any(), anyString(), anyString(), anyString(), any(), any());
+    }
+
+    @AfterEach
+    void tearDown() {
+        TraceContext.clear();
+    }
+
+    @Test
+    void shouldFailOwnPendingJobWhoseSpoolIsGone() {
+        appProperties.getRag().setIngestionNodeId("node-a");
+        KbIngestionJobRecord job = job("PENDING", "node-a");
+        when(kbIngestionRepository.findPendingJobs("node-a", 2)).thenReturn(List.of(job));
+        when(kbIngestionRepository.claimJob(job.id(), NOW)).thenReturn(true);
+        when(kbIngestionSpool.exists(job.spoolPath())).thenReturn(false);
+
+        assertThat(service.processPendingJobs(2)).isEqualTo(1);
+
+        verify(kbIngestionRepository).discardVersion(TENANT_ID, job.documentVersionId());
+        verify(kbIngestionRepository).markJobFailed(eq(job.id()), eq("KB_INGESTION_SPOOL_MISSING"), anyString(), eq(NOW));
+        assertThat(auditedTraceIds).containsExactly(job.traceId().toString());
+        assertThat(TraceContext.getTraceId()).isNull();
+    }
+
+    @Test
+    void shouldExpireAbandonedPendingAndStaleRunningJobs() {
+        appProperties.getRag().setIngestionNodeId("node-a");
+        appProperties.getRag().setIngestionPendingTtlSeconds(3600L);
+        appProperties.getRag().setIngestionRunningStaleSeconds(900L);
+        Instant pendingBefore = NOW.minusSeconds(3600L);
+        Instant runningBefore = NOW.minusSeconds(900L);
+        KbIngestionJobRecord deadNodePending = job("PENDING", "node-b");
+        KbIngestionJobRecord staleRunning = job("RUNNING", "node-a");
+        KbIngestionJobRecord revived = job("RUNNING", "node-c");
+        when(kbIngestionRepository.findAbandonedJobs(pendingBefore, runningBefore, 20))
+            .thenReturn(List.of(deadNodePending, staleRunning, revived));
+        when(kbIngestionRepository.expireJob(eq(deadNodePending.id()), eq("PENDING"), eq(pendingBefore), eq("KB_INGESTION_EXPIRED"), anyString(), eq(NOW)))
+            .thenReturn(true);
+        when(kbIngestionRepository.expireJob(eq(staleRunning.id()), eq("RUNNING"), eq(runningBefore), eq("KB_INGESTION_STALE"), anyString(), eq(NOW)))
+            .thenReturn(true);
+
+        assertThat(service.expireAbandonedJobs(20)).isEqualTo(2);
+
+        verify(kbIngestionRepository).discardVersion(TENANT_ID, deadNodePending.documentVersionId());
+        verify(kbIngestionRepository).discardVersion(TENANT_ID, staleRunning.documentVersionId());
+        verify(kbIngestionRepository, never()).discardVersion(TENANT_ID, revived.documentVersionId());
+        verify(kbIngestionSpool).delete(staleRunning.spoolPath());
+        verify(kbIngestionSpool, never()).delete(deadNodePending.spoolPath());
+        verify(kbIngestionRepository, never()).markJobFailed(any(), any(), any(), any());
+        assertThat(auditedTraceIds).containsExactly(deadNodePending.traceId().toString(), staleRunning.traceId().toString());
+        assertThat(TraceContext.getTraceId()).isNull();
+    }
+
+    private KbIngestionJobRecord job(String status, String ownerNode) {
+        UUID jobId = UUID.randomUUID();
+        return new KbIngestionJobRecord(
+            jobId,
+            TENANT_ID,
+            UUID.randomUUID(),
+            UUID.randomUUID(),
+            null,
+            status,
+            "/spool/" + jobId + ".txt",
+            128L,
+            0,
+            null,
+            null,
+            NOW.minusSeconds(7200L),
+            "RUNNING".equals(status) ? NOW.minusSeconds(3600L) : null,
+            null,
+            UUID.randomUUID(),
+            ownerNode
+        );
+    }
+}
@@ -0,0 +1,149 @@
+package com.aichatbot.rag.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.aichatbot.global.config.AppProperties;
+import com.aichatbot.global.privacy.PiiMaskingService;
+import com.aichatbot.llm.application.HashingEmbeddingClient;
+import com.aichatbot.rag.application.index.TenantKbIndex;
+import com.aichatbot.rag.application.index.TenantKbIndexBuilder;
+import com.aichatbot.rag.application.index.TermDictionary;
+import com.aichatbot.rag.application.index.WordTokenizer;
+import com.aichatbot.rag.infrastructure.ChunkSearchRow;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class RerankStageTest {
+
+    private static final UUID REFUND_CHUNK = UUID.fromString("10000000-0000-0000-0000-000000000001");
+    private static final UUID DELIVERY_CHUNK = UUID.fromString("10000000-0000-0000-0000-000000000002");
+
+    private final PiiMaskingService piiMaskingService = new PiiMaskingService();
+    private final WordTokenizer tokenizer = new WordTokenizer();
+    private final AppProperties appProperties = new AppProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TenantKbIndexBuilder indexBuilder = new TenantKbIndexBuilder(
+        new ChunkEnricher(
+            new ChunkContextHeaderBuilder(),
+            new ExtractiveChunkSummarizer(piiMaskingService),
+            piiMaskingService
+        ),
+        tokenizer,
+        new TermDictionary(appProperties),
+        piiMaskingService,
+        new HashingEmbeddingClient(appProperties),
+        appProperties
+    );
+
+    @Test
+    void lexicalRerankerShouldPromoteCandidateCoveringQueryTerms() {
+        TenantKbIndex index = index();
+        List<RrfFusion.ScoredChunk> fused = fused();
+
+        List<RrfFusion.ScoredChunk> reranked = stage((query, documents) -> new double[documents.size()])
+            .rerank(query("refund approval", index), fused)
+            .chunks();
+
+        assertThat(reranked).extracting(RrfFusion.ScoredChunk::chunkId).containsExactly(REFUND_CHUNK, DELIVERY_CHUNK);
+        assertThat(reranked.get(0).score()).isEqualTo(0.0161d);
+    }
+
+    @Test
+    void modelRerankerShouldOrderByEndpointRelevance() {
+        appProperties.getRag().setRerankMode("model");
+        TenantKbIndex index = index();
+
+        List<RrfFusion.ScoredChunk> reranked = stage((query, documents) -> new double[] {0.1d, 0.9d})
+            .rerank(query("refund approval", index), fused())
+            .chunks();
+
+        assertThat(reranked).extracting(RrfFusion.ScoredChunk::chunkId).containsExactly(REFUND_CHUNK, DELIVERY_CHUNK);
+    }
+
+    @Test
+    void shouldReturnFusedOrderWhenModelExceedsBudget() {
+        appProperties.getRag().setRerankMode("model");
+        appProperties.getRag().setRerankBudgetMs(50L);
+        TenantKbIndex index = index();
+        List<RrfFusion.ScoredChunk> fused = fused();
+
+        long startedAt = System.currentTimeMillis();
+        RerankStage.Outcome outcome = stage((query, documents) -> {
+            try {
+                Thread.sleep(2000L);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+            return new double[] {0.1d, 0.9d};
+        }).rerank(query("refund approval", index), fused);
+
+        assertThat(outcome.chunks()).isSameAs(fused);
+        assertThat(outcome.fallback()).isTrue();
+        assertThat(System.currentTimeMillis() - startedAt).isLessThan(1000L);
+        assertThat(meterRegistry.get("rerank_fallback_total").tag("reason", "timeout").counter().count()).isEqualTo(1.0d);
+    }
+
+    @Test
+    void shouldReturnFusedOrderWhenModelFails() {
+        appProperties.getRag().setRerankMode("model");
+        TenantKbIndex index = index();
+        List<RrfFusion.ScoredChunk> fused = fused();
+
+        RerankStage.Outcome outcome = stage((query, documents) -> new double[] {0.5d})
+            .rerank(query("refund approval", index), fused);
+
+        assertThat(outcome.chunks()).isSameAs(fused);
+        assertThat(outcome.fallback()).isTrue();
+        assertThat(meterRegistry.get("rerank_fallback_total").tag("reason", "error").counter().count()).isEqualTo(1.0d);
+    }
+
+    private RerankStage stage(RerankModelClient rerankModelClient) {
+        return new RerankStage(
+            new LexicalReranker(appProperties),
+            new ModelEndpointReranker(rerankModelClient),
+            new RagRetrievalMetrics(meterRegistry),
+            appProperties
+        );
+    }
+
+    private RerankQuery query(String text, TenantKbIndex index) {
+        return new RerankQuery(text, tokenizer.tokenize(text), index);
+    }
+
+    private List<RrfFusion.ScoredChunk> fused() {
+        return List.of(
+            new RrfFusion.ScoredChunk(DELIVERY_CHUNK, 0.0164d, "delivery"),
+            new RrfFusion.ScoredChunk(REFUND_CHUNK, 0.0161d, "refund")
+        );
+    }
+
+    private TenantKbIndex index() {
+        return indexBuilder.build(List.of(
+            row(REFUND_CHUNK, "refund approval within business days."),
+            row(DELIVERY_CHUNK, "delayed delivery compensation is a coupon.")
+        ), "2:stamp");
+    }
+
+    private ChunkSearchRow row(UUID chunkId, String summary) {
+        return new ChunkSearchRow(
+            chunkId.toString(),
+            "41000000-0000-0000-0000-000000000001",
+            "42000000-0000-0000-0000-000000000001",
+            1,
+            1,
+            "cs_policy",
+            "policy",
+            "CS",
+            "2026-01-01",
+            "ops-team",
+            "[DOC] cs_policy",
+            summary,
+            summary,
+            summary,
+            null,
+            null
+        );
+    }
+}
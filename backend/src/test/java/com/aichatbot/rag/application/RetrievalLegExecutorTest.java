@@ -0,0 +1,97 @@
+package com.aichatbot.rag.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.aichatbot.global.config.AppProperties;
+import com.aichatbot.rag.application.index.RankedOrdinals;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class RetrievalLegExecutorTest {
+
+    private final AppProperties appProperties = new AppProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private RetrievalLegExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void shouldRunLegsConcurrently() {
+        executor = executor();
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        Map<String, Callable<RankedOrdinals>> legs = new LinkedHashMap<>();
+        legs.put("vector", () -> awaitPeer(bothStarted, new int[] {1}));
+        legs.put("bm25", () -> awaitPeer(bothStarted, new int[] {2}));
+
+        RetrievalLegExecutor.Outcome outcome = executor.runAll(legs);
+
+        assertThat(outcome.degraded()).isFalse();
+        assertThat(outcome.leg("vector").ordinals()).containsExactly(1);
+        assertThat(outcome.leg("bm25").ordinals()).containsExactly(2);
+    }
+
+    @Test
+    void shouldDegradeToRemainingLegWhenOneTimesOut() {
+        appProperties.getRag().setLegTimeoutMs(50L);
+        executor = executor();
+        Map<String, Callable<RankedOrdinals>> legs = new LinkedHashMap<>();
+        legs.put("vector", () -> {
+            Thread.sleep(5_000L);
+            return ranked(new int[] {1});
+        });
+        legs.put("bm25", () -> ranked(new int[] {2}));
+
+        long startedAt = System.currentTimeMillis();
+        RetrievalLegExecutor.Outcome outcome = executor.runAll(legs);
+
+        assertThat(System.currentTimeMillis() - startedAt).isLessThan(2_000L);
+        assertThat(outcome.degraded()).isTrue();
+        assertThat(outcome.leg("vector").size()).isZero();
+        assertThat(outcome.leg("bm25").ordinals()).containsExactly(2);
+        assertThat(meterRegistry.get("rag_leg_degraded_total").tag("leg", "vector").tag("reason", "timeout").counter().count())
+            .isEqualTo(1.0d);
+    }
+
+    @Test
+    void shouldDegradeFailingLegWithoutFailingRetrieval() {
+        executor = executor();
+        Map<String, Callable<RankedOrdinals>> legs = new LinkedHashMap<>();
+        legs.put("vector", () -> {
+            throw new IllegalStateException("embedding_failed");
+        });
+        legs.put("bm25", () -> ranked(new int[] {2}));
+
+        RetrievalLegExecutor.Outcome outcome = executor.runAll(legs);
+
+        assertThat(outcome.degraded()).isTrue();
+        assertThat(outcome.leg("bm25").ordinals()).containsExactly(2);
+        assertThat(meterRegistry.get("rag_leg_degraded_total").tag("reason", "error").counter().count()).isEqualTo(1.0d);
+    }
+
+    private RetrievalLegExecutor executor() {
+        return new RetrievalLegExecutor(new RagRetrievalMetrics(meterRegistry), appProperties);
+    }
+
+    private RankedOrdinals awaitPeer(CountDownLatch bothStarted, int[] ordinals) throws InterruptedException {
+        bothStarted.countDown();
+        if (!bothStarted.await(500L, TimeUnit.MILLISECONDS)) {
+            throw new IllegalStateException("legs_ran_sequentially");
+        }
+        return ranked(ordinals);
+    }
+
+    private RankedOrdinals ranked(int[] ordinals) {
+        return new RankedOrdinals(ordinals, new float[ordinals.length]);
+    }
+}
@@ -0,0 +1,112 @@
+package com.aichatbot.rag.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.aichatbot.global.config.AppProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class RetrievalResultCacheTest {
+
+    private static final UUID TENANT_ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final UUID OTHER_TENANT_ID = UUID.fromString("00000000-0000-0000-0000-000000000002");
+
+    private final AppProperties appProperties = new AppProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RetrievalResultCache cache = new RetrievalResultCache(new RagRetrievalMetrics(meterRegistry), appProperties);
+
+    @Test
+    void shouldShareEntryAcrossCaseAndPunctuationVariants() {
+        RetrievalResult result = result();
+        cache.put(cache.keyFor(request("Refund policy?", Map.of()), "2:stamp"), result);
+
+        assertThat(cache.get(cache.keyFor(request("  refund   POLICY ", Map.of()), "2:stamp"))).isSameAs(result);
+        assertThat(meterRegistry.get("rag_result_cache_hit_total").counter().count()).isEqualTo(1.0d);
+    }
+
+    @Test
+    void shouldNotCollideStopwordOrNgramVariants() {
+        appProperties.getRag().setTokenizerStopwords(List.of("the"));
+
+        RetrievalResultCache.Key key = cache.keyFor(request("환불정책", Map.of()), "1");
+
+        assertThat(key.normalizedQuery()).isEqualTo("환불정책");
+        assertThat(cache.keyFor(request("환불정책 the", Map.of()), "1")).isNotEqualTo(key);
+        assertThat(cache.keyFor(request("환불 불정 정책", Map.of()), "1")).isNotEqualTo(key);
+    }
+
+    @Test
+    void shouldMissWhenStampOrFiltersDiffer() {
+        cache.put(cache.keyFor(request("refund policy", Map.of("category", "CS")), "2:stamp"), result());
+
+        assertThat(cache.get(cache.keyFor(request("refund policy", Map.of("category", "CS")), "3:stamp"))).isNull();
+        assertThat(cache.get(cache.keyFor(request("refund policy", Map.of()), "2:stamp"))).isNull();
+        assertThat(meterRegistry.get("rag_result_cache_miss_total").counter().count()).isEqualTo(2.0d);
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedBeyondMaxEntries() {
+        appProperties.getRag().setResultCacheMaxEntries(2);
+        RetrievalResultCache.Key first = cache.keyFor(request("refund", Map.of()), "1");
+        RetrievalResultCache.Key second = cache.keyFor(request("delivery", Map.of()), "1");
+        RetrievalResultCache.Key third = cache.keyFor(request("coupon", Map.of()), "1");
+        cache.put(first, result());
+        cache.put(second, result());
+        cache.get(first);
+
+        cache.put(third, result());
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get(second)).isNull();
+        assertThat(cache.get(first)).isNotNull();
+    }
+
+    @Test
+    void shouldDropTenantEntriesOnInvalidate() {
+        RetrievalResultCache.Key key = cache.keyFor(request("refund", Map.of()), "1");
+        cache.put(key, result());
+
+        cache.invalidateTenant(TENANT_ID);
+
+        assertThat(cache.get(key)).isNull();
+    }
+
+    @Test
+    void shouldBoundTotalEntriesAcrossTenantsAndInvalidateOnlyOneTenant() {
+        appProperties.getRag().setResultCacheMaxEntries(3);
+        RetrievalResultCache.Key refund = cache.keyFor(request("refund", Map.of()), "1");
+        RetrievalResultCache.Key delivery = cache.keyFor(request("delivery", Map.of()), "1");
+        RetrievalResultCache.Key otherRefund = cache.keyFor(request(OTHER_TENANT_ID, "refund"), "1");
+        RetrievalResultCache.Key otherCoupon = cache.keyFor(request(OTHER_TENANT_ID, "coupon"), "1");
+        cache.put(refund, result());
+        cache.put(delivery, result());
+        cache.put(otherRefund, result());
+
+        cache.put(otherCoupon, result());
+
+        assertThat(cache.size()).isEqualTo(3);
+        assertThat(cache.get(otherRefund)).isNull();
+        assertThat(cache.get(otherCoupon)).isNotNull();
+
+        cache.invalidateTenant(TENANT_ID);
+
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.get(refund)).isNull();
+        assertThat(cache.get(otherCoupon)).isNotNull();
+    }
+
+    private RagRetrievalRequest request(String query, Map<String, String> filters) {
+        return new RagRetrievalRequest(TENANT_ID, null, query, 3, filters, "trace");
+    }
+
+    private RagRetrievalRequest request(UUID tenantId, String query) {
+        return new RagRetrievalRequest(tenantId, null, query, 3, Map.of(), "trace");
+    }
+
+    private RetrievalResult result() {
+        return new RetrievalResult(List.of(), "hybrid_summary_first", 0.0d, true, "1:stamp");
+    }
+}
@@ -2,8 +2,7 @@ package com.aichatbot.rag.application;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
-import java.util.List;
-import java.util.UUID;
+import com.aichatbot.rag.application.index.RankedOrdinals;
 import org.junit.jupiter.api.Test;
 
 class RrfFusionTest {
@@ -12,22 +11,24 @@ class RrfFusionTest {
 
     @Test
     void shouldProduceDeterministicOrderWhenScoresAreEqual() {
-        UUID a = UUID.fromString("10000000-0000-0000-0000-000000000001");
-        UUID b = UUID.fromString("10000000-0000-0000-0000-000000000002");
-
-        List<RrfFusion.ScoredChunk> vector = List.of(
-            new RrfFusion.ScoredChunk(a, 0.9d, "a"),
-            new RrfFusion.ScoredChunk(b, 0.8d, "b")
-        );
-        List<RrfFusion.ScoredChunk> bm25 = List.of(
-            new RrfFusion.ScoredChunk(b, 0.9d, "b"),
-            new RrfFusion.ScoredChunk(a, 0.8d, "a")
-        );
-
-        List<RrfFusion.ScoredChunk> first = rrfFusion.fuse(vector, bm25, 60);
-        List<RrfFusion.ScoredChunk> second = rrfFusion.fuse(vector, bm25, 60);
-
-        assertThat(first).hasSize(2);
-        assertThat(first).isEqualTo(second);
+        RankedOrdinals vector = new RankedOrdinals(new int[] {0, 1}, new float[] {0.9f, 0.8f});
+        RankedOrdinals bm25 = new RankedOrdinals(new int[] {1, 0}, new float[] {0.9f, 0.8f});
+
+        RankedOrdinals first = rrfFusion.fuse(vector, bm25, 60, 10);
+        RankedOrdinals second = rrfFusion.fuse(vector, bm25, 60, 10);
+
+        assertThat(first.size()).isEqualTo(2);
+        assertThat(first.ordinals()).containsExactly(second.ordinals());
+    }
+
+    @Test
+    void shouldBreakOrdinalTiesByLowerOrdinalAndRespectLimit() {
+        RankedOrdinals vector = new RankedOrdinals(new int[] {4, 1, 7}, new float[] {0.9f, 0.8f, 0.7f});
+        RankedOrdinals bm25 = new RankedOrdinals(new int[] {1, 4}, new float[] {3.0f, 2.0f});
+
+        RankedOrdinals fused = rrfFusion.fuse(vector, bm25, 60, 2);
+
+        assertThat(fused.ordinals()).containsExactly(1, 4);
+        assertThat(fused.scoreAt(0)).isEqualTo(fused.scoreAt(1));
     }
 }
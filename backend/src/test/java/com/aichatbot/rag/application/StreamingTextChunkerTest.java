@@ -0,0 +1,78 @@
+package com.aichatbot.rag.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class StreamingTextChunkerTest {
+
+    @Test
+    void shouldReturnShortTextAsSingleChunk() throws IOException {
+        List<String> chunks = chunk("  refund is processed in 3-5 business days.  ", 200, 20);
+
+        assertThat(chunks).containsExactly("refund is processed in 3-5 business days.");
+    }
+
+    @Test
+    void shouldReturnNothingForBlankInput() throws IOException {
+        assertThat(chunk(" \n\n \t ", 200, 20)).isEmpty();
+    }
+
+    @Test
+    void shouldCutOnParagraphAndKeepEveryChunkWithinLimit() throws IOException {
+        StringBuilder text = new StringBuilder();
+        for (int paragraph = 0; paragraph < 40; paragraph++) {
+            text.append("section ").append(paragraph).append(" refund rule applies to delayed delivery orders. ")
+                .append("customers receive a coupon when the delay is short.\n\n");
+        }
+
+        List<String> chunks = chunk(text.toString(), 300, 40);
+
+        assertThat(chunks.size()).isGreaterThan(1);
+        assertThat(chunks).allSatisfy(chunk -> assertThat(chunk.length()).isLessThanOrEqualTo(300));
+        for (int paragraph = 0; paragraph < 40; paragraph++) {
+            String marker = "section " + paragraph + " ";
+            assertThat(chunks).anySatisfy(chunk -> assertThat(chunk).contains(marker));
+        }
+    }
+
+    @Test
+    void shouldCarryOverlapIntoNextChunkOnWordBoundary() throws IOException {
+        StringBuilder text = new StringBuilder();
+        for (int word = 0; word < 200; word++) {
+            text.append("word").append(word).append(' ');
+        }
+
+        List<String> chunks = chunk(text.toString(), 200, 40);
+
+        assertThat(chunks.size()).isGreaterThan(1);
+        for (int i = 1; i < chunks.size(); i++) {
+            String firstWord = chunks.get(i).split(" ")[0];
+            assertThat(firstWord).matches("word\\d+");
+            assertThat(chunks.get(i - 1)).contains(firstWord);
+        }
+    }
+
+    @Test
+    void shouldHardCutTextWithoutWhitespace() throws IOException {
+        List<String> chunks = chunk("x".repeat(1000), 256, 0);
+
+        assertThat(chunks).hasSize(4);
+        assertThat(chunks.get(0)).hasSize(256);
+        assertThat(String.join("", chunks)).hasSize(1000);
+    }
+
+    private List<String> chunk(String text, int maxChars, int overlapChars) throws IOException {
+        StreamingTextChunker chunker = new StreamingTextChunker(new StringReader(text), maxChars, overlapChars);
+        List<String> chunks = new ArrayList<>();
+        String chunk;
+        while ((chunk = chunker.next()) != null) {
+            chunks.add(chunk);
+        }
+        return chunks;
+    }
+}
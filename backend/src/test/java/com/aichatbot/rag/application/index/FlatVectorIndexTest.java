@@ -0,0 +1,65 @@
+package com.aichatbot.rag.application.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class FlatVectorIndexTest {
+
+    @Test
+    void shouldReturnSameTopKAsFullSort() {
+        Random random = new Random(7L);
+        float[][] vectors = new float[200][];
+        for (int i = 0; i < vectors.length; i++) {
+            vectors[i] = randomVector(random, 16);
+        }
+        FlatVectorIndex index = new FlatVectorIndex(16, vectors);
+        float[] query = randomVector(random, 16);
+
+        RankedOrdinals ranked = index.search(query, 5, -1.0f).drain();
+
+        int[] expected = IntStream.range(0, vectors.length)
+            .boxed()
+            .sorted(Comparator.comparingDouble((Integer ordinal) -> cosine(query, vectors[ordinal])).reversed())
+            .limit(5)
+            .mapToInt(Integer::intValue)
+            .toArray();
+        assertThat(ranked.ordinals()).containsExactly(expected);
+        assertThat(ranked.scoreAt(0)).isGreaterThanOrEqualTo(ranked.scoreAt(4));
+    }
+
+    @Test
+    void shouldSkipMissingVectorsAndParseStoredFormat() {
+        float[] stored = FlatVectorIndex.parse("[0.11,0.07,0.15]");
+        FlatVectorIndex index = new FlatVectorIndex(3, new float[][] {stored, null, {0.0f, 0.0f, 0.0f}});
+
+        TopKHeap heap = index.search(new float[] {0.11f, 0.07f, 0.15f}, 3, 0.0f);
+
+        assertThat(stored).containsExactly(0.11f, 0.07f, 0.15f);
+        assertThat(FlatVectorIndex.parse("[broken")).isNull();
+        assertThat(heap.drain().ordinals()).containsExactly(0);
+    }
+
+    private float[] randomVector(Random random, int dimension) {
+        float[] vector = new float[dimension];
+        for (int i = 0; i < dimension; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        return vector;
+    }
+
+    private double cosine(float[] left, float[] right) {
+        double dot = 0.0d;
+        double leftNorm = 0.0d;
+        double rightNorm = 0.0d;
+        for (int i = 0; i < left.length; i++) {
+            dot += left[i] * right[i];
+            leftNorm += left[i] * left[i];
+            rightNorm += right[i] * right[i];
+        }
+        return dot / Math.sqrt(leftNorm * rightNorm);
+    }
+}
@@ -0,0 +1,33 @@
+package com.aichatbot.rag.application.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.aichatbot.global.config.AppProperties;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class HangulNgramTokenizerTest {
+
+    private final AppProperties appProperties = new AppProperties();
+    private final HangulNgramTokenizer tokenizer = new HangulNgramTokenizer(new WordTokenizer(), appProperties);
+
+    @Test
+    void shouldShareStemBigramsAcrossInflectedForms() {
+        assertThat(tokenizer.tokenize("환불은")).containsExactly("환불", "불은");
+        assertThat(tokenizer.tokenize("환불을")).containsExactly("환불", "불을");
+    }
+
+    @Test
+    void shouldKeepLatinWordsAndSplitMixedScriptRuns() {
+        assertThat(tokenizer.tokenize("Refund 3-5영업일")).containsExactly("refund", "3", "5", "영업", "업일");
+        assertThat(tokenizer.tokenize("환")).containsExactly("환");
+    }
+
+    @Test
+    void shouldDropConfiguredStopwordsAndHonorGramSize() {
+        appProperties.getRag().setTokenizerStopwords(List.of("the", " 및 "));
+        appProperties.getRag().setHangulNgramSize(3);
+
+        assertThat(tokenizer.tokenize("The 환불정책 및 refund")).containsExactly("환불정", "불정책", "refund");
+    }
+}
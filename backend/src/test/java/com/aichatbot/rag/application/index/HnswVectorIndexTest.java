@@ -0,0 +1,137 @@
+package com.aichatbot.rag.application.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class HnswVectorIndexTest {
+
+    private static final int DIMENSION = 32;
+    private static final int TOP_K = 10;
+    private static final String MODEL = "local-hash-v1-32";
+    private static final HnswVectorIndex.Params PARAMS = new HnswVectorIndex.Params(16, 100, 64);
+
+    @Test
+    void shouldKeepRecallCloseToBruteForce() {
+        Random random = new Random(11L);
+        UUID[] chunkIds = chunkIds(2000);
+        float[][] vectors = randomVectors(random, chunkIds.length);
+
+        HnswVectorIndex hnsw = HnswVectorIndex.build(MODEL, DIMENSION, PARAMS, chunkIds, vectors);
+        FlatVectorIndex flat = new FlatVectorIndex(DIMENSION, vectors);
+
+        assertThat(recall(hnsw, flat, random)).isGreaterThanOrEqualTo(0.9d);
+    }
+
+    @Test
+    void shouldKeepRecallAfterIncrementalInsertAndHideRemovedChunks() {
+        Random random = new Random(13L);
+        UUID[] allChunkIds = chunkIds(2000);
+        float[][] allVectors = randomVectors(random, allChunkIds.length);
+        HnswVectorIndex initial = HnswVectorIndex.build(
+            MODEL,
+            DIMENSION,
+            PARAMS,
+            Arrays.copyOfRange(allChunkIds, 0, 1500),
+            Arrays.copyOfRange(allVectors, 0, 1500)
+        );
+
+        UUID[] currentChunkIds = Arrays.copyOfRange(allChunkIds, 100, 2000);
+        float[][] currentVectors = Arrays.copyOfRange(allVectors, 100, 2000);
+        HnswVectorIndex extended = initial.extend(currentChunkIds, currentVectors, 0.3d);
+
+        assertThat(extended).isNotNull();
+        assertThat(extended.size()).isEqualTo(1900);
+        assertThat(extended.nodeCount()).isEqualTo(2000);
+        assertThat(initial.size()).isEqualTo(1500);
+        assertThat(recall(extended, new FlatVectorIndex(DIMENSION, currentVectors), random)).isGreaterThanOrEqualTo(0.9d);
+        assertThat(initial.extend(Arrays.copyOfRange(allChunkIds, 1000, 1100), Arrays.copyOfRange(allVectors, 1000, 1100), 0.3d))
+            .isNull();
+    }
+
+    @Test
+    void shouldOnlyReturnAllowedOrdinalsForNarrowAndWideFilters() {
+        Random random = new Random(17L);
+        UUID[] chunkIds = chunkIds(2000);
+        float[][] vectors = randomVectors(random, chunkIds.length);
+        HnswVectorIndex hnsw = HnswVectorIndex.build(MODEL, DIMENSION, PARAMS, chunkIds, vectors);
+        FlatVectorIndex flat = new FlatVectorIndex(DIMENSION, vectors);
+        BitSet narrow = new BitSet();
+        BitSet wide = new BitSet();
+        for (int ordinal = 0; ordinal < chunkIds.length; ordinal++) {
+            if (ordinal % 50 == 0) {
+                narrow.set(ordinal);
+            }
+            if (ordinal % 4 != 0) {
+                wide.set(ordinal);
+            }
+        }
+
+        assertThat(recall(hnsw, flat, random, narrow)).isEqualTo(1.0d);
+        assertThat(recall(hnsw, flat, random, wide)).isGreaterThanOrEqualTo(0.9d);
+        assertThat(IntStream.of(ordinals(hnsw.search(randomVectors(random, 1)[0], TOP_K, -1.0f, wide))).boxed().toList())
+            .allSatisfy(ordinal -> assertThat(wide.get(ordinal)).isTrue());
+        assertThat(hnsw.search(randomVectors(random, 1)[0], TOP_K, -1.0f, new BitSet()).size()).isZero();
+    }
+
+    @Test
+    void shouldNotBeCompatibleWithAnotherEmbeddingModelOfTheSameDimension() {
+        Random random = new Random(19L);
+        UUID[] chunkIds = chunkIds(100);
+        HnswVectorIndex hnsw = HnswVectorIndex.build(MODEL, DIMENSION, PARAMS, chunkIds, randomVectors(random, chunkIds.length));
+
+        assertThat(hnsw.compatibleWith(MODEL, DIMENSION, PARAMS)).isTrue();
+        assertThat(hnsw.extend(chunkIds, randomVectors(random, chunkIds.length), 0.3d).compatibleWith(MODEL, DIMENSION, PARAMS))
+            .isTrue();
+        assertThat(hnsw.compatibleWith("other-embedding-v2", DIMENSION, PARAMS)).isFalse();
+        assertThat(hnsw.compatibleWith(MODEL, DIMENSION + 1, PARAMS)).isFalse();
+    }
+
+    private double recall(VectorIndex candidate, VectorIndex exact, Random random) {
+        return recall(candidate, exact, random, null);
+    }
+
+    private double recall(VectorIndex candidate, VectorIndex exact, Random random, BitSet allowedOrdinals) {
+        int found = 0;
+        int expected = 0;
+        for (int query = 0; query < 50; query++) {
+            float[] vector = randomVectors(random, 1)[0];
+            int[] approximate = ordinals(candidate.search(vector, TOP_K, -1.0f, allowedOrdinals));
+            int[] truth = ordinals(exact.search(vector, TOP_K, -1.0f, allowedOrdinals));
+            for (int ordinal : truth) {
+                if (Arrays.stream(approximate).anyMatch(value -> value == ordinal)) {
+                    found++;
+                }
+            }
+            expected += truth.length;
+        }
+        return (double) found / (double) expected;
+    }
+
+    private int[] ordinals(TopKHeap heap) {
+        return heap.drain().ordinals();
+    }
+
+    private UUID[] chunkIds(int count) {
+        UUID[] chunkIds = new UUID[count];
+        for (int i = 0; i < count; i++) {
+            chunkIds[i] = new UUID(0x1000L, i);
+        }
+        return chunkIds;
+    }
+
+    private float[][] randomVectors(Random random, int count) {
+        float[][] vectors = new float[count][DIMENSION];
+        for (float[] vector : vectors) {
+            for (int i = 0; i < DIMENSION; i++) {
+                vector[i] = (float) random.nextGaussian();
+            }
+        }
+        return vectors;
+    }
+}
@@ -0,0 +1,164 @@
+package com.aichatbot.rag.application.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.aichatbot.global.config.AppProperties;
+import com.aichatbot.global.privacy.PiiMaskingService;
+import com.aichatbot.llm.application.HashingEmbeddingClient;
+import com.aichatbot.rag.application.ChunkContextHeaderBuilder;
+import com.aichatbot.rag.application.ChunkEnricher;
+import com.aichatbot.rag.application.ExtractiveChunkSummarizer;
+import com.aichatbot.rag.infrastructure.ChunkSearchRow;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class KbIndexSnapshotStoreTest {
+
+    private static final UUID TENANT_ID = UUID.fromString("30000000-0000-0000-0000-000000000001");
+
+    @TempDir
+    Path snapshotDir;
+
+    private final AppProperties appProperties = new AppProperties();
+    private final PiiMaskingService piiMaskingService = new PiiMaskingService();
+    private final HashingEmbeddingClient embeddingClient = new HashingEmbeddingClient(appProperties);
+    private TenantKbIndexBuilder builder;
+    private KbIndexSnapshotStore store;
+
+    @BeforeEach
+    void setUp() {
+        appProperties.getRag().setIndexSnapshotDir(snapshotDir.toString());
+        builder = new TenantKbIndexBuilder(
+            new ChunkEnricher(
+                new ChunkContextHeaderBuilder(),
+                new ExtractiveChunkSummarizer(piiMaskingService),
+                piiMaskingService
+            ),
+            new WordTokenizer(),
+            new TermDictionary(appProperties),
+            piiMaskingService,
+            embeddingClient,
+            appProperties
+        );
+        store = new KbIndexSnapshotStore(new TermDictionary(appProperties), embeddingClient, appProperties);
+    }
+
+    @Test
+    void shouldRoundTripFlatIndexThroughSnapshot() {
+        TenantKbIndex built = builder.build(rows(3), "7:stamp");
+
+        store.save(TENANT_ID, built);
+        TenantKbIndex loaded = store.load(TENANT_ID);
+
+        assertThat(store.storedTenants()).containsExactly(TENANT_ID);
+        assertThat(loaded).isNotNull();
+        assertThat(loaded.versionStamp()).isEqualTo("7:stamp");
+        assertThat(loaded.size()).isEqualTo(3);
+        assertThat(loaded.vectors()).isInstanceOf(FlatVectorIndex.class);
+        assertSameContent(built, loaded);
+    }
+
+    @Test
+    void shouldRoundTripHnswGraphAndExtendItAfterLoad() {
+        appProperties.getRag().setHnswThreshold(10);
+        List<ChunkSearchRow> rows = rows(60);
+        TenantKbIndex built = builder.build(rows, "8:stamp");
+
+        store.save(TENANT_ID, built);
+        TenantKbIndex loaded = store.load(TENANT_ID);
+
+        assertThat(loaded.vectors()).isInstanceOf(HnswVectorIndex.class);
+        assertSameContent(built, loaded);
+        List<ChunkSearchRow> grown = new ArrayList<>(rows);
+        grown.add(row(60, "42000000-0000-0000-0000-000000000002"));
+        TenantKbIndex extended = builder.build(grown, "9:stamp", loaded);
+        assertThat(((HnswVectorIndex) extended.vectors()).nodeCount()).isEqualTo(61);
+        assertThat(extended.terms(0)).isSameAs(loaded.terms(0));
+    }
+
+    @Test
+    void shouldRejectSnapshotFromAnotherTokenizer() {
+        store.save(TENANT_ID, builder.build(rows(2), "7:stamp"));
+
+        appProperties.getRag().setTokenizer("word");
+
+        assertThat(store.load(TENANT_ID)).isNull();
+        assertThat(store.storedTenants()).isEmpty();
+    }
+
+    @Test
+    void shouldRejectCorruptedSnapshot() throws IOException {
+        store.save(TENANT_ID, builder.build(rows(2), "7:stamp"));
+        Path file = snapshotDir.resolve(TENANT_ID + ".kbidx");
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length / 2] ^= 0x5A;
+        Files.write(file, bytes);
+
+        assertThat(store.load(TENANT_ID)).isNull();
+    }
+
+    @Test
+    void shouldSkipSnapshotsWhenDisabled() {
+        appProperties.getRag().setIndexSnapshotEnabled(false);
+
+        store.save(TENANT_ID, builder.build(rows(2), "7:stamp"));
+
+        assertThat(Files.exists(snapshotDir.resolve(TENANT_ID + ".kbidx"))).isFalse();
+        assertThat(store.load(TENANT_ID)).isNull();
+    }
+
+    private void assertSameContent(TenantKbIndex expected, TenantKbIndex actual) {
+        float[] query = embeddingClient.embed("refund delivery 3");
+        for (int ordinal = 0; ordinal < expected.size(); ordinal++) {
+            assertThat(actual.row(ordinal)).isEqualTo(expected.row(ordinal));
+            assertThat(actual.chunkId(ordinal)).isEqualTo(expected.chunkId(ordinal));
+            assertThat(actual.excerptMasked(ordinal)).isEqualTo(expected.excerptMasked(ordinal));
+            assertThat(actual.terms(ordinal)).containsExactly(expected.terms(ordinal));
+        }
+        assertThat(actual.postings("refund").ordinals()).containsExactly(expected.postings("refund").ordinals());
+        assertThat(actual.postings("refund").termFrequencies()).containsExactly(expected.postings("refund").termFrequencies());
+        assertThat(actual.averageFieldLength()).isEqualTo(expected.averageFieldLength());
+        assertThat(actual.vectors().search(query, 5, 0.0f).drain().ordinals())
+            .containsExactly(expected.vectors().search(query, 5, 0.0f).drain().ordinals());
+    }
+
+    private List<ChunkSearchRow> rows(int count) {
+        List<ChunkSearchRow> rows = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            rows.add(row(i));
+        }
+        return rows;
+    }
+
+    private ChunkSearchRow row(int index) {
+        return row(index, "42000000-0000-0000-0000-000000000001");
+    }
+
+    private ChunkSearchRow row(int index, String documentVersionId) {
+        return new ChunkSearchRow(
+            new UUID(0x1000000000000000L, index + 1L).toString(),
+            "41000000-0000-0000-0000-000000000001",
+            documentVersionId,
+            1,
+            index + 1,
+            "refund_and_delivery_policy",
+            "policy",
+            index % 2 == 0 ? "CS" : "Billing",
+            "2026-01-01",
+            "ops-team",
+            null,
+            null,
+            "refund rule " + index + " applies when delivery is delayed by " + (index % 7) + " days.",
+            "refund delivery rule " + index,
+            FlatVectorIndex.serialize(embeddingClient.embed("refund delivery rule " + index)),
+            embeddingClient.modelName()
+        );
+    }
+}
@@ -0,0 +1,181 @@
+package com.aichatbot.rag.application.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.aichatbot.global.config.AppProperties;
+import com.aichatbot.global.privacy.PiiMaskingService;
+import com.aichatbot.llm.application.HashingEmbeddingClient;
+import com.aichatbot.rag.application.ChunkContextHeaderBuilder;
+import com.aichatbot.rag.application.ChunkEnricher;
+import com.aichatbot.rag.application.ExtractiveChunkSummarizer;
+import com.aichatbot.rag.infrastructure.ChunkSearchRow;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class TenantKbIndexBuilderTest {
+
+    private final PiiMaskingService piiMaskingService = new PiiMaskingService();
+    private final HashingEmbeddingClient embeddingClient = new HashingEmbeddingClient(new AppProperties());
+    private final TenantKbIndexBuilder builder = new TenantKbIndexBuilder(
+        new ChunkEnricher(
+            new ChunkContextHeaderBuilder(),
+            new ExtractiveChunkSummarizer(piiMaskingService),
+            piiMaskingService
+        ),
+        new WordTokenizer(),
+        new TermDictionary(new AppProperties()),
+        piiMaskingService,
+        embeddingClient,
+        new AppProperties()
+    );
+
+    @Test
+    void shouldAssignOrdinalsInChunkIdOrderAndBuildPostings() {
+        UUID first = UUID.fromString("10000000-0000-0000-0000-000000000001");
+        UUID second = UUID.fromString("10000000-0000-0000-0000-000000000002");
+
+        TenantKbIndex index = builder.build(List.of(
+            row(second, "delivery delay compensation", "delivery delay compensation by duration."),
+            row(first, "refund approval processing", "refund is processed in 3-5 business days.")
+        ), "1:stamp");
+
+        assertThat(index.versionStamp()).isEqualTo("1:stamp");
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.chunkId(0)).isEqualTo(first);
+        assertThat(index.ordinalOf(second)).isEqualTo(1);
+        assertThat(index.ordinalOf(UUID.randomUUID())).isEqualTo(-1);
+        assertThat(index.postings("processed").ordinals()).containsExactly(0);
+        assertThat(index.postings("policy").ordinals()).containsExactly(0, 1);
+        assertThat(index.postings("delivery").termFrequencies()).containsExactly(2, 3);
+        assertThat(index.postings("zzzzzz").documentFrequency()).isZero();
+        assertThat(index.fieldLength(0)).isEqualTo(31);
+        assertThat(index.vectors().size()).isEqualTo(2);
+        assertThat(index.excerptMasked(0)).contains("refund");
+        assertThat(index.row(0).chunkText()).isNull();
+        assertThat(index.row(0).title()).isEqualTo("refund_and_delivery_policy");
+    }
+
+    @Test
+    void shouldOrderOrdinalsByChunkIdStringRatherThanSignedUuidOrder() {
+        UUID low = UUID.fromString("10000000-0000-0000-0000-000000000001");
+        UUID high = UUID.fromString("f0000000-0000-0000-0000-000000000001");
+
+        TenantKbIndex index = builder.build(List.of(
+            row(high, "delivery delay compensation", "delivery delay compensation by duration."),
+            row(low, "refund approval processing", "refund is processed in 3-5 business days.")
+        ), "1:stamp");
+
+        assertThat(high.compareTo(low)).isNegative();
+        assertThat(index.chunkId(0)).isEqualTo(low);
+        assertThat(index.chunkId(1)).isEqualTo(high);
+    }
+
+    @Test
+    void shouldLeaveRowsWithoutCurrentModelVectorOutOfDenseLeg() {
+        UUID current = UUID.fromString("10000000-0000-0000-0000-000000000001");
+        UUID legacy = UUID.fromString("10000000-0000-0000-0000-000000000002");
+
+        TenantKbIndex index = builder.build(List.of(
+            row(current, "refund approval processing", "refund is processed in 3-5 business days."),
+            row(legacy, "delivery delay compensation", "delivery delay compensation by duration.", "0.1,0.2,0.3", "demo-embedding-v1")
+        ), "1:stamp");
+
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.vectors().search(embeddingClient.embed("delivery delay compensation"), 5, -1.0f).drain().ordinals())
+            .containsExactly(0);
+        assertThat(index.postings("compensation").ordinals()).containsExactly(1);
+    }
+
+    @Test
+    void shouldReuseCachedTermsForUnchangedChunks() {
+        UUID first = UUID.fromString("10000000-0000-0000-0000-000000000001");
+        UUID second = UUID.fromString("10000000-0000-0000-0000-000000000002");
+        List<ChunkSearchRow> rows = List.of(
+            row(first, "refund approval processing", "refund is processed in 3-5 business days."),
+            row(second, "delivery delay compensation", "delivery delay compensation by duration.")
+        );
+        TenantKbIndex previous = builder.build(rows, "1:stamp");
+
+        TenantKbIndex next = builder.build(rows, "2:stamp", previous);
+
+        assertThat(next.terms(0)).isSameAs(previous.terms(0));
+        assertThat(next.terms(1)).isSameAs(previous.terms(1));
+        assertThat(next.postings("processed").ordinals()).containsExactly(0);
+        assertThat(next.fieldLength(1)).isEqualTo(next.terms(1).length);
+    }
+
+    @Test
+    void shouldResolveAttributeFiltersToOrdinalBitsets() {
+        TenantKbIndex index = builder.build(List.of(
+            row(UUID.fromString("10000000-0000-0000-0000-000000000001"), "CS", "policy", "2026-01-01"),
+            row(UUID.fromString("10000000-0000-0000-0000-000000000002"), "Billing", "faq", "2026-03-15"),
+            row(UUID.fromString("10000000-0000-0000-0000-000000000003"), "cs", "faq", null)
+        ), "3:stamp");
+
+        assertThat(index.allowedOrdinals(RetrievalFilter.none())).isNull();
+        assertThat(index.allowedOrdinals(RetrievalFilter.from(Map.of("category", "cs"))).stream().toArray())
+            .containsExactly(0, 2);
+        assertThat(index.allowedOrdinals(RetrievalFilter.from(Map.of("category", "CS,billing", "source_type", "faq"))).stream().toArray())
+            .containsExactly(1, 2);
+        assertThat(index.allowedOrdinals(RetrievalFilter.from(Map.of("effective_date_from", "2026-02-01"))).stream().toArray())
+            .containsExactly(1);
+        assertThat(index.allowedOrdinals(RetrievalFilter.from(Map.of("owner", "nobody"))).isEmpty()).isTrue();
+        assertThatThrownBy(() -> RetrievalFilter.from(Map.of("effective_date_to", "yesterday")))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private ChunkSearchRow row(UUID chunkId, String category, String sourceType, String effectiveDate) {
+        return new ChunkSearchRow(
+            chunkId.toString(),
+            "41000000-0000-0000-0000-000000000001",
+            "42000000-0000-0000-0000-000000000001",
+            1,
+            1,
+            "refund_and_delivery_policy",
+            sourceType,
+            category,
+            effectiveDate,
+            "ops-team",
+            null,
+            null,
+            "refund is processed in 3-5 business days.",
+            "refund approval processing",
+            null,
+            null
+        );
+    }
+
+    private ChunkSearchRow row(UUID chunkId, String embeddingInput, String chunkText) {
+        return row(
+            chunkId,
+            embeddingInput,
+            chunkText,
+            FlatVectorIndex.serialize(embeddingClient.embed(embeddingInput)),
+            embeddingClient.modelName()
+        );
+    }
+
+    private ChunkSearchRow row(UUID chunkId, String embeddingInput, String chunkText, String vector, String model) {
+        return new ChunkSearchRow(
+            chunkId.toString(),
+            "41000000-0000-0000-0000-000000000001",
+            "42000000-0000-0000-0000-000000000001",
+            1,
+            1,
+            "refund_and_delivery_policy",
+            "policy",
+            "CS",
+            "2026-01-01",
+            "ops-team",
+            null,
+            null,
+            chunkText,
+            embeddingInput,
+            vector,
+            model
+        );
+    }
+}
@@ -0,0 +1,23 @@
+package com.aichatbot.rag.application.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class WordTokenizerTest {
+
+    private final WordTokenizer tokenizer = new WordTokenizer();
+
+    @Test
+    void shouldLowercaseAndSplitOnNonTermCharacters() {
+        assertThat(tokenizer.tokenize("Refund_Policy, please!")).containsExactly("refund", "policy", "please");
+        assertThat(tokenizer.tokenize("환불 정책은?\t3-5일")).containsExactly("환불", "정책은", "3", "5일");
+    }
+
+    @Test
+    void shouldReturnEmptyForBlankInput() {
+        assertThat(tokenizer.tokenize("  ")).isEmpty();
+        assertThat(tokenizer.tokenize("")).isEmpty();
+        assertThat(tokenizer.tokenize(null)).isEmpty();
+    }
+}